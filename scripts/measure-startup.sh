@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+# 시작 시간/메모리 측정: 기본 실행(fat jar)과 빠른 시작 실행(prod 프로필 + AOT + CDS)을 비교합니다.
+# - 준비: ./gradlew bootJar cdsArchive
+# - 실행: scripts/measure-startup.sh [반복 횟수, 기본 5]
+# - 측정값 (모드별 중앙값)
+#   ready_ms: 프로세스 시작부터 /actuator/health/readiness가 200이 될 때까지 (예열 시간 포함)
+#   first_ms: 준비 직후 첫 문서 조회(GET /api/v1/document/{id}) 응답 시간
+#   rss_mb: 첫 조회 이후 프로세스 RSS
+# - 기본 DB는 매번 비는 메모리 H2이므로 예열할 문서가 없습니다. 예열 효과까지 보려면 문서가 들어 있는 DB를 지정합니다.
+#   예: DATASOURCE_URL='jdbc:h2:file:/tmp/flyff-wiki' SAMPLE_ID=42 scripts/measure-startup.sh
+#   (SAMPLE_ID를 지정하지 않으면 측정마다 문서 하나를 만든 뒤 그 문서를 읽습니다.)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAR=flyff-wiki-0.0.1-SNAPSHOT.jar
+JAVA=${JAVA:-java}
+
+if [[ ! -f build/libs/$JAR || ! -f build/cds/application.jsa ]]; then
+	echo "build/libs/$JAR or build/cds/application.jsa is missing: run ./gradlew bootJar cdsArchive first" >&2
+	exit 1
+fi
+
+now_ms() {
+	date +%s%3N
+}
+
+median() {
+	sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+# 인자: 작업 디렉터리, JVM 옵션...
+measure() {
+	local dir=$1
+	shift
+	local common=(--server.port="$PORT" --management.endpoint.health.probes.enabled=true)
+	if [[ -n ${DATASOURCE_URL:-} ]]; then
+		common+=(--spring.datasource.url="$DATASOURCE_URL")
+	fi
+	local start
+	start=$(now_ms)
+	(cd "$dir" && exec "$JAVA" "$@" -jar "$JAR" "${common[@]}" >/dev/null 2>&1) &
+	local pid=$!
+	until curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null; do
+		if ! kill -0 "$pid" 2>/dev/null; then
+			echo "application exited before becoming ready" >&2
+			exit 1
+		fi
+		sleep 0.02
+	done
+	local ready=$(($(now_ms) - start))
+
+	local id=${SAMPLE_ID:-}
+	if [[ -z $id ]]; then
+		id=$(curl -sf "http://localhost:$PORT/api/v1/document" -H 'Content-Type: application/json' \
+			-d "{\"title\":\"Startup $start\",\"content\":\"본문\",\"contentFormat\":\"MARKDOWN\"}" \
+			| grep -o '"id":[0-9]*' | head -1 | cut -d: -f2)
+	fi
+	local first
+	first=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT/api/v1/document/$id" \
+		| awk '{ printf "%d", $1 * 1000 }')
+	local rss
+	rss=$(ps -o rss= -p "$pid" | awk '{ printf "%d", $1 / 1024 }')
+
+	kill "$pid"
+	wait "$pid" 2>/dev/null || true
+	echo "$ready $first $rss"
+}
+
+report() {
+	local mode=$1
+	shift
+	local results=()
+	for ((i = 0; i < RUNS; i++)); do
+		results+=("$(measure "$@")")
+	done
+	printf '%-14s ready_ms=%6s first_ms=%5s rss_mb=%5s\n' "$mode" \
+		"$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)" \
+		"$(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median)" \
+		"$(printf '%s\n' "${results[@]}" | cut -d' ' -f3 | median)"
+}
+
+echo "runs=$RUNS ($("$JAVA" -version 2>&1 | head -1))"
+report baseline build/libs
+report prod build/cds -Dspring.profiles.active=prod
+report prod+aot+cds build/cds -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+	-Dspring.profiles.active=prod
@@ -0,0 +1,91 @@
+package io.github.flyff_wiki.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.flyff_wiki.diff.DiffEngine;
+import io.github.flyff_wiki.diff.DiffGranularity;
+import io.github.flyff_wiki.diff.RevisionDiffService;
+import io.github.flyff_wiki.dto.DiffChunk;
+import io.github.flyff_wiki.dto.RevisionDiff;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 약 1MB 본문에서 여러 줄을 흩어 고친 두 리비전의 비교 비용을 측정합니다.
+ * - engine: 토큰 분할 + DiffEngine 비교 + 구간 변환 (캐시 없음)
+ * - serviceCached: 인접 리비전 diff API 경로. 첫 호출 이후에는 캐시 적중 비용만 남아야 합니다.
+ * - 한도(max-cost 4096, 500ms)에 걸리지 않는지 truncated를 함께 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiffBenchmark {
+
+    @Param({ "1048576" })
+    public int contentChars;
+
+    @Param({ "10", "200" })
+    public int scatteredEdits;
+
+    @Param({ "LINE", "WORD" })
+    public DiffGranularity granularity;
+
+    private ConfigurableApplicationContext context;
+    private RevisionDiffService revisionDiffService;
+    private Long documentId;
+    private String before;
+    private String after;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        before = WikiContext.content(contentChars);
+        List<String> lines = new ArrayList<>(DiffGranularity.LINE.tokenize(before));
+        Random random = new Random(42);
+        for (int i = 0; i < scatteredEdits; i++) {
+            int line = random.nextInt(lines.size());
+            lines.set(line, "편집된 줄 " + i + " " + lines.get(line));
+        }
+        after = String.join("", lines);
+
+        context = WikiContext.start();
+        DocumentService documentService = context.getBean(DocumentService.class);
+        revisionDiffService = context.getBean(RevisionDiffService.class);
+        documentId = documentService.createDocument(WikiContext.document("Diff Benchmark", before)).getId();
+        documentService.updateDocument(documentId, WikiContext.document("Diff Benchmark", after));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DiffChunk> engine() {
+        List<String> beforeTokens = granularity.tokenize(before);
+        List<String> afterTokens = granularity.tokenize(after);
+        DiffEngine.Result result = DiffEngine.compare(beforeTokens, afterTokens, 4096, 500_000_000L);
+        if (result.truncated()) {
+            throw new IllegalStateException("Diff hit the cost/time limit");
+        }
+        return DiffEngine.chunks(beforeTokens, afterTokens, result, 3);
+    }
+
+    @Benchmark
+    public RevisionDiff serviceCached() {
+        return revisionDiffService.diff(documentId, 0, 1, granularity, 3);
+    }
+}
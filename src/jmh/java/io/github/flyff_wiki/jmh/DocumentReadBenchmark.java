@@ -0,0 +1,79 @@
+package io.github.flyff_wiki.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.HistoryPage;
+import io.github.flyff_wiki.service.DocumentService;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 문서 조회 + JSON 직렬화 경로를 측정합니다 (캐시 미사용, 매번 DB 조회).
+ * - getDocument: 엔티티 조회 후 Document를 직렬화합니다. latestHistory는 직렬화에서 제외되므로
+ *   historyRows가 늘어도 비용이 일정해야 합니다 (회귀 감시 대상).
+ * - getDocumentView: API 응답 경로 (DocumentView 직렬화).
+ * - getHistoryPage: 히스토리 첫 페이지(20건) 조회 + 직렬화.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentReadBenchmark {
+
+    @Param({ "0", "100", "1000" })
+    public int historyRows;
+
+    @Param({ "4096" })
+    public int contentChars;
+
+    private ConfigurableApplicationContext context;
+    private DocumentService documentService;
+    private ObjectMapper objectMapper;
+    private Long documentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = WikiContext.start();
+        documentService = context.getBean(DocumentService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        String content = WikiContext.content(contentChars);
+        documentId = documentService.createDocument(WikiContext.document("Read Benchmark", content)).getId();
+        for (int i = 0; i < historyRows; i++) {
+            documentService.updateDocument(documentId,
+                    WikiContext.document("Read Benchmark", content + "\n편집 " + i + "\n"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] getDocument() {
+        return objectMapper.writeValueAsBytes(documentService.getDocument(documentId));
+    }
+
+    @Benchmark
+    public byte[] getDocumentView() {
+        DocumentView view = documentService.getDocumentView(documentId);
+        return objectMapper.writeValueAsBytes(view);
+    }
+
+    @Benchmark
+    public byte[] getHistoryPage() {
+        HistoryPage page = documentService.getHistory(documentId, null, 20);
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.flyff_wiki.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 문서 생성/수정 경로를 실제 서비스 + H2로 측정합니다.
+ * - update: 히스토리가 historyRows개 쌓인 문서를 수정합니다. 측정 중에도 히스토리가 늘어나므로
+ *   반복(iteration)마다 새 문서를 준비해 시작 조건을 맞춥니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentWriteBenchmark {
+
+    @Param({ "0", "100", "1000" })
+    public int historyRows;
+
+    @Param({ "4096" })
+    public int contentChars;
+
+    private ConfigurableApplicationContext context;
+    private DocumentService documentService;
+    private String content;
+    private Long documentId;
+    private String documentTitle;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = WikiContext.start();
+        documentService = context.getBean(DocumentService.class);
+        content = WikiContext.content(contentChars);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareDocument() {
+        documentTitle = "Write Benchmark " + sequence++;
+        documentId = documentService.createDocument(WikiContext.document(documentTitle, content)).getId();
+        for (int i = 0; i < historyRows; i++) {
+            documentService.updateDocument(documentId, edit(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Document createDocument() {
+        return documentService.createDocument(WikiContext.document("Create Benchmark " + sequence++, content));
+    }
+
+    @Benchmark
+    public Document updateDocument() {
+        return documentService.updateDocument(documentId, edit(sequence++));
+    }
+
+    private Document edit(long revision) {
+        return WikiContext.document(documentTitle, content + "\n편집 " + revision + "\n");
+    }
+}
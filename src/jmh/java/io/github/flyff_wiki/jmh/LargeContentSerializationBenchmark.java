@@ -0,0 +1,67 @@
+package io.github.flyff_wiki.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.repository.DocumentRepository;
+import io.github.flyff_wiki.service.DocumentService;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 큰 LONGTEXT 본문의 엔티티 -> JSON 비용을 측정합니다.
+ * - loadAndSerialize: H2에서 읽기(LONGTEXT 전송 포함) + 직렬화
+ * - serializeOnly: 이미 읽은 엔티티의 직렬화만
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LargeContentSerializationBenchmark {
+
+    @Param({ "65536", "1048576", "8388608" })
+    public int contentChars;
+
+    private ConfigurableApplicationContext context;
+    private DocumentRepository documentRepository;
+    private ObjectMapper objectMapper;
+    private Long documentId;
+    private Document loaded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = WikiContext.start();
+        documentRepository = context.getBean(DocumentRepository.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        Document document = WikiContext.document("Large Content Benchmark", WikiContext.content(contentChars));
+        documentId = context.getBean(DocumentService.class).createDocument(document).getId();
+        loaded = documentRepository.findById(documentId).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] loadAndSerialize() {
+        Document document = documentRepository.findById(documentId).orElseThrow();
+        return objectMapper.writeValueAsBytes(DocumentView.from(document));
+    }
+
+    @Benchmark
+    public byte[] serializeOnly() {
+        return objectMapper.writeValueAsBytes(DocumentView.from(loaded));
+    }
+}
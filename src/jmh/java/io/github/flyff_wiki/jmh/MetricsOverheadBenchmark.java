@@ -0,0 +1,67 @@
+package io.github.flyff_wiki.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 서비스/리포지토리 타이머와 요청 로그 수준이 조회 경로에 더하는 비용을 측정합니다.
+ * - metrics: flyff.metrics.hot-path.enabled (타이머 어드바이스 on/off)
+ * - serviceLogLevel: DocumentService 로거 수준 (DEBUG면 예전 INFO 로그처럼 호출마다 기록됨)
+ * - 문서 캐시를 켜 두어 DB 비용 없이 프록시/타이머/로그 비용이 드러나게 합니다 (cachedView).
+ *   uncachedDocument는 findById 타이머까지 포함한 DB 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean metrics;
+
+    @Param({ "WARN", "DEBUG" })
+    public String serviceLogLevel;
+
+    private ConfigurableApplicationContext context;
+    private DocumentService documentService;
+    private Long documentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = WikiContext.start(
+                "flyff.metrics.hot-path.enabled=" + metrics,
+                "flyff.cache.document.enabled=true",
+                "logging.level.io.github.flyff_wiki.service.DocumentService=" + serviceLogLevel);
+        documentService = context.getBean(DocumentService.class);
+        documentId = documentService.createDocument(
+                WikiContext.document("Metrics Benchmark", WikiContext.content(4096))).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DocumentView cachedView() {
+        return documentService.getDocumentView(documentId);
+    }
+
+    @Benchmark
+    public Object uncachedDocument() {
+        return documentService.getDocument(documentId);
+    }
+}
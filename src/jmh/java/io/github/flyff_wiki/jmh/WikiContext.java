@@ -0,0 +1,58 @@
+package io.github.flyff_wiki.jmh;
+
+import java.util.UUID;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.github.flyff_wiki.FlyffWikiApplication;
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+
+/**
+ * 벤치마크마다 웹 서버 없이 애플리케이션 컨텍스트를 띄우고, 매번 새 H2 메모리 DB를 사용합니다.
+ * - SQL 로그와 INFO 로그를 끄고, 문서 캐시를 꺼서 DB 경로를 측정합니다.
+ */
+final class WikiContext {
+
+    private WikiContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        String[] properties = {
+                "spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN",
+                "flyff.cache.document.enabled=false" };
+        String[] all = new String[properties.length + extraProperties.length];
+        System.arraycopy(properties, 0, all, 0, properties.length);
+        System.arraycopy(extraProperties, 0, all, properties.length, extraProperties.length);
+        return new SpringApplicationBuilder(FlyffWikiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(all)
+                .run();
+    }
+
+    static Document document(String title, String content) {
+        Document document = new Document();
+        document.setTitle(title);
+        document.setContent(content);
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        return document;
+    }
+
+    /**
+     * 대략 sizeChars 길이의 위키 본문(마크다운 + 한글/영문 혼합)을 만듭니다.
+     */
+    static String content(int sizeChars) {
+        String paragraph = "## 드랍 아이템\n| 몬스터 | 확률 |\n|---|---|\n| Aibatt | 3% |\n"
+                + "아이템 설명 item description, level 15 sword of the wind.\n\n";
+        StringBuilder builder = new StringBuilder(sizeChars + paragraph.length());
+        while (builder.length() < sizeChars) {
+            builder.append(paragraph);
+        }
+        return builder.toString();
+    }
+}
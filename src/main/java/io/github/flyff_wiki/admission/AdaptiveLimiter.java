@@ -0,0 +1,188 @@
+package io.github.flyff_wiki.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import io.github.flyff_wiki.dto.AdmissionStats;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 한도를 스스로 조절하는 동시성 제한기입니다 (gradient + AIMD).
+ * - 입장: 처리 중인 요청 수가 한도 이상이면 기다리지 않고 바로 거절합니다 (대기열 없음).
+ *   일괄 조회처럼 무거운 요청은 여러 자리(permits)를 차지할 수 있습니다. 처리 중인 요청이 없으면 한도보다 무거워도 받습니다.
+ * - 측정 구간: 요청이 끝날 때마다 응답 시간을 모으고, minWindowSamples개 이상이면서 minWindow가 지나면 한도를 다시 계산합니다.
+ * - 조절 규칙
+ *   1) 구간 평균 응답 시간(short)과 그 장기 이동 평균(long, 약 LONG_WINDOWS 구간)을 비교해
+ *      gradient = tolerance * long / short (0.5 ~ 1.0)를 구합니다. 응답이 평소보다 tolerance배 넘게 느려지면
+ *      한도를 gradient 비율 쪽으로 줄이고, 평소 수준이면 sqrt(한도)만큼 늘립니다 (덧셈 증가).
+ *   2) 과부하 신호(503 등 drop)가 있던 구간은 한도를 backoffRatio배로 줄입니다 (곱셈 감소).
+ *   3) 처리 중인 요청이 한도의 절반도 안 되는 구간에서는 늘리지 않습니다 (쓰지 않는 한도가 커지는 것을 막음).
+ *   4) 변화는 smoothing 비율로만 반영하고, 결과는 [minLimit, maxLimit]로 자릅니다.
+ * - 동시성: 입장/퇴장은 원자 연산이며, 구간 집계와 한도 계산만 짧게 동기화합니다.
+ */
+public class AdaptiveLimiter {
+
+    static final double TOLERANCE = 1.5;
+    static final double BACKOFF_RATIO = 0.9;
+    static final double SMOOTHING = 0.2;
+    static final int LONG_WINDOWS = 100;
+    static final int MIN_WINDOW_SAMPLES = 10;
+    static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile int limit;
+
+    // 아래는 this로 동기화합니다.
+    private double estimatedLimit;
+    private long windowStart;
+    private int windowSamples;
+    private long windowRttSum;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this(name, initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AdaptiveLimiter(String name, int initialLimit, int minLimit, int maxLimit, LongSupplier clock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits for " + name + ": initial=" + initialLimit + ", min="
+                    + minLimit + ", max=" + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.clock = clock;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.windowStart = clock.getAsLong();
+    }
+
+    /**
+     * 자리가 있으면 처리 중 요청 수를 하나 늘리고 true를 반환합니다. 없으면 거절 수를 세고 false입니다.
+     * - 주의사항: true를 받았으면 반드시 release를 한 번 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * permits만큼 자리가 있으면 차지하고 true를 반환합니다. 없으면 거절 수를 세고 false입니다.
+     * - 주의사항: true를 받았으면 같은 permits로 release를 한 번 호출해야 합니다.
+     */
+    public boolean tryAcquire(int permits) {
+        while (true) {
+            int current = inFlight.get();
+            if (current > 0 && current + permits > limit) {
+                shed.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + permits)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청이 끝났음을 알리고 응답 시간을 한도 계산에 반영합니다.
+     * - 인자: rttNanos (입장부터 끝까지 걸린 시간), overloaded (과부하로 실패했으면 true, 예: 503)
+     */
+    public void release(long rttNanos, boolean overloaded) {
+        release(rttNanos, overloaded, 1);
+    }
+
+    /**
+     * permits만큼 차지했던 요청이 끝났음을 알립니다. 응답 시간은 요청 하나로 반영합니다.
+     */
+    public void release(long rttNanos, boolean overloaded, int permits) {
+        int inFlightBefore = inFlight.getAndAdd(-permits);
+        if (overloaded) {
+            dropped.increment();
+        }
+        synchronized (this) {
+            windowSamples++;
+            windowRttSum += Math.max(0, rttNanos);
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+            windowDropped |= overloaded;
+            long now = clock.getAsLong();
+            if (windowSamples < MIN_WINDOW_SAMPLES || now - windowStart < MIN_WINDOW_NANOS) {
+                return;
+            }
+            adjust((double) windowRttSum / windowSamples);
+            windowStart = now;
+            windowSamples = 0;
+            windowRttSum = 0;
+            windowMaxInFlight = 0;
+            windowDropped = false;
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public AdmissionStats stats() {
+        double shortMillis;
+        double longMillis;
+        synchronized (this) {
+            shortMillis = shortRtt / 1e6;
+            longMillis = longRtt / 1e6;
+        }
+        return new AdmissionStats(name, limit, inFlight.get(), accepted.sum(), shed.sum(), dropped.sum(),
+                shortMillis, longMillis);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getShed() {
+        return shed.sum();
+    }
+
+    /**
+     * 구간 하나가 끝났을 때 한도를 다시 계산합니다. this 동기화 안에서 호출합니다.
+     */
+    private void adjust(double averageRtt) {
+        double rtt = Math.max(1, averageRtt);
+        shortRtt = rtt;
+        if (windowDropped) {
+            estimatedLimit = estimatedLimit * BACKOFF_RATIO;
+        } else {
+            if (longRtt == 0) {
+                longRtt = rtt;
+            } else {
+                longRtt += (rtt - longRtt) / LONG_WINDOWS;
+                // 긴 과부하 뒤 응답이 정상으로 돌아오면 높아진 기준을 빨리 내려 한도가 다시 늘 수 있게 합니다.
+                if (longRtt > rtt * 2) {
+                    longRtt *= 0.95;
+                }
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / rtt));
+            boolean underused = windowMaxInFlight < estimatedLimit / 2;
+            if (gradient < 1.0) {
+                estimatedLimit += (estimatedLimit * gradient - estimatedLimit) * SMOOTHING;
+            } else if (!underused) {
+                estimatedLimit += Math.sqrt(estimatedLimit) * SMOOTHING;
+            }
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.flyff_wiki.admission;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.github.flyff_wiki.dto.AdmissionStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * DocumentController 앞에서 조회/수정 요청의 동시 처리 수를 따로 제한합니다 (입장 제어, load shedding).
+ * - 분류: POST(생성/수정) 등 변경 메서드는 write, 그 외(GET/HEAD)와 일괄 조회(POST documents:batchGet)는 read입니다.
+ *   종류마다 AdaptiveLimiter가 응답 시간을 보고 한도를 조절하므로,
+ *   패치 직후 수정이 몰려 수정 응답이 느려지면 write 한도가 줄어 커넥션/스레드를 조회에 남깁니다.
+ * - 거절: 기다리지 않고 바로 응답합니다. write는 429, read는 503이며 Retry-After(초)에 지터를 더해 재시도가 한꺼번에 몰리지 않게 합니다.
+ * - 대상: /api/v1/document, /api/v1/document/**, /api/v1/documents:batchGet
+ *   (스트리밍 내보내기 /export는 오래 열려 있으므로 제외)
+ * - 가중치: 일괄 조회는 본문을 읽기 전에 입장을 정하므로 Content-Length로 ID 수를 어림하여
+ *   BATCH_BYTES_PER_PERMIT 바이트마다 한 자리씩, 최대 MAX_BATCH_PERMITS 자리를 차지합니다.
+ * - 메트릭: AdmissionMetrics가 limiters()의 한도/처리 중/거절 수를 등록합니다.
+ * - 전환: flyff.admission.enabled 또는 POST /api/v1/admin/admission?enabled=
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private static final String DOCUMENT_PATH = "/api/v1/document";
+    private static final String BATCH_GET_PATH = "/api/v1/documents:batchGet";
+    static final int BATCH_BYTES_PER_PERMIT = 128;
+    static final int MAX_BATCH_PERMITS = 8;
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final AdaptiveLimiter readLimiter;
+    private final AdaptiveLimiter writeLimiter;
+    private final int readRetryAfterSeconds;
+    private final int writeRetryAfterSeconds;
+    private volatile boolean enabled;
+
+    public AdmissionControlFilter(
+            @Value("${flyff.admission.enabled:true}") boolean enabled,
+            @Value("${flyff.admission.read.initial-limit:100}") int readInitialLimit,
+            @Value("${flyff.admission.read.min-limit:20}") int readMinLimit,
+            @Value("${flyff.admission.read.max-limit:1000}") int readMaxLimit,
+            @Value("${flyff.admission.read.retry-after:1}") int readRetryAfterSeconds,
+            @Value("${flyff.admission.write.initial-limit:20}") int writeInitialLimit,
+            @Value("${flyff.admission.write.min-limit:2}") int writeMinLimit,
+            @Value("${flyff.admission.write.max-limit:200}") int writeMaxLimit,
+            @Value("${flyff.admission.write.retry-after:2}") int writeRetryAfterSeconds) {
+        this.enabled = enabled;
+        this.readLimiter = new AdaptiveLimiter("read", readInitialLimit, readMinLimit, readMaxLimit);
+        this.writeLimiter = new AdaptiveLimiter("write", writeInitialLimit, writeMinLimit, writeMaxLimit);
+        this.readRetryAfterSeconds = Math.max(1, readRetryAfterSeconds);
+        this.writeRetryAfterSeconds = Math.max(1, writeRetryAfterSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<AdmissionStats> stats() {
+        return List.of(readLimiter.stats(), writeLimiter.stats());
+    }
+
+    List<AdaptiveLimiter> limiters() {
+        return List.of(readLimiter, writeLimiter);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = path(request);
+        if (path.equals(BATCH_GET_PATH)) {
+            return false;
+        }
+        boolean document = path.equals(DOCUMENT_PATH) || path.startsWith(DOCUMENT_PATH + "/");
+        return !document || path.endsWith("/export");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean batch = path(request).equals(BATCH_GET_PATH);
+        boolean write = !batch && WRITE_METHODS.contains(request.getMethod());
+        AdaptiveLimiter limiter = write ? writeLimiter : readLimiter;
+        int permits = batch ? batchPermits(request) : 1;
+        if (!limiter.tryAcquire(permits)) {
+            reject(request, response, limiter, write);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            chain.doFilter(request, response);
+            overloaded = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, overloaded, permits);
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 일괄 조회 요청이 차지할 자리 수입니다. 본문 길이를 모르면 1입니다.
+     */
+    static int batchPermits(HttpServletRequest request) {
+        long length = request.getContentLengthLong();
+        if (length <= 0) {
+            return 1;
+        }
+        return (int) Math.min(MAX_BATCH_PERMITS, 1 + length / BATCH_BYTES_PER_PERMIT);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, AdaptiveLimiter limiter,
+            boolean write) throws IOException {
+        int retryAfter = write ? writeRetryAfterSeconds : readRetryAfterSeconds;
+        logger.debug("Shedding {} {} ({} limit {} reached)", request.getMethod(), request.getRequestURI(),
+                limiter.getName(), limiter.getLimit());
+        response.setStatus(write ? HttpStatus.TOO_MANY_REQUESTS.value() : HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(retryAfter + ThreadLocalRandom.current().nextInt(retryAfter + 1)));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Too many concurrent " + limiter.getName() + " requests, retry later");
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.flyff_wiki.admission;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 입장 제어 상태를 메트릭으로 내보냅니다. 태그 class=read|write
+ * - flyff.admission.limit: 현재 동시 처리 한도 (응답 시간에 따라 변함)
+ * - flyff.admission.inflight: 처리 중인 요청 수
+ * - flyff.admission.shed: 한도 초과로 바로 거절한 누적 요청 수 (429/503)
+ */
+@Component
+public class AdmissionMetrics {
+
+    public AdmissionMetrics(MeterRegistry meterRegistry, AdmissionControlFilter admissionControlFilter) {
+        for (AdaptiveLimiter limiter : admissionControlFilter.limiters()) {
+            Gauge.builder("flyff.admission.limit", limiter, AdaptiveLimiter::getLimit)
+                    .description("Current adaptive concurrency limit of document requests")
+                    .tag("class", limiter.getName())
+                    .register(meterRegistry);
+            Gauge.builder("flyff.admission.inflight", limiter, AdaptiveLimiter::getInFlight)
+                    .description("Document requests currently admitted")
+                    .tag("class", limiter.getName())
+                    .register(meterRegistry);
+            FunctionCounter.builder("flyff.admission.shed", limiter, AdaptiveLimiter::getShed)
+                    .description("Document requests rejected by admission control")
+                    .tag("class", limiter.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.flyff_wiki.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import io.github.flyff_wiki.cache.DocumentViewCache;
+import io.github.flyff_wiki.datasource.ReplicaLagTracker;
+import io.github.flyff_wiki.datasource.ReplicaRoutingDataSource;
+import io.github.flyff_wiki.dto.BatchGetResponse;
+import io.github.flyff_wiki.dto.DocumentSummary;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.repository.DocumentRepository;
+
+/**
+ * 여러 문서를 한 번에 조회합니다 (비교표/분류 페이지처럼 문서 수십 개가 필요한 화면용).
+ * - 조회: 캐시(DocumentViewCache)에 있는 문서는 그대로 쓰고, 나머지는 IN 쿼리 한 번으로 읽습니다.
+ *   본문을 요청하지 않으면 본문 컬럼을 빼고 읽습니다 (DocumentSummary).
+ * - 합치기: 같은 문서를 읽는 중인 다른 요청이 있으면 그 결과를 기다려 함께 씁니다.
+ *   요청마다 자기가 처음 읽는 문서만 쿼리에 넣으므로, 겹치는 동시 요청이 같은 문서를 두 번 읽지 않습니다.
+ * - 주의사항: 읽은 결과를 캐시에 넣지 않습니다. 일괄 조회 도중 커밋된 수정의 무효화가 먼저 지나가면
+ *   이전 값을 캐시에 남길 수 있기 때문입니다. 캐시 적재는 단건 조회(getDocumentView)가 맡습니다.
+ */
+@Service
+public class DocumentBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentBatchService.class);
+
+    static final int MAX_IDS = 100;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentViewCache documentViewCache;
+
+    @Autowired
+    private ReplicaLagTracker replicaLagTracker;
+
+    private final ConcurrentHashMap<LoadKey, CompletableFuture<DocumentView>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 문서들을 요청 순서대로 조회합니다.
+     * - 인자: ids (문서 ID, 최대 MAX_IDS개), fields (응답 필드 이름, null이면 전체)
+     * - 리턴값: 찾은 문서(요청한 필드만)와 없는 ID 목록
+     * - 동작 흐름: 입력 검증/중복 제거 -> 캐시 확인 -> 다른 요청이 읽는 중인 문서는 대기 목록, 나머지는 직접 읽기
+     *   -> 직접 읽을 문서를 IN 쿼리 한 번으로 조회 -> 대기 목록 결과 합치기 -> 요청 순서로 응답 구성
+     * - 주의사항: ids가 비었거나 MAX_IDS를 넘거나 null을 포함하면 IllegalArgumentException을 던집니다.
+     */
+    public BatchGetResponse batchGet(List<Long> ids, List<String> fields) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        Set<DocumentField> projection = DocumentField.parse(fields);
+        boolean withContent = projection.contains(DocumentField.CONTENT);
+        Set<Long> requested = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("ids must not contain null");
+            }
+            requested.add(id);
+        }
+
+        Map<Long, DocumentView> found = resolve(requested, withContent);
+        List<Map<String, Object>> documents = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            DocumentView document = found.get(id);
+            if (document == null) {
+                missing.add(id);
+            } else {
+                documents.add(DocumentField.project(document, projection));
+            }
+        }
+        logger.debug("Batch get of {} documents: {} found, {} missing", requested.size(), documents.size(),
+                missing.size());
+        return new BatchGetResponse(documents, missing);
+    }
+
+    private Map<Long, DocumentView> resolve(Set<Long> ids, boolean withContent) {
+        Map<Long, DocumentView> found = new HashMap<>();
+        Map<Long, CompletableFuture<DocumentView>> owned = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<DocumentView>> waiting = new HashMap<>();
+        for (Long id : ids) {
+            DocumentView cached = documentViewCache.peek(id);
+            if (cached != null) {
+                found.put(id, cached);
+                continue;
+            }
+            // 본문까지 읽는 중인 요청은 본문이 필요 없는 요청도 함께 쓸 수 있습니다.
+            CompletableFuture<DocumentView> pending = withContent ? null : inFlight.get(new LoadKey(id, true));
+            if (pending == null) {
+                CompletableFuture<DocumentView> load = new CompletableFuture<>();
+                pending = inFlight.putIfAbsent(new LoadKey(id, withContent), load);
+                if (pending == null) {
+                    owned.put(id, load);
+                    continue;
+                }
+            }
+            waiting.put(id, pending);
+        }
+
+        if (!owned.isEmpty()) {
+            try {
+                Map<Long, DocumentView> loaded = load(owned.keySet(), withContent);
+                owned.forEach((id, load) -> load.complete(loaded.get(id)));
+                found.putAll(loaded);
+            } catch (RuntimeException e) {
+                owned.values().forEach(load -> load.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach((id, load) -> inFlight.remove(new LoadKey(id, withContent), load));
+            }
+        }
+
+        for (Map.Entry<Long, CompletableFuture<DocumentView>> entry : waiting.entrySet()) {
+            DocumentView document;
+            try {
+                document = entry.getValue().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            if (document != null) {
+                found.put(entry.getKey(), document);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 문서들을 IN 쿼리 한 번으로 읽습니다. 방금 수정된 문서가 하나라도 있으면 원본 DB에서 읽습니다.
+     */
+    private Map<Long, DocumentView> load(Collection<Long> ids, boolean withContent) {
+        Supplier<List<DocumentView>> query = withContent
+                ? () -> documentRepository.findViews(ids)
+                : () -> documentRepository.findSummaries(ids).stream().map(DocumentSummary::toView).toList();
+        boolean primary = ids.stream().anyMatch(replicaLagTracker::recentlyWritten);
+        List<DocumentView> rows = primary ? ReplicaRoutingDataSource.onPrimary(query) : query.get();
+        Map<Long, DocumentView> loaded = new HashMap<>(rows.size() * 2);
+        for (DocumentView row : rows) {
+            loaded.put(row.id(), row);
+        }
+        return loaded;
+    }
+
+    /**
+     * 읽는 중인 문서의 키입니다. 본문 포함 여부가 다르면 다른 쿼리이므로 따로 구분합니다.
+     */
+    private record LoadKey(long id, boolean withContent) {
+    }
+}
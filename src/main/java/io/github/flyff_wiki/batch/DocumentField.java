@@ -0,0 +1,75 @@
+package io.github.flyff_wiki.batch;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.github.flyff_wiki.dto.DocumentView;
+
+/**
+ * 일괄 조회에서 고를 수 있는 문서 필드입니다. 이름은 DocumentView의 JSON 필드명과 같습니다.
+ */
+public enum DocumentField {
+
+    ID("id", DocumentView::id),
+    TITLE("title", DocumentView::title),
+    SLUG("slug", DocumentView::slug),
+    CONTENT("content", DocumentView::content),
+    CONTENT_FORMAT("contentFormat", DocumentView::contentFormat),
+    CONTENT_HASH("contentHash", DocumentView::contentHash),
+    REVISION_COUNT("revisionCount", DocumentView::revisionCount),
+    VERSION("version", DocumentView::version),
+    CREATED_AT("createdAt", DocumentView::createdAt),
+    UPDATED_AT("updatedAt", DocumentView::updatedAt);
+
+    private final String jsonName;
+    private final Function<DocumentView, Object> accessor;
+
+    DocumentField(String jsonName, Function<DocumentView, Object> accessor) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * 요청한 필드 이름을 필드 집합으로 바꿉니다. id는 항상 포함됩니다.
+     * - 인자: names (필드 이름 목록, null이거나 비어 있으면 전체 필드)
+     * - 주의사항: 모르는 이름이면 IllegalArgumentException을 던집니다.
+     */
+    public static Set<DocumentField> parse(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(DocumentField.class);
+        }
+        Set<DocumentField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            fields.add(byName(name));
+        }
+        return fields;
+    }
+
+    /**
+     * 문서에서 고른 필드만 필드 선언 순서대로 담은 맵을 만듭니다.
+     */
+    public static Map<String, Object> project(DocumentView document, Set<DocumentField> fields) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (DocumentField field : fields) {
+            projected.put(field.jsonName, field.accessor.apply(document));
+        }
+        return projected;
+    }
+
+    private static DocumentField byName(String name) {
+        for (DocumentField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown document field: " + name);
+    }
+}
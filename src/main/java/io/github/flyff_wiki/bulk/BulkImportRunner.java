@@ -0,0 +1,43 @@
+package io.github.flyff_wiki.bulk;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.github.flyff_wiki.dto.ImportResult;
+
+/**
+ * 시작 인자로 지정한 NDJSON 파일을 가져오는 CLI 진입점입니다.
+ * - 사용 예시: java -jar flyff-wiki.jar --flyff.import.file=items.ndjson --spring.main.web-application-type=none
+ *   (웹 서버 없이 실행하면 가져오기가 끝난 뒤 프로세스가 종료됩니다.)
+ */
+@Component
+@ConditionalOnProperty("flyff.import.file")
+public class BulkImportRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportRunner.class);
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Value("${flyff.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        logger.info("Importing documents from {}", file);
+        try (InputStream input = Files.newInputStream(file)) {
+            ImportResult result = bulkImportService.importNdjson(input);
+            logger.info("Import finished: {}", result);
+        }
+    }
+}
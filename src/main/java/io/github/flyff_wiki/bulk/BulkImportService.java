@@ -0,0 +1,106 @@
+package io.github.flyff_wiki.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.ImportResult;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import io.github.flyff_wiki.service.DocumentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON(한 줄에 문서 JSON 하나) 스트림을 읽어 문서를 일괄 생성합니다.
+ * - 입력은 한 건씩 파싱하므로 파일 전체를 메모리에 올리지 않습니다.
+ * - batchSize건마다 한 트랜잭션에서 persist -> flush -> clear 하여 JDBC 배치 INSERT로 보냅니다.
+ *   (hibernate.jdbc.batch_size와 Document의 시퀀스 ID 전략이 함께 있어야 실제로 배치됩니다.)
+ * - 커밋된 배치의 문서마다 DocumentChangedEvent를 발행하여 검색 색인/캐시/렌더링이 단건 생성과 같게 갱신됩니다.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${flyff.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * NDJSON 스트림의 문서를 모두 가져옵니다.
+     * - 인자: input (NDJSON 바이트 스트림, 호출자가 닫음)
+     * - 리턴값: 가져온 건수, 배치 수, 소요 시간, 초당 처리 건수
+     * - 주의사항: 중간 배치에서 실패하면 이미 커밋된 이전 배치는 유지되고 예외가 전파됩니다.
+     *   제목(슬러그)이 기존 문서나 같은 입력의 다른 문서와 겹치면 그 배치는 유니크 인덱스 위반으로 실패합니다.
+     */
+    public ImportResult importNdjson(InputStream input) throws IOException {
+        long start = System.nanoTime();
+        int imported = 0;
+        int batches = 0;
+        List<Document> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<Document> documents = objectMapper.readerFor(Document.class).readValues(input)) {
+            while (documents.hasNext()) {
+                Document document = documents.next();
+                documentService.initializeNewDocument(document);
+                batch.add(document);
+                if (batch.size() == batchSize) {
+                    imported += persistBatch(batch);
+                    batches++;
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += persistBatch(batch);
+            batches++;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        double rowsPerSecond = imported / Math.max(elapsedNanos / 1e9, 1e-9);
+        logger.info("Imported {} documents in {} batches ({} ms, {} rows/s)",
+                imported, batches, elapsedNanos / 1_000_000, Math.round(rowsPerSecond));
+        return new ImportResult(imported, batches, elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    private int persistBatch(List<Document> batch) {
+        List<DocumentView> views = transactionTemplate.execute(status -> {
+            for (Document document : batch) {
+                entityManager.persist(document);
+            }
+            entityManager.flush();
+            List<DocumentView> persisted = batch.stream().map(DocumentView::from).toList();
+            entityManager.clear();
+            return persisted;
+        });
+        for (DocumentView view : views) {
+            eventPublisher.publishEvent(new DocumentChangedEvent(view, true));
+        }
+        return views.size();
+    }
+}
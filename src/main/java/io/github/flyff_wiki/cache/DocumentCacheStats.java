@@ -0,0 +1,15 @@
+package io.github.flyff_wiki.cache;
+
+/**
+ * 문서 조회 캐시의 누적 통계입니다.
+ * - weightedSize: 현재 캐시에 올라간 가중치 합 (본문 + 제목 글자 수)
+ */
+public record DocumentCacheStats(
+        boolean enabled,
+        long hits,
+        long misses,
+        long evictions,
+        long evictionWeight,
+        long size,
+        long weightedSize) {
+}
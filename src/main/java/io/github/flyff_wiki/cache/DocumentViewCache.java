@@ -0,0 +1,108 @@
+package io.github.flyff_wiki.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+
+/**
+ * 문서 ID -> DocumentView 읽기 캐시입니다 (read-through).
+ * - 가중치: 본문 + 제목 글자 수. maxWeight를 넘으면 W-TinyLFU 정책으로 축출합니다.
+ * - 만료: 적재 후 ttl이 지나면 다시 로딩합니다.
+ * - 무효화: 문서 변경 이벤트를 트랜잭션 커밋 이후에 받아 해당 항목을 제거합니다.
+ */
+@Component
+public class DocumentViewCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentViewCache.class);
+
+    private final Cache<Long, DocumentView> cache;
+    private volatile boolean enabled;
+
+    public DocumentViewCache(
+            @Value("${flyff.cache.document.enabled:true}") boolean enabled,
+            @Value("${flyff.cache.document.max-weight:67108864}") long maxWeight,
+            @Value("${flyff.cache.document.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long id, DocumentView view) -> weigh(view))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에서 문서를 찾고, 없으면 loader로 적재합니다.
+     * - 인자: id (문서 ID), loader (캐시 미스 시 DB에서 DocumentView를 만드는 함수)
+     * - 리턴값: 캐시되었거나 새로 적재된 DocumentView
+     * - 주의사항: 같은 ID에 대한 동시 미스는 한 번만 loader를 실행합니다. loader 예외는 그대로 전파됩니다.
+     */
+    public DocumentView get(Long id, Function<Long, DocumentView> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    /**
+     * 적재를 유발하지 않고 캐시된 항목만 조회합니다. 없으면 null입니다.
+     */
+    public DocumentView peek(Long id) {
+        return enabled ? cache.getIfPresent(id) : null;
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * 문서 변경이 커밋된 뒤 캐시 항목을 제거합니다.
+     * - 주의사항: 커밋 전에 제거하면 동시 조회가 커밋 전 값을 다시 적재할 수 있으므로 AFTER_COMMIT에서 처리합니다.
+     *   트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다 (fallbackExecution).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        logger.debug("Invalidating cached document ID: {}", event.documentId());
+        cache.invalidate(event.documentId());
+    }
+
+    /**
+     * 캐시 사용 여부를 런타임에 전환합니다. 끌 때는 오래된 항목이 남지 않도록 비웁니다.
+     */
+    public void setEnabled(boolean enabled) {
+        if (!enabled) {
+            cache.invalidateAll();
+        }
+        this.enabled = enabled;
+    }
+
+    public DocumentCacheStats stats() {
+        CacheStats stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new DocumentCacheStats(enabled, stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                stats.evictionWeight(), cache.estimatedSize(), weightedSize);
+    }
+
+    private static int weigh(DocumentView view) {
+        long weight = (long) lengthOf(view.content()) + lengthOf(view.title());
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, weight));
+    }
+
+    private static int lengthOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
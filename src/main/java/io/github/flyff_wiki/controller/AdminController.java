@@ -0,0 +1,139 @@
+package io.github.flyff_wiki.controller;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.flyff_wiki.admission.AdmissionControlFilter;
+import io.github.flyff_wiki.cache.DocumentCacheStats;
+import io.github.flyff_wiki.cache.DocumentViewCache;
+import io.github.flyff_wiki.datasource.ConnectionBudgetDataSource;
+import io.github.flyff_wiki.datasource.ConnectionBudgetStats;
+import io.github.flyff_wiki.datasource.DataSourcePools;
+import io.github.flyff_wiki.datasource.PoolStats;
+import io.github.flyff_wiki.dto.AdmissionStats;
+import io.github.flyff_wiki.dto.LinkRebuildResult;
+import io.github.flyff_wiki.dto.RenderJobResult;
+import io.github.flyff_wiki.links.LinkService;
+import io.github.flyff_wiki.profiling.SqlProfilingFilter;
+import io.github.flyff_wiki.render.RenderService;
+import io.github.flyff_wiki.revision.HistoryWriteBehind;
+import io.github.flyff_wiki.revision.HistoryWriteBehindStats;
+
+/**
+ * 운영용 조회/전환 API입니다.
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+public class AdminController {
+
+    @Autowired
+    private DocumentViewCache documentViewCache;
+
+    @Autowired
+    private RenderService renderService;
+
+    @Autowired
+    private LinkService linkService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DataSourcePools dataSourcePools;
+
+    @Autowired
+    private HistoryWriteBehind historyWriteBehind;
+
+    @Autowired
+    private SqlProfilingFilter sqlProfilingFilter;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @GetMapping("/cache/document")
+    public DocumentCacheStats getDocumentCacheStats() {
+        return documentViewCache.stats();
+    }
+
+    @PostMapping("/cache/document")
+    public DocumentCacheStats setDocumentCacheEnabled(@RequestParam boolean enabled) {
+        documentViewCache.setEnabled(enabled);
+        return documentViewCache.stats();
+    }
+
+    @PostMapping("/render/rebuild")
+    public RenderJobResult rebuildRenderedContent() {
+        return renderService.rerenderAll();
+    }
+
+    @PostMapping("/links/rebuild")
+    public LinkRebuildResult rebuildLinkGraph() {
+        return linkService.rebuild();
+    }
+
+    /**
+     * 커넥션 예산 상태를 조회합니다. 예산이 꺼져 있으면 404입니다.
+     */
+    @GetMapping("/datasource/budget")
+    public ResponseEntity<ConnectionBudgetStats> getConnectionBudgetStats() {
+        if (dataSource instanceof ConnectionBudgetDataSource budget) {
+            return ResponseEntity.ok(budget.stats());
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 원본/복제본 커넥션 풀 상태를 조회합니다.
+     */
+    @GetMapping("/datasource/pools")
+    public List<PoolStats> getDataSourcePools() {
+        return dataSourcePools.stats();
+    }
+
+    @GetMapping("/history/write-behind")
+    public HistoryWriteBehindStats getHistoryWriteBehindStats() {
+        return historyWriteBehind.stats();
+    }
+
+    @PostMapping("/history/write-behind")
+    public HistoryWriteBehindStats setHistoryWriteBehindEnabled(@RequestParam boolean enabled) {
+        historyWriteBehind.setEnabled(enabled);
+        return historyWriteBehind.stats();
+    }
+
+    /**
+     * 요청별 SQL 프로파일링(X-SQL-* 헤더, N+1 경고 로그)을 켜거나 끕니다.
+     * - 리턴값: 전환 후 사용 여부
+     */
+    @PostMapping("/sql-profiling")
+    public boolean setSqlProfilingEnabled(@RequestParam boolean enabled) {
+        sqlProfilingFilter.setEnabled(enabled);
+        return sqlProfilingFilter.isEnabled();
+    }
+
+    /**
+     * 조회/수정 요청별 입장 제어 한도와 거절 수를 조회합니다.
+     */
+    @GetMapping("/admission")
+    public List<AdmissionStats> getAdmissionStats() {
+        return admissionControlFilter.stats();
+    }
+
+    /**
+     * 입장 제어를 켜거나 끕니다. 끄면 모든 문서 요청을 제한 없이 받습니다.
+     */
+    @PostMapping("/admission")
+    public List<AdmissionStats> setAdmissionEnabled(@RequestParam boolean enabled) {
+        admissionControlFilter.setEnabled(enabled);
+        return admissionControlFilter.stats();
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.flyff_wiki.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.flyff_wiki.bulk.BulkImportService;
+import io.github.flyff_wiki.dto.ImportResult;
+
+@RestController
+@RequestMapping("/api/v1")
+public class BulkImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportController.class);
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    /**
+     * NDJSON 본문을 스트리밍으로 읽어 문서를 일괄 생성합니다.
+     * - 사용 예시: curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @items.ndjson .../documents/import
+     */
+    @PostMapping(path = "/documents/import", consumes = "application/x-ndjson")
+    public ImportResult importDocuments(InputStream body) throws IOException {
+        logger.info("Received bulk import request");
+        return bulkImportService.importNdjson(body);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.flyff_wiki.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.flyff_wiki.batch.DocumentBatchService;
+import io.github.flyff_wiki.dto.BatchGetRequest;
+import io.github.flyff_wiki.dto.BatchGetResponse;
+
+@RestController
+@RequestMapping("/api/v1")
+public class DocumentBatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentBatchController.class);
+
+    @Autowired
+    private DocumentBatchService documentBatchService;
+
+    /**
+     * 여러 문서를 한 번에 조회합니다. 본문이 필요 없으면 fields로 필드를 골라 본문 읽기를 건너뜁니다.
+     * - 사용 예시: POST /api/v1/documents:batchGet {"ids": [3, 1, 99], "fields": ["title", "version"]}
+     *   -> documents는 3, 1 순서, missing은 [99]
+     */
+    @PostMapping("/documents:batchGet")
+    public BatchGetResponse batchGet(@RequestBody BatchGetRequest request) {
+        logger.debug("Received batch get request for {} documents", request.ids() == null ? 0 : request.ids().size());
+        return documentBatchService.batchGet(request.ids(), request.fields());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        logger.debug("Rejecting bad batch get request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
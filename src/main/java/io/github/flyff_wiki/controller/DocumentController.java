@@ -1,17 +1,45 @@
 package io.github.flyff_wiki.controller;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import io.github.flyff_wiki.diff.DiffGranularity;
+import io.github.flyff_wiki.diff.RevisionDiffService;
 import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.DocumentConflict;
+import io.github.flyff_wiki.dto.DocumentValidator;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.HistoryPage;
+import io.github.flyff_wiki.dto.RevisionContent;
+import io.github.flyff_wiki.dto.RevisionDiff;
+import io.github.flyff_wiki.metrics.WikiMetrics;
+import io.github.flyff_wiki.payload.ContentCoding;
+import io.github.flyff_wiki.payload.DocumentPayloadCache;
+import io.github.flyff_wiki.payload.Payload;
+import io.github.flyff_wiki.payload.PayloadFormat;
+import io.github.flyff_wiki.render.MarkdownRenderer;
+import io.github.flyff_wiki.revision.HistoryBacklogException;
+import io.github.flyff_wiki.service.DocumentConflictException;
 import io.github.flyff_wiki.service.DocumentService;
+import io.github.flyff_wiki.service.DuplicateTitleException;
+import io.github.flyff_wiki.support.DocumentETag;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -22,27 +50,185 @@ public class DocumentController {
     @Autowired
     private DocumentService documentService;
 
+    @Autowired
+    private DocumentPayloadCache documentPayloadCache;
+
+    @Autowired
+    private WikiMetrics wikiMetrics;
+
+    @Autowired
+    private RevisionDiffService revisionDiffService;
+
     @PostMapping("/document")
-    public Document writeDocument(@RequestBody Document document) {
-        logger.info("Received request to create document: {}", document.getTitle());
+    public DocumentView writeDocument(@RequestBody Document document) {
+        logger.debug("Received request to create document: {}", document.getTitle());
         Document result = documentService.createDocument(document);
-        logger.info("Document created successfully with ID: {}", result.getId());
-        return result;
+        logger.debug("Document created successfully with ID: {}", result.getId());
+        return DocumentView.from(result);
     }
 
+    /**
+     * 문서를 수정합니다. If-Match에 조회 시 받은 ETag("v{version}")를 보내면 그 버전일 때만 수정합니다.
+     * - 리턴값: 수정된 문서와 새 ETag. 버전이 맞지 않으면 409와 DocumentConflict 본문
+     */
     @PostMapping("/document/{id}")
-    public Document updateDocument(@PathVariable Long id, @RequestBody Document document) {
-        logger.info("Received request to update document with ID: {}", id);
-        Document result = documentService.updateDocument(id, document);
-        logger.info("Document updated successfully with ID: {}", id);
-        return result;
+    public ResponseEntity<DocumentView> updateDocument(@PathVariable Long id, @RequestBody Document document,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.debug("Received request to update document with ID: {}", id);
+        Document result = documentService.updateDocument(id, document, DocumentETag.parseVersion(ifMatch));
+        logger.debug("Document updated successfully with ID: {}", id);
+        return ResponseEntity.ok()
+                .eTag(DocumentETag.of(result.getVersion()))
+                .body(DocumentView.from(result));
     }
 
+    /**
+     * 문서를 조회합니다. ETag/Last-Modified를 내려주고, If-None-Match/If-Modified-Since가 맞으면 304를 반환합니다.
+     * - 형식/압축: Accept(application/json, application/cbor)와 Accept-Encoding(zstd, gzip)으로 협상하며,
+     *   리비전별 직렬화/압축 결과는 DocumentPayloadCache에 캐시됩니다.
+     * - 동작 흐름: 형식/압축 협상 -> 검증자(버전, 수정 시각)만 조회 -> 일치하면 본문 없이 304 -> 아니면 본문 조회 후 200
+     * - 주의사항: 200 응답의 ETag는 실제로 내려보내는 본문의 버전으로 계산합니다 (검증자 조회 이후 수정될 수 있음).
+     *   표현(형식/압축)마다 ETag가 다르므로 Vary: Accept, Accept-Encoding을 함께 보냅니다.
+     */
     @GetMapping("/document/{id}")
-    public Document getDocument(@PathVariable Long id) {
-        logger.info("Received request to get document with ID: {}", id);
-        Document result = documentService.getDocument(id);
-        logger.debug("Returning document: {}", result.getTitle());
-        return result;
+    public ResponseEntity<byte[]> getDocument(@PathVariable Long id, @RequestParam(required = false) String render,
+            WebRequest request) {
+        logger.debug("Received request to get document with ID: {}", id);
+        boolean html;
+        if (render == null) {
+            html = false;
+        } else if ("html".equals(render)) {
+            html = true;
+        } else {
+            throw new IllegalArgumentException("Unsupported render format: " + render);
+        }
+        PayloadFormat format = PayloadFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        ContentCoding coding = ContentCoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        DocumentValidator validator = documentService.getValidator(id);
+        if (request.checkNotModified(etag(validator.version(), html, format, coding),
+                epochMillis(validator.updatedAt()))) {
+            logger.debug("Document {} not modified", id);
+            return null;
+        }
+
+        DocumentView result = html ? documentService.getRenderedDocumentView(id) : documentService.getDocumentView(id);
+        logger.debug("Returning document: {}", result.title());
+        String etag = etag(result.version(), html, format, coding);
+        Payload payload = documentPayloadCache.get(result, etag, format, coding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(format.mediaType())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (result.updatedAt() != null) {
+            response.lastModified(epochMillis(result.updatedAt()));
+        }
+        if (payload.coding() != ContentCoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, payload.coding().token());
+        }
+        wikiMetrics.contentServed(payload.bytes().length);
+        return response.body(payload.bytes());
+    }
+
+    /**
+     * 제목이나 슬러그로 문서를 조회합니다. 대소문자/공백 차이는 무시하며 documents.slug 유니크 인덱스 한 번으로 ID를 찾습니다.
+     * - 사용 예시: GET /api/v1/document/lookup?title=Flyff%20Wiki -> "flyff_wiki" 슬러그의 문서
+     * - 리턴값: 문서와 ETag. Content-Location으로 ID 기반 조회 경로를 알려 주어 이후에는 조건부 GET을 쓸 수 있습니다.
+     */
+    @GetMapping("/document/lookup")
+    public ResponseEntity<DocumentView> lookupDocument(@RequestParam String title) {
+        logger.debug("Received request to look up document by title: {}", title);
+        DocumentView result = documentService.getDocumentViewByTitle(title);
+        return ResponseEntity.ok()
+                .eTag(DocumentETag.of(result.version()))
+                .header(HttpHeaders.CONTENT_LOCATION, "/api/v1/document/" + result.id())
+                .body(result);
+    }
+
+    @GetMapping("/document/{id}/history")
+    public HistoryPage getHistory(@PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        logger.debug("Received request to list history of document ID: {} after: {}", id, after);
+        return documentService.getHistory(id, after, limit);
+    }
+
+    @GetMapping("/document/{id}/history/{revision}")
+    public RevisionContent getRevision(@PathVariable Long id, @PathVariable int revision) {
+        logger.debug("Received request to get revision {} of document ID: {}", revision, id);
+        return documentService.getRevision(id, revision);
+    }
+
+    /**
+     * 두 리비전의 차이를 반환합니다. to를 생략하면 from 바로 다음 리비전과 비교합니다.
+     * - 인자: granularity (line 또는 word), context (변경 앞뒤로 남길 공통 줄/단어 수)
+     * - 리턴값: 변경 구간 목록. 멀리 떨어진 공통 구간은 SKIP으로 생략됩니다.
+     */
+    @GetMapping("/document/{id}/diff")
+    public RevisionDiff getDiff(@PathVariable Long id,
+            @RequestParam int from,
+            @RequestParam(required = false) Integer to,
+            @RequestParam(defaultValue = "line") String granularity,
+            @RequestParam(defaultValue = "3") int context) {
+        logger.debug("Received request to diff document ID: {} from {} to {}", id, from, to);
+        return revisionDiffService.diff(id, from, to == null ? from + 1 : to, DiffGranularity.parse(granularity),
+                context);
+    }
+
+    /**
+     * 표현별 ETag를 만듭니다. 기본 표현(JSON, 무압축, 원문)은 "v{version}"이고 나머지는 변형 이름이 붙습니다.
+     * - 사용 예시: HTML 렌더링 + CBOR + gzip -> "v3-html1-cbor-gzip"
+     */
+    private static String etag(Long version, boolean html, PayloadFormat format, ContentCoding coding) {
+        StringBuilder variant = new StringBuilder();
+        if (html) {
+            variant.append("html").append(MarkdownRenderer.VERSION);
+        }
+        if (format.etagSuffix() != null) {
+            variant.append(variant.length() > 0 ? "-" : "").append(format.etagSuffix());
+        }
+        if (coding.token() != null) {
+            variant.append(variant.length() > 0 ? "-" : "").append(coding.token());
+        }
+        return variant.length() == 0 ? DocumentETag.of(version) : DocumentETag.of(version, variant.toString());
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @ExceptionHandler(DocumentConflictException.class)
+    public ResponseEntity<DocumentConflict> handleConflict(DocumentConflictException e) {
+        logger.debug("Rejecting conflicting update: {}", e.getMessage());
+        DocumentConflict conflict = documentService.describeConflict(e.getDocumentId(), e.getExpectedVersion());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .eTag(DocumentETag.of(conflict.currentVersion()))
+                .body(conflict);
+    }
+
+    /**
+     * 다른 문서가 이미 같은 제목(슬러그)을 쓰고 있을 때의 응답입니다. 제목을 바꿔 다시 요청해야 합니다.
+     */
+    @ExceptionHandler(DuplicateTitleException.class)
+    public ResponseEntity<String> handleDuplicateTitle(DuplicateTitleException e) {
+        logger.debug("Rejecting duplicate title: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    /**
+     * 히스토리 쓰기 지연 대기열이 가득 찼을 때의 응답입니다. 수정은 반영되지 않았으므로 그대로 재시도하면 됩니다.
+     */
+    @ExceptionHandler(HistoryBacklogException.class)
+    public ResponseEntity<String> handleHistoryBacklog(HistoryBacklogException e) {
+        logger.warn("Rejecting update: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        logger.debug("Rejecting bad request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
     }
 }
@@ -0,0 +1,74 @@
+package io.github.flyff_wiki.controller;
+
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.github.flyff_wiki.export.DocumentExporter;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 대용량 응답을 버퍼링 없이 스트리밍으로 내보내는 API입니다.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private DocumentExporter documentExporter;
+
+    @Autowired
+    private DocumentService documentService;
+
+    /**
+     * 문서 하나와 전체 히스토리를 JSON으로 스트리밍합니다.
+     * - 인자: historyContent (true면 각 리비전의 복원된 본문 포함)
+     * - 주의사항: 스트리밍 시작 후에는 상태 코드를 바꿀 수 없으므로 존재 여부를 먼저 확인합니다.
+     */
+    @GetMapping("/document/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportDocument(@PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean historyContent) {
+        logger.debug("Received request to export document with ID: {}", id);
+        documentService.getValidator(id);
+        StreamingResponseBody body = out -> documentExporter.writeDocument(id, historyContent, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 위키 전체를 NDJSON으로 스트리밍합니다. gzip=true이면 wiki-export.ndjson.gz 파일로 내려줍니다.
+     * - 사용 예시: curl -o wiki.ndjson.gz '.../documents/export?gzip=true'
+     */
+    @GetMapping("/documents/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("Received request to export all documents (gzip: {})", gzip);
+        if (!gzip) {
+            return ResponseEntity.ok().contentType(NDJSON).body(documentExporter::writeAll);
+        }
+        StreamingResponseBody body = out -> {
+            GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+            documentExporter.writeAll(compressed);
+            compressed.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("wiki-export.ndjson.gz").build().toString())
+                .body(body);
+    }
+}
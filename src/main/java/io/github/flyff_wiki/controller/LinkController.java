@@ -0,0 +1,59 @@
+package io.github.flyff_wiki.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.flyff_wiki.dto.Backlinks;
+import io.github.flyff_wiki.dto.BrokenLink;
+import io.github.flyff_wiki.dto.DocumentLink;
+import io.github.flyff_wiki.dto.OrphanPage;
+import io.github.flyff_wiki.links.LinkService;
+
+/**
+ * 문서 사이 링크 그래프 조회 API입니다. 모두 메모리 그래프에서 응답합니다.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class LinkController {
+
+    @Autowired
+    private LinkService linkService;
+
+    /**
+     * 문서로 들어오는 링크를 조회합니다.
+     * - 사용 예시: GET /api/v1/document/42/backlinks?limit=100
+     */
+    @GetMapping("/document/{id}/backlinks")
+    public Backlinks getBacklinks(@PathVariable Long id, @RequestParam(defaultValue = "100") int limit) {
+        return linkService.getBacklinks(id, limit);
+    }
+
+    @GetMapping("/document/{id}/links")
+    public List<DocumentLink> getLinks(@PathVariable Long id) {
+        return linkService.getLinks(id);
+    }
+
+    /**
+     * 들어오는 링크가 없는 문서를 조회합니다. 다음 페이지는 응답의 nextAfter를 after로 넘깁니다.
+     * - 사용 예시: GET /api/v1/links/orphans?after=0&limit=100
+     */
+    @GetMapping("/links/orphans")
+    public OrphanPage getOrphans(@RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        return linkService.getOrphans(after, limit);
+    }
+
+    /**
+     * 아직 문서가 없는 링크 대상을 링크한 문서가 많은 순으로 조회합니다.
+     */
+    @GetMapping("/links/broken")
+    public List<BrokenLink> getBrokenLinks(@RequestParam(defaultValue = "100") int limit) {
+        return linkService.getBrokenLinks(limit);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.flyff_wiki.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.flyff_wiki.dto.RecentChanges;
+import io.github.flyff_wiki.recent.RecentChangesBusyException;
+import io.github.flyff_wiki.recent.RecentChangesService;
+
+@RestController
+@RequestMapping("/api/v1")
+public class RecentChangesController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentChangesController.class);
+
+    @Autowired
+    private RecentChangesService recentChangesService;
+
+    /**
+     * 최근 변경을 최신순으로 조회합니다. 메모리 버퍼에서만 읽습니다.
+     * - 인자: since (이전 응답의 lastSequence를 넘기면 그 이후 변경만), limit (최대 항목 수)
+     */
+    @GetMapping("/recent-changes")
+    public RecentChanges getRecentChanges(@RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "50") int limit) {
+        return recentChangesService.getRecentChanges(since, limit);
+    }
+
+    /**
+     * 최근 변경을 SSE(text/event-stream)로 구독합니다. 이벤트 이름은 change, ID는 변경 번호입니다.
+     * - 재연결 시 브라우저가 보내는 Last-Event-ID 이후 변경부터 이어서 받습니다 (버퍼에 남아 있는 범위까지).
+     */
+    @GetMapping(path = "/recent-changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRecentChanges(
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.debug("Subscribing to recent changes after {}", lastEventId);
+        return recentChangesService.subscribe(lastEventId);
+    }
+
+    @ExceptionHandler(RecentChangesBusyException.class)
+    public ResponseEntity<String> handleBusy(RecentChangesBusyException e) {
+        logger.warn("Rejecting subscriber: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(e.getMessage());
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.flyff_wiki.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.flyff_wiki.dto.SearchResponse;
+import io.github.flyff_wiki.dto.SuggestResponse;
+import io.github.flyff_wiki.search.SearchService;
+
+@RestController
+@RequestMapping("/api/v1")
+public class SearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchController.class);
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping("/search")
+    public SearchResponse search(@RequestParam("q") String query, @RequestParam(defaultValue = "20") int limit) {
+        logger.debug("Received search request: {}", query);
+        return searchService.search(query, limit);
+    }
+
+    /**
+     * 제목 자동 완성 후보를 반환합니다.
+     * - 사용 예시: GET /api/v1/search/suggest?q=flyff%20w&limit=10
+     */
+    @GetMapping("/search/suggest")
+    public SuggestResponse suggest(@RequestParam("q") String query, @RequestParam(defaultValue = "10") int limit) {
+        return searchService.suggest(query, limit);
+    }
+}
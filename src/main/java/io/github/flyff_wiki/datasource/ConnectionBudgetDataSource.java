@@ -0,0 +1,138 @@
+package io.github.flyff_wiki.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 동시에 빌려 갈 수 있는 커넥션 수를 세마포어로 제한하는 DataSource 래퍼입니다.
+ * - 목적: 가상 스레드는 사실상 무제한으로 생성되므로, 요청이 몰리면 수천 개 스레드가 커넥션 풀 대기열에 쌓입니다.
+ *   세마포어를 풀 크기에 맞춰 두면 초과 요청은 풀에 닿기 전에 공정(FIFO) 대기하고, acquireTimeout 안에 못 받으면 빠르게 실패합니다.
+ * - 반환: 커넥션 close() 시 한 번만 허가를 돌려줍니다 (중복 close 안전).
+ * - 주의사항: 허가 대기는 Semaphore로 구현하므로 가상 스레드는 캐리어 스레드를 점유하지 않고 대기합니다.
+ */
+public class ConnectionBudgetDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConnectionBudgetDataSource(DataSource target, int maxPermits, Duration acquireTimeout) {
+        super(target);
+        this.maxPermits = maxPermits;
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return wrap(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return wrap(() -> super.getConnection(username, password));
+    }
+
+    public ConnectionBudgetStats stats() {
+        return new ConnectionBudgetStats(maxPermits, permits.availablePermits(), permits.getQueueLength(),
+                rejected.sum());
+    }
+
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException("Connection budget exhausted: " + maxPermits
+                    + " connections in use, waited " + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms");
+        }
+    }
+
+    private Connection wrap(ConnectionSupplier supplier) throws SQLException {
+        Connection target;
+        try {
+            target = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionBudgetDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ReleasingHandler(target));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * close()에서 허가를 반환하고, 나머지 호출은 실제 커넥션으로 넘깁니다.
+     */
+    private final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.flyff_wiki.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * flyff.datasource.budget.enabled=true이면 DataSource 빈을 ConnectionBudgetDataSource로 감쌉니다.
+ * - 허가 수 기본값은 Hikari 최대 풀 크기입니다. 가상 스레드 모드(virtual 프로필)에서 켭니다.
+ */
+@Component
+@ConditionalOnProperty(name = "flyff.datasource.budget.enabled", havingValue = "true")
+public class ConnectionBudgetPostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionBudgetPostProcessor.class);
+
+    private final int permits;
+    private final Duration acquireTimeout;
+
+    public ConnectionBudgetPostProcessor(
+            @Value("${flyff.datasource.budget.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${flyff.datasource.budget.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.permits = permits;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionBudgetDataSource)) {
+            logger.info("Limiting DataSource '{}' to {} concurrent connections (acquire timeout {})",
+                    beanName, permits, acquireTimeout);
+            return new ConnectionBudgetDataSource(dataSource, permits, acquireTimeout);
+        }
+        return bean;
+    }
+}
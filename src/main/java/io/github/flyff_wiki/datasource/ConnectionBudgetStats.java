@@ -0,0 +1,8 @@
+package io.github.flyff_wiki.datasource;
+
+/**
+ * 커넥션 예산의 현재 상태입니다.
+ * - waiting: 허가를 기다리는 스레드 수 (추정치), rejected: acquireTimeout 초과로 거절된 누적 건수
+ */
+public record ConnectionBudgetStats(int permits, int available, int waiting, long rejected) {
+}
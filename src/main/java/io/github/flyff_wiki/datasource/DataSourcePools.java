@@ -0,0 +1,58 @@
+package io.github.flyff_wiki.datasource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 원본/복제본 커넥션 풀의 상태를 모아 보여 줍니다.
+ * - 원본 풀은 DataSource 빈을 감싼 래퍼들(예산, 라우팅 프록시)을 unwrap하여 찾습니다.
+ */
+@Component
+public class DataSourcePools {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectProvider<ReplicaRoutingPostProcessor> replicaRouting;
+
+    public List<PoolStats> stats() {
+        List<PoolStats> stats = new ArrayList<>();
+        HikariDataSource primary = primary();
+        if (primary != null) {
+            stats.add(stats(primary, "primary"));
+        }
+        ReplicaRoutingPostProcessor routing = replicaRouting.getIfAvailable();
+        if (routing != null) {
+            routing.replicas().forEach(replica -> stats.add(stats(replica, "replica")));
+        }
+        return stats;
+    }
+
+    private HikariDataSource primary() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static PoolStats stats(HikariDataSource pool, String role) {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        if (bean == null) {
+            return new PoolStats(pool.getPoolName(), role, 0, 0, 0, 0, pool.getMaximumPoolSize());
+        }
+        return new PoolStats(pool.getPoolName(), role, bean.getActiveConnections(), bean.getIdleConnections(),
+                bean.getTotalConnections(), bean.getThreadsAwaitingConnection(), pool.getMaximumPoolSize());
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.flyff_wiki.datasource;
+
+/**
+ * 커넥션 풀 하나의 현재 상태입니다 (Hikari 기준).
+ * - role: primary 또는 replica, waiting: 커넥션을 기다리는 스레드 수
+ * - 풀이 아직 시작되지 않았으면 active/idle/total/waiting은 0입니다.
+ */
+public record PoolStats(
+        String name,
+        String role,
+        int active,
+        int idle,
+        int total,
+        int waiting,
+        int maximumPoolSize) {
+}
@@ -0,0 +1,66 @@
+package io.github.flyff_wiki.datasource;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+
+/**
+ * 최근에 수정된 문서를 기억해 두었다가, 그 문서의 읽기를 복제 지연 시간 동안 원본 DB로 보냅니다.
+ * - 기록: 문서 변경 이벤트를 커밋 직전에 받아 maxLag 동안 보관합니다 (Caffeine expireAfterWrite).
+ * - 조회: read(id, query)는 최근 수정된 문서면 ReplicaRoutingDataSource.onPrimary로 감싸 실행합니다.
+ * - 주의사항: 복제본 라우팅이 꺼져 있으면 기록하지 않으므로 항상 query를 그대로 실행합니다.
+ */
+@Component
+public class ReplicaLagTracker {
+
+    private final boolean enabled;
+    private final Cache<Long, Boolean> recentWrites;
+
+    public ReplicaLagTracker(
+            @Value("${flyff.datasource.replica.enabled:false}") boolean enabled,
+            @Value("${flyff.datasource.replica.max-lag:2s}") Duration maxLag) {
+        this.enabled = enabled;
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(maxLag)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * 문서 읽기 작업을 복제 지연을 고려한 DB에서 실행합니다.
+     * - 인자: documentId (읽을 문서 ID), query (첫 커넥션 획득이 포함된 조회 작업)
+     * - 리턴값: query 결과
+     */
+    public <T> T read(Long documentId, Supplier<T> query) {
+        return recentlyWritten(documentId) ? ReplicaRoutingDataSource.onPrimary(query) : query.get();
+    }
+
+    public boolean recentlyWritten(Long documentId) {
+        return documentId != null && recentWrites.getIfPresent(documentId) != null;
+    }
+
+    /**
+     * 수정된 문서를 원본 DB 고정 대상으로 기록합니다.
+     * - 동작 흐름: 커밋 직전(BEFORE_COMMIT)에 기록하므로, 커밋 직후의 캐시 무효화(DocumentViewCache)보다 항상 먼저입니다.
+     *   트랜잭션 밖에서 발행된 이벤트는 즉시 처리하며, 이때도 @Order로 다른 리스너보다 먼저 실행됩니다.
+     * - 주의사항: 롤백된 수정도 기록될 수 있지만 maxLag 동안 원본 DB에서 읽을 뿐이라 결과는 같습니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        if (enabled) {
+            recentWrites.put(event.documentId(), Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.flyff_wiki.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 읽기 전용 커넥션을 복제본들에 라운드 로빈으로 나눠 주는 라우팅 DataSource입니다.
+ * - 위치: LazyConnectionDataSourceProxy의 readOnlyDataSource로 쓰입니다.
+ *   readOnly 트랜잭션이 첫 SQL을 실행할 때 이 DataSource에서 커넥션을 받습니다.
+ * - 고정: onPrimary로 감싼 구간(방금 수정된 문서 읽기 등)은 복제 지연을 피하려고 원본(primary)으로 보냅니다.
+ * - 장애: 복제본 커넥션 획득이 실패하면 원본으로 대신 연결합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<String> replicaKeys;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 현재 스레드의 읽기를 원본 DB로 고정한 채 query를 실행합니다.
+     * - 인자: query (커넥션을 처음 얻는 쿼리가 포함된 작업)
+     * - 주의사항: 이미 커넥션을 잡은 트랜잭션 안에서 호출하면 효과가 없습니다. 커넥션 획득 전에 감싸야 합니다.
+     * - 사용 예시: ReplicaRoutingDataSource.onPrimary(() -> documentRepository.findById(id))
+     */
+    public static <T> T onPrimary(Supplier<T> query) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty() || PRIMARY_PINNED.get() != null) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return getResolvedDataSources().get(key).getConnection();
+        } catch (SQLException e) {
+            logger.warn("Replica '{}' is unavailable, reading from primary: {}", key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.flyff_wiki.datasource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * flyff.datasource.replica.enabled=true이면 DataSource 빈을 읽기/쓰기 분리 프록시로 감쌉니다.
+ * - 구조: LazyConnectionDataSourceProxy(원본) + readOnlyDataSource = ReplicaRoutingDataSource(복제본들, 원본)
+ *   readOnly 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드)은 복제본으로, 나머지는 원본으로 갑니다.
+ * - 커넥션 획득을 첫 SQL까지 미루므로 트랜잭션의 readOnly 여부와 ReplicaLagTracker 고정이 반영됩니다.
+ * - 복제본 풀: urls 하나당 Hikari 풀 하나 (replica-1, replica-2, ...). 계정은 spring.datasource와 같다고 가정합니다.
+ * - 커넥션 예산(ConnectionBudgetPostProcessor)보다 먼저 적용되어 예산이 원본/복제본 커넥션을 함께 셉니다.
+ */
+@Component
+@ConditionalOnProperty(name = "flyff.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingPostProcessor.class);
+
+    private final List<String> urls;
+    private final String username;
+    private final String password;
+    private final int maximumPoolSize;
+    private final List<HikariDataSource> replicas = new ArrayList<>();
+
+    public ReplicaRoutingPostProcessor(
+            @Value("${flyff.datasource.replica.urls}") List<String> urls,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${flyff.datasource.replica.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int maximumPoolSize) {
+        this.urls = urls;
+        this.username = username;
+        this.password = password;
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource primary) || bean instanceof LazyConnectionDataSourceProxy
+                || !replicas.isEmpty()) {
+            return bean;
+        }
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+            targets.put(replica.getPoolName(), replica);
+        }
+        logger.info("Routing read-only transactions of DataSource '{}' to {} replica(s)", beanName, replicas.size());
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, targets));
+        return proxy;
+    }
+
+    /**
+     * 복제본 커넥션 풀 목록입니다 (풀 상태 조회용).
+     */
+    public List<HikariDataSource> replicas() {
+        return Collections.unmodifiableList(replicas);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
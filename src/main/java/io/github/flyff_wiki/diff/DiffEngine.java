@@ -0,0 +1,272 @@
+package io.github.flyff_wiki.diff;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.flyff_wiki.dto.DiffChunk;
+
+/**
+ * 토큰(줄/단어) 목록 사이의 최소 편집 스크립트를 구하는 Myers 차이 알고리즘입니다.
+ * - 동작 방식: 토큰을 int ID로 바꾼 뒤 공통 접두/접미를 잘라내고, 남은 구간의 중간 스네이크(middle snake)를
+ *   앞/뒤 양방향으로 찾아 그 지점에서 둘로 나누어 재귀합니다 (선형 공간 변형, O((N+M)D) 시간 / O(N+M) 공간).
+ * - 한도: 한 구간의 탐색 비용 D가 maxCost를 넘거나 마감 시각이 지나면 그 구간은 통째로 교체(삭제 + 추가)로 표시하고
+ *   truncated를 true로 둡니다. 결과는 여전히 올바른 편집 스크립트이지만 최소는 아닐 수 있습니다.
+ * - 주의사항: 인스턴스는 compare 한 번에만 사용합니다 (스레드 안전하지 않음).
+ */
+public final class DiffEngine {
+
+    private final int[] a;
+    private final int[] b;
+    private final boolean[] deleted;
+    private final boolean[] inserted;
+    private final int maxCost;
+    private final long deadline;
+    private boolean truncated;
+
+    private DiffEngine(int[] a, int[] b, int maxCost, long deadline) {
+        this.a = a;
+        this.b = b;
+        this.deleted = new boolean[a.length];
+        this.inserted = new boolean[b.length];
+        this.maxCost = Math.max(1, maxCost);
+        this.deadline = deadline;
+    }
+
+    /**
+     * 두 토큰 목록을 비교합니다.
+     * - 인자: before/after (비교할 토큰 목록), maxCost (구간당 허용하는 최대 편집 거리 탐색 단계),
+     *   timeoutNanos (전체 비교 시간 한도)
+     * - 리턴값: 토큰별 삭제/추가 표시와 한도 초과 여부
+     * - 사용 예시: DiffEngine.Result result = DiffEngine.compare(lines(a), lines(b), 4096, 500_000_000L);
+     */
+    public static Result compare(List<String> before, List<String> after, int maxCost, long timeoutNanos) {
+        Map<String, Integer> ids = new HashMap<>();
+        int[] a = intern(before, ids);
+        int[] b = intern(after, ids);
+        DiffEngine engine = new DiffEngine(a, b, maxCost, System.nanoTime() + timeoutNanos);
+        engine.compare(0, a.length, 0, b.length);
+        return new Result(engine.deleted, engine.inserted, engine.truncated);
+    }
+
+    /**
+     * 비교 결과를 응답용 구간 목록으로 바꿉니다.
+     * - 인자: before/after (compare에 넘긴 토큰 목록), result (compare 결과), context (변경 앞뒤로 남길 공통 토큰 수)
+     * - 리턴값: EQUAL/DELETE/INSERT/SKIP 구간. 한 변경 구역에서는 DELETE가 INSERT보다 먼저 옵니다.
+     * - 주의사항: context보다 먼 공통 구간은 SKIP(생략한 토큰 수)으로 대체됩니다. 변경이 없으면 SKIP 하나만 남습니다.
+     */
+    public static List<DiffChunk> chunks(List<String> before, List<String> after, Result result, int context) {
+        int keep = Math.max(0, context);
+        List<DiffChunk> chunks = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            int equalStart = i;
+            boolean changeBefore = i > 0 || j > 0;
+            while (i < before.size() && j < after.size() && !result.deleted[i] && !result.inserted[j]) {
+                i++;
+                j++;
+            }
+            if (i > equalStart) {
+                boolean changeAfter = i < before.size() || j < after.size();
+                addEqual(chunks, before, equalStart, i, changeBefore ? keep : 0, changeAfter ? keep : 0);
+            }
+
+            int deleteStart = i;
+            int insertStart = j;
+            StringBuilder removed = new StringBuilder();
+            StringBuilder added = new StringBuilder();
+            while (i < before.size() && result.deleted[i] || j < after.size() && result.inserted[j]) {
+                while (i < before.size() && result.deleted[i]) {
+                    removed.append(before.get(i++));
+                }
+                while (j < after.size() && result.inserted[j]) {
+                    added.append(after.get(j++));
+                }
+            }
+            if (i > deleteStart) {
+                chunks.add(new DiffChunk(DiffChunk.Op.DELETE, removed.toString(), i - deleteStart));
+            }
+            if (j > insertStart) {
+                chunks.add(new DiffChunk(DiffChunk.Op.INSERT, added.toString(), j - insertStart));
+            }
+        }
+        return chunks;
+    }
+
+    private static void addEqual(List<DiffChunk> chunks, List<String> tokens, int from, int to, int head, int tail) {
+        if (to - from <= head + tail) {
+            chunks.add(new DiffChunk(DiffChunk.Op.EQUAL, join(tokens, from, to), to - from));
+            return;
+        }
+        if (head > 0) {
+            chunks.add(new DiffChunk(DiffChunk.Op.EQUAL, join(tokens, from, from + head), head));
+        }
+        chunks.add(new DiffChunk(DiffChunk.Op.SKIP, null, to - from - head - tail));
+        if (tail > 0) {
+            chunks.add(new DiffChunk(DiffChunk.Op.EQUAL, join(tokens, to - tail, to), tail));
+        }
+    }
+
+    private static String join(List<String> tokens, int from, int to) {
+        StringBuilder text = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            text.append(tokens.get(i));
+        }
+        return text.toString();
+    }
+
+    private static int[] intern(List<String> tokens, Map<String, Integer> ids) {
+        int[] interned = new int[tokens.size()];
+        for (int i = 0; i < interned.length; i++) {
+            Integer id = ids.putIfAbsent(tokens.get(i), ids.size());
+            interned[i] = id == null ? ids.size() - 1 : id;
+        }
+        return interned;
+    }
+
+    /**
+     * a[aStart, aEnd)와 b[bStart, bEnd)를 비교합니다. 공통 접두/접미를 먼저 잘라 대부분의 편집(한두 곳 수정)은 여기서 끝납니다.
+     */
+    private void compare(int aStart, int aEnd, int bStart, int bEnd) {
+        while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+            aStart++;
+            bStart++;
+        }
+        while (aStart < aEnd && bStart < bEnd && a[aEnd - 1] == b[bEnd - 1]) {
+            aEnd--;
+            bEnd--;
+        }
+        if (aStart == aEnd || bStart == bEnd) {
+            replace(aStart, aEnd, bStart, bEnd);
+            return;
+        }
+        bisect(aStart, aEnd, bStart, bEnd);
+    }
+
+    /**
+     * 중간 스네이크를 찾아 구간을 나눕니다.
+     * - 동작 흐름: d = 0, 1, ...마다 앞쪽(v1)과 뒤쪽(v2) 경로를 한 단계씩 늘림 -> 두 경로가 같은 대각선에서 겹치면
+     *   앞쪽 경로의 끝점에서 분할 -> 한도 안에서 겹치지 않으면 구간 전체를 교체로 표시
+     * - 주의사항: v1/v2는 한도(maxCost)까지만 잡으므로 긴 페이지에서도 메모리가 구간 길이에 비례하지 않습니다.
+     */
+    private void bisect(int aStart, int aEnd, int bStart, int bEnd) {
+        int n = aEnd - aStart;
+        int m = bEnd - bStart;
+        int naturalMax = (n + m + 1) / 2;
+        int maxD = Math.min(naturalMax, maxCost);
+        int offset = maxD;
+        int length = 2 * maxD + 2;
+        int[] v1 = new int[length];
+        int[] v2 = new int[length];
+        Arrays.fill(v1, -1);
+        Arrays.fill(v2, -1);
+        v1[offset + 1] = 0;
+        v2[offset + 1] = 0;
+        int delta = n - m;
+        boolean front = (delta & 1) != 0;
+        int k1start = 0;
+        int k1end = 0;
+        int k2start = 0;
+        int k2end = 0;
+        for (int d = 0; d < maxD; d++) {
+            if (System.nanoTime() - deadline > 0) {
+                break;
+            }
+            for (int k1 = -d + k1start; k1 <= d - k1end; k1 += 2) {
+                int k1Offset = offset + k1;
+                int x1 = k1 == -d || k1 != d && v1[k1Offset - 1] < v1[k1Offset + 1]
+                        ? v1[k1Offset + 1]
+                        : v1[k1Offset - 1] + 1;
+                int y1 = x1 - k1;
+                while (x1 < n && y1 < m && a[aStart + x1] == b[bStart + y1]) {
+                    x1++;
+                    y1++;
+                }
+                v1[k1Offset] = x1;
+                if (x1 > n) {
+                    k1end += 2;
+                } else if (y1 > m) {
+                    k1start += 2;
+                } else if (front) {
+                    int k2Offset = offset + delta - k1;
+                    if (k2Offset >= 0 && k2Offset < length && v2[k2Offset] != -1 && x1 >= n - v2[k2Offset]) {
+                        split(aStart, aEnd, bStart, bEnd, x1, y1);
+                        return;
+                    }
+                }
+            }
+            for (int k2 = -d + k2start; k2 <= d - k2end; k2 += 2) {
+                int k2Offset = offset + k2;
+                int x2 = k2 == -d || k2 != d && v2[k2Offset - 1] < v2[k2Offset + 1]
+                        ? v2[k2Offset + 1]
+                        : v2[k2Offset - 1] + 1;
+                int y2 = x2 - k2;
+                while (x2 < n && y2 < m && a[aEnd - x2 - 1] == b[bEnd - y2 - 1]) {
+                    x2++;
+                    y2++;
+                }
+                v2[k2Offset] = x2;
+                if (x2 > n) {
+                    k2end += 2;
+                } else if (y2 > m) {
+                    k2start += 2;
+                } else if (!front) {
+                    int k1Offset = offset + delta - k2;
+                    if (k1Offset >= 0 && k1Offset < length && v1[k1Offset] != -1) {
+                        int x1 = v1[k1Offset];
+                        int y1 = offset + x1 - k1Offset;
+                        if (x1 >= n - x2) {
+                            split(aStart, aEnd, bStart, bEnd, x1, y1);
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+        if (maxD < naturalMax || System.nanoTime() - deadline > 0) {
+            truncated = true;
+        }
+        replace(aStart, aEnd, bStart, bEnd);
+    }
+
+    private void split(int aStart, int aEnd, int bStart, int bEnd, int x, int y) {
+        compare(aStart, aStart + x, bStart, bStart + y);
+        compare(aStart + x, aEnd, bStart + y, bEnd);
+    }
+
+    private void replace(int aStart, int aEnd, int bStart, int bEnd) {
+        for (int i = aStart; i < aEnd; i++) {
+            deleted[i] = true;
+        }
+        for (int j = bStart; j < bEnd; j++) {
+            inserted[j] = true;
+        }
+    }
+
+    /**
+     * 비교 결과입니다. deleted[i]는 before의 i번째 토큰이 삭제되었는지, inserted[j]는 after의 j번째 토큰이 추가되었는지입니다.
+     */
+    public record Result(boolean[] deleted, boolean[] inserted, boolean truncated) {
+
+        public int deletedCount() {
+            return count(deleted);
+        }
+
+        public int insertedCount() {
+            return count(inserted);
+        }
+
+        private static int count(boolean[] flags) {
+            int count = 0;
+            for (boolean flag : flags) {
+                if (flag) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
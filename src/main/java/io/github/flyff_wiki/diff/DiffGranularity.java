@@ -0,0 +1,71 @@
+package io.github.flyff_wiki.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비교 단위와 토큰 분할 규칙입니다. 토큰을 이어 붙이면 항상 원문이 됩니다.
+ * - LINE: 줄바꿈을 포함한 한 줄
+ * - WORD: 글자/숫자 묶음, 공백 묶음, 그 밖의 문자 하나
+ */
+public enum DiffGranularity {
+    LINE {
+        @Override
+        public List<String> tokenize(String text) {
+            List<String> tokens = new ArrayList<>(text.length() / 40 + 1);
+            int start = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    tokens.add(text.substring(start, i + 1));
+                    start = i + 1;
+                }
+            }
+            if (start < text.length()) {
+                tokens.add(text.substring(start));
+            }
+            return tokens;
+        }
+    },
+    WORD {
+        @Override
+        public List<String> tokenize(String text) {
+            List<String> tokens = new ArrayList<>(text.length() / 4 + 1);
+            int i = 0;
+            while (i < text.length()) {
+                int start = i;
+                char c = text.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                        i++;
+                    }
+                } else if (Character.isWhitespace(c)) {
+                    while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+                        i++;
+                    }
+                } else {
+                    i++;
+                }
+                tokens.add(text.substring(start, i));
+            }
+            return tokens;
+        }
+    };
+
+    /**
+     * 본문을 토큰 목록으로 나눕니다. 토큰을 순서대로 이어 붙이면 원문과 같습니다.
+     */
+    public abstract List<String> tokenize(String text);
+
+    /**
+     * 요청 파라미터(line, word)를 해석합니다. 알 수 없는 값이면 IllegalArgumentException을 던집니다.
+     */
+    public static DiffGranularity parse(String value) {
+        if (value == null || value.isBlank() || "line".equalsIgnoreCase(value)) {
+            return LINE;
+        }
+        if ("word".equalsIgnoreCase(value)) {
+            return WORD;
+        }
+        throw new IllegalArgumentException("Unsupported diff granularity: " + value);
+    }
+}
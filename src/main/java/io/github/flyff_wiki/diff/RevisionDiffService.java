@@ -0,0 +1,120 @@
+package io.github.flyff_wiki.diff;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.flyff_wiki.dto.DiffChunk;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.RevisionDiff;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 두 리비전의 본문을 복원해 줄/단어 단위로 비교합니다.
+ * - 리비전 번호: 0 ~ revisionCount - 1은 히스토리, revisionCount는 현재 본문입니다. 번호별 본문은 바뀌지 않습니다.
+ * - 캐시: 히스토리 화면에서 주로 보는 인접 리비전(to == from + 1) 비교 결과만 텍스트 길이 가중치로 캐시합니다.
+ *   한도에 걸려 잘린 결과는 부하에 따라 달라지므로 캐시하지 않습니다.
+ * - 한도: 구간당 탐색 비용(max-cost), 전체 시간(timeout), 토큰 수(max-tokens)를 넘으면 해당 구간을 통째로 교체로 표시합니다.
+ */
+@Service
+public class RevisionDiffService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevisionDiffService.class);
+    private static final int MAX_CONTEXT = 100;
+
+    @Autowired
+    private DocumentService documentService;
+
+    private final Cache<Key, RevisionDiff> adjacentDiffs;
+    private final int maxCost;
+    private final Duration timeout;
+    private final int maxTokens;
+
+    public RevisionDiffService(
+            @Value("${flyff.diff.cache-max-weight:16777216}") long maxWeight,
+            @Value("${flyff.diff.max-cost:4096}") int maxCost,
+            @Value("${flyff.diff.timeout:500ms}") Duration timeout,
+            @Value("${flyff.diff.max-tokens:2000000}") int maxTokens) {
+        this.maxCost = maxCost;
+        this.timeout = timeout;
+        this.maxTokens = maxTokens;
+        this.adjacentDiffs = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, RevisionDiff diff) -> weight(diff))
+                .build();
+    }
+
+    /**
+     * 두 리비전을 비교합니다.
+     * - 인자: id (문서 ID), from/to (비교할 리비전 번호), granularity (비교 단위), context (변경 앞뒤로 남길 공통 토큰 수)
+     * - 리턴값: 변경 구간 목록과 삭제/추가 토큰 수
+     * - 동작 흐름: 인접 리비전이면 캐시 조회 -> 두 본문 복원 -> 토큰 분할 -> DiffEngine 비교 -> 구간 변환
+     * - 주의사항: 리비전 번호가 0 미만이거나 revisionCount를 넘으면 IllegalArgumentException을 던집니다.
+     *   context는 0 ~ MAX_CONTEXT로 보정됩니다.
+     * - 사용 예시: revisionDiffService.diff(1L, 3, 4, DiffGranularity.LINE, 3)
+     */
+    public RevisionDiff diff(Long id, int from, int to, DiffGranularity granularity, int context) {
+        context = Math.max(0, Math.min(context, MAX_CONTEXT));
+        Key key = new Key(id, from, to, granularity, context);
+        boolean adjacent = to == from + 1;
+        if (adjacent) {
+            RevisionDiff cached = adjacentDiffs.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        DocumentView current = documentService.getDocumentView(id);
+        List<String> before = granularity.tokenize(content(current, from));
+        List<String> after = granularity.tokenize(content(current, to));
+        DiffEngine.Result result;
+        if (before.size() > maxTokens || after.size() > maxTokens) {
+            logger.debug("Diff of document {} ({} -> {}) exceeds {} tokens, comparing with zero cost", id, from, to,
+                    maxTokens);
+            result = DiffEngine.compare(before, after, 0, timeout.toNanos());
+        } else {
+            result = DiffEngine.compare(before, after, maxCost, timeout.toNanos());
+        }
+        if (result.truncated()) {
+            logger.debug("Diff of document {} ({} -> {}) hit the cost/time limit", id, from, to);
+        }
+        RevisionDiff diff = new RevisionDiff(id, from, to, granularity.name().toLowerCase(Locale.ROOT),
+                result.deletedCount(), result.insertedCount(), result.truncated(),
+                DiffEngine.chunks(before, after, result, context));
+        if (adjacent && !result.truncated()) {
+            adjacentDiffs.put(key, diff);
+        }
+        return diff;
+    }
+
+    private String content(DocumentView current, int revision) {
+        if (revision < 0 || revision > current.revisionCount()) {
+            throw new IllegalArgumentException("Revision out of range: " + revision
+                    + " (document has revisions 0.." + current.revisionCount() + ")");
+        }
+        if (revision == current.revisionCount()) {
+            return current.content();
+        }
+        return documentService.getRevision(current.id(), revision).content();
+    }
+
+    private static int weight(RevisionDiff diff) {
+        int weight = 1;
+        for (DiffChunk chunk : diff.chunks()) {
+            weight += chunk.text() == null ? 1 : chunk.text().length();
+        }
+        return weight;
+    }
+
+    private record Key(Long id, int from, int to, DiffGranularity granularity, int context) {
+    }
+}
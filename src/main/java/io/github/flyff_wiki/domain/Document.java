@@ -4,47 +4,96 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", indexes = {
+        @Index(name = "ux_documents_slug", columnList = "slug", unique = true)
+})
 @Getter
 @Setter
 public class Document {
+    /**
+     * 문서 ID. 시퀀스에서 allocationSize만큼 미리 할당받아 INSERT를 JDBC 배치로 묶을 수 있게 합니다.
+     * (IDENTITY는 INSERT마다 생성 키를 받아야 하므로 Hibernate가 배치를 쓰지 못합니다.)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_seq")
+    @SequenceGenerator(name = "document_seq", sequenceName = "document_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String title;
 
+    /**
+     * 제목을 정규화한 슬러그 (Slugs.of). 제목 중복을 막는 유니크 인덱스이자 제목 조회 키입니다.
+     * - 서버가 제목에서 만들며, 기능 추가 이전에 저장된 문서는 검색 색인 구성 시 채워질 때까지 null일 수 있습니다.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String slug;
+
     @Column(columnDefinition = "LONGTEXT", nullable = false)
     private String content;
 
     @Enumerated(EnumType.STRING)
     private ContentFormat contentFormat;
 
-    @ManyToOne
+    /**
+     * 본문 SHA-256 (소문자 16진수). 렌더링 결과 등 본문 기준 캐시의 키로 사용합니다.
+     */
+    @Column(length = 64)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String contentHash;
+
+    /**
+     * 작성자 (지연 로딩). 조회 응답(DocumentView)에는 포함하지 않으므로 문서 조회가 users를 함께 읽지 않습니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
     private User author;
 
+    /**
+     * 히스토리 컬렉션 (지연 로딩).
+     * - 조회 응답에는 포함하지 않습니다. 히스토리는 DocumentHistoryRepository의 페이지 조회를 사용합니다.
+     */
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL)
-    @JsonManagedReference
+    @JsonIgnore
     private List<DocumentHistory> latestHistory = new ArrayList<>();
 
+    /**
+     * 지금까지 쌓인 히스토리 리비전 수 (다음 히스토리의 리비전 번호).
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int revisionCount;
+
+    /**
+     * 낙관적 락 버전. 수정될 때마다 1씩 증가하며 ETag("v{version}")로 노출됩니다.
+     * - 히스토리 리비전 v에는 버전 v 시점의 본문이 저장되므로, If-Match 버전으로 3-way 병합의 기준 본문을 복원할 수 있습니다.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
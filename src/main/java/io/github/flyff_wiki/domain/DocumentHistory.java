@@ -2,13 +2,16 @@ package io.github.flyff_wiki.domain;
 
 import java.time.LocalDateTime;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +23,10 @@ import lombok.Setter;
  * - 참고사항: Document와 양방향 관계를 구성할 때 Document.addHistory를 사용하면 안전합니다.
  */
 @Entity
-@Table(name = "document_history")
+@Table(name = "document_history", indexes = {
+        @Index(name = "ux_document_history_revision", columnList = "document_id, revision", unique = true),
+        @Index(name = "idx_document_history_edited_at", columnList = "document_id, edited_at")
+})
 @Getter
 @Setter
 public class DocumentHistory {
@@ -32,29 +38,52 @@ public class DocumentHistory {
     private Long id;
 
     /**
-     * 어떤 문서의 히스토리인지 나타내는 연관 관계.
+     * 어떤 문서의 히스토리인지 나타내는 연관 관계 (지연 로딩).
+     * - 리비전 복원 시 히스토리 행마다 documents를 다시 읽지 않도록 LAZY로 둡니다.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "document_id")
-    @JsonBackReference
+    @JsonIgnore
     private Document document;
 
     /**
-     * 편집을 수행한 사용자 (없으면 null 허용).
+     * 편집을 수행한 사용자 (없으면 null 허용, 지연 로딩).
+     * - EAGER이면 히스토리 조회마다 편집자 수만큼 users SELECT가 추가됩니다 (N+1).
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
+    @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
     private User editor;
 
+    /**
+     * 문서 안에서의 리비전 번호 (0부터 1씩 증가).
+     */
+    private int revision;
+
+    /**
+     * 전체 본문을 content에 보관하는 키프레임 여부.
+     * - false이면 content는 null이고 직전 리비전 대비 delta만 보관합니다.
+     */
+    private boolean keyframe;
+
     /**
      * 편집 이전 혹은 이후의 본문 스냅샷 (서비스 정책에 따름).
+     * - 키프레임에만 채워집니다. 델타 리비전의 본문은 RevisionStore.reconstruct로 복원합니다.
      */
     @Column(columnDefinition = "LONGTEXT")
     private String content;
 
+    /**
+     * 직전 리비전 본문을 기준으로 한 TextDelta 인코딩 (키프레임이면 null).
+     */
+    @Column(columnDefinition = "LONGBLOB")
+    @JsonIgnore
+    private byte[] delta;
+
     /**
      * 편집 시각.
      */
+    @Column(name = "edited_at")
     private LocalDateTime editedAt;
 
     /**
@@ -0,0 +1,40 @@
+package io.github.flyff_wiki.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * MARKDOWN 본문을 렌더링한 HTML 결과를 보관하는 엔티티입니다.
+ * - 키는 "{렌더러 버전}:{본문 SHA-256}"이므로 같은 본문은 문서/리비전과 관계없이 한 번만 렌더링됩니다.
+ */
+@Entity
+@Table(name = "rendered_content")
+@Getter
+@Setter
+public class RenderedContent {
+    /**
+     * 렌더 키 ("{rendererVersion}:{contentHash}").
+     */
+    @Id
+    @Column(length = 80)
+    private String renderKey;
+
+    /**
+     * 결과를 만든 렌더러 버전. 현재 버전과 다르면 재렌더링 대상입니다.
+     */
+    private int rendererVersion;
+
+    /**
+     * 정제(sanitize)된 HTML.
+     */
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String html;
+
+    private LocalDateTime renderedAt;
+}
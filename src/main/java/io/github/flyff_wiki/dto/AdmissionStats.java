@@ -0,0 +1,11 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 요청 종류(read/write) 하나의 입장 제어 상태입니다.
+ * - limit: 현재 동시 처리 한도, inFlight: 처리 중인 요청 수
+ * - accepted/shed: 누적 입장/거절 수, dropped: 입장했지만 과부하(503)로 끝난 수
+ * - shortRttMillis/longRttMillis: 마지막 측정 구간의 평균 응답 시간과 그 장기 이동 평균
+ */
+public record AdmissionStats(String requestClass, int limit, int inFlight, long accepted, long shed, long dropped,
+        double shortRttMillis, double longRttMillis) {
+}
@@ -0,0 +1,10 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 문서로 들어오는 링크(역링크) 조회 결과입니다.
+ * - total: 전체 역링크 수, sources: 출발 문서 (ID 오름차순, 최대 limit개)
+ */
+public record Backlinks(Long documentId, int total, List<DocumentLink> sources) {
+}
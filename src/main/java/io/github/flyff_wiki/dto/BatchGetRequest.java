@@ -0,0 +1,11 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 문서 일괄 조회 요청입니다.
+ * - ids: 조회할 문서 ID (응답은 이 순서를 따름)
+ * - fields: 응답에 담을 필드 이름 (DocumentView의 JSON 필드명, 생략하면 전체). 예: ["title", "version"]
+ */
+public record BatchGetRequest(List<Long> ids, List<String> fields) {
+}
@@ -0,0 +1,12 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문서 일괄 조회 응답입니다.
+ * - documents: 찾은 문서를 요청 순서대로 (같은 ID를 여러 번 요청해도 한 번만). 요청한 필드와 id만 담습니다.
+ * - missing: 존재하지 않는 문서 ID (요청 순서)
+ */
+public record BatchGetResponse(List<Map<String, Object>> documents, List<Long> missing) {
+}
@@ -0,0 +1,10 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 아직 문서가 없는 링크 대상입니다.
+ * - target: 대상 슬러그, sourceCount: 이 대상을 링크한 문서 수, sources: 링크한 문서 ID (오름차순, 일부만)
+ */
+public record BrokenLink(String target, int sourceCount, List<Long> sources) {
+}
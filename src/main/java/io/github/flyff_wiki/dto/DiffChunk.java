@@ -0,0 +1,16 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 두 리비전 비교 결과의 한 구간입니다.
+ * - EQUAL/DELETE/INSERT: text는 해당 토큰(줄 또는 단어)을 이어 붙인 원문이고, tokens는 토큰 수입니다.
+ * - SKIP: 변경 사이의 긴 공통 구간을 생략한 자리입니다. text는 null이고 tokens는 생략한 토큰 수입니다.
+ */
+public record DiffChunk(Op op, String text, int tokens) {
+
+    public enum Op {
+        EQUAL,
+        DELETE,
+        INSERT,
+        SKIP
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 409 Conflict 응답 본문입니다. 클라이언트가 3-way 병합을 할 수 있도록 기준/현재 본문을 함께 담습니다.
+ * - baseContent: 클라이언트가 편집을 시작한 버전(expectedVersion)의 본문. 기대 버전이 없거나 복원할 수 없으면 null
+ * - current: 현재 커밋된 문서 (currentVersion은 current.version()과 같음)
+ */
+public record DocumentConflict(
+        Long documentId,
+        Long expectedVersion,
+        Long currentVersion,
+        String baseContent,
+        DocumentView current) {
+}
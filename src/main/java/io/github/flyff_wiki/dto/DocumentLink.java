@@ -0,0 +1,8 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 링크 그래프 질의 결과의 문서 한 건입니다.
+ * - id: 문서 ID (깨진 링크 대상처럼 문서가 없으면 null), slug: 문서 슬러그 또는 링크 대상 슬러그
+ */
+public record DocumentLink(Long id, String slug) {
+}
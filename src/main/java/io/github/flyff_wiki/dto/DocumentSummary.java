@@ -0,0 +1,28 @@
+package io.github.flyff_wiki.dto;
+
+import java.time.LocalDateTime;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+
+/**
+ * 본문을 뺀 문서 projection입니다 (본문이 필요 없는 일괄 조회용, LONGTEXT 컬럼을 읽지 않음).
+ */
+public record DocumentSummary(
+        Long id,
+        String title,
+        String slug,
+        ContentFormat contentFormat,
+        String contentHash,
+        int revisionCount,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * content가 null인 조회용 응답으로 바꿉니다.
+     */
+    public DocumentView toView() {
+        return new DocumentView(id, title, slug, null, contentFormat, contentHash, revisionCount, version, createdAt,
+                updatedAt);
+    }
+}
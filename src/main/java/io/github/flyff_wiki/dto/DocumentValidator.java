@@ -0,0 +1,9 @@
+package io.github.flyff_wiki.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 GET(304) 판단에 필요한 문서 검증자(version, updatedAt)입니다. 본문은 담지 않습니다.
+ */
+public record DocumentValidator(Long version, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,41 @@
+package io.github.flyff_wiki.dto;
+
+import java.time.LocalDateTime;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+
+/**
+ * 문서 조회 응답 DTO입니다.
+ * - 현재 본문과 리비전 수만 담고, 히스토리는 /document/{id}/history에서 따로 조회합니다.
+ */
+public record DocumentView(
+        Long id,
+        String title,
+        String slug,
+        String content,
+        ContentFormat contentFormat,
+        String contentHash,
+        int revisionCount,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * 엔티티를 응답 DTO로 변환합니다.
+     * - 주의사항: latestHistory에는 접근하지 않으므로 히스토리 컬렉션이 로딩되지 않습니다.
+     */
+    public static DocumentView from(Document document) {
+        return new DocumentView(
+                document.getId(),
+                document.getTitle(),
+                document.getSlug(),
+                document.getContent(),
+                document.getContentFormat(),
+                document.getContentHash(),
+                document.getRevisionCount(),
+                document.getVersion(),
+                document.getCreatedAt(),
+                document.getUpdatedAt());
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.flyff_wiki.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 히스토리 키셋 페이지네이션 커서입니다. (editedAt, id) 내림차순 정렬 기준의 마지막 항목을 가리킵니다.
+ * - 토큰 형식: "{editedAt ISO-8601}_{id}" (예: 2026-01-01T12:00:00.123_42)
+ */
+public record HistoryCursor(LocalDateTime editedAt, Long id) {
+
+    /**
+     * 페이지의 마지막 항목으로 다음 페이지 커서를 만듭니다.
+     */
+    public static HistoryCursor of(HistoryEntry entry) {
+        return new HistoryCursor(entry.editedAt(), entry.id());
+    }
+
+    /**
+     * 클라이언트가 보낸 토큰을 커서로 해석합니다.
+     * - 주의사항: 형식이 잘못되면 IllegalArgumentException을 던집니다.
+     */
+    public static HistoryCursor parse(String token) {
+        int separator = token.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid history cursor: " + token);
+        }
+        try {
+            return new HistoryCursor(
+                    LocalDateTime.parse(token.substring(0, separator)),
+                    Long.parseLong(token.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid history cursor: " + token, e);
+        }
+    }
+
+    public String toToken() {
+        return editedAt + "_" + id;
+    }
+}
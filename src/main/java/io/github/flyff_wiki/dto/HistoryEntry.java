@@ -0,0 +1,15 @@
+package io.github.flyff_wiki.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 히스토리 목록의 한 항목입니다. 본문은 포함하지 않습니다.
+ * - 본문이 필요하면 /document/{id}/history/{revision}으로 조회합니다.
+ */
+public record HistoryEntry(
+        Long id,
+        int revision,
+        LocalDateTime editedAt,
+        String changeDescription,
+        Long editorId) {
+}
@@ -0,0 +1,10 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 히스토리 한 페이지 응답입니다.
+ * - nextCursor가 null이면 마지막 페이지입니다.
+ */
+public record HistoryPage(List<HistoryEntry> entries, String nextCursor) {
+}
@@ -0,0 +1,8 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 일괄 가져오기 결과입니다.
+ * - batches: 커밋한 배치(트랜잭션) 수, rowsPerSecond: 전체 소요 시간 기준 처리량
+ */
+public record ImportResult(int imported, int batches, long elapsedMillis, double rowsPerSecond) {
+}
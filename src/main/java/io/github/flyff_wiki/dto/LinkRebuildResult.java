@@ -0,0 +1,8 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 링크 그래프 전체 재구성 결과입니다.
+ * - documents: 읽은 문서 수, links: 문서 사이 링크(간선) 수
+ */
+public record LinkRebuildResult(int documents, long links, long elapsedMillis) {
+}
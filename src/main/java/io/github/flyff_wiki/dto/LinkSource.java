@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 링크 그래프 재구성 시 읽는 문서 projection입니다. version은 늦게 도착한 변경 이벤트를 걸러 내는 데 씁니다.
+ */
+public record LinkSource(Long id, String title, String content, Long version) {
+}
@@ -0,0 +1,10 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 들어오는 링크가 없는 문서 목록의 한 페이지입니다.
+ * - nextAfter: 다음 페이지 요청에 넘길 커서 (마지막 페이지면 null)
+ */
+public record OrphanPage(List<DocumentLink> documents, Long nextAfter) {
+}
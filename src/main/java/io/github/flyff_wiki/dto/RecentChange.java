@@ -0,0 +1,19 @@
+package io.github.flyff_wiki.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최근 변경 피드의 한 항목입니다.
+ * - sequence: 노드 안에서 단조 증가하는 변경 번호 (SSE 이벤트 ID로도 쓰입니다)
+ * - revision: 변경 후 현재 본문의 리비전 번호 (diff API의 to로 그대로 쓸 수 있음)
+ */
+public record RecentChange(
+        long sequence,
+        Long documentId,
+        String title,
+        int revision,
+        Long version,
+        boolean created,
+        int contentLength,
+        LocalDateTime changedAt) {
+}
@@ -0,0 +1,11 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 최근 변경 목록 응답입니다.
+ * - changes: 최신순 목록
+ * - lastSequence: 이 노드에서 마지막으로 발급한 변경 번호. 다음 조회의 since로 넘기면 그 이후 변경만 받습니다.
+ */
+public record RecentChanges(long lastSequence, List<RecentChange> changes) {
+}
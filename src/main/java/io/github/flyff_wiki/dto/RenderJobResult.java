@@ -0,0 +1,9 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 일괄 재렌더링 작업 결과입니다.
+ * - rendered: 새로 렌더링한 본문 수, skipped: 이미 현재 버전 결과가 있어 건너뛴 수
+ * - removedStale: 삭제한 이전 렌더러 버전 결과 수
+ */
+public record RenderJobResult(int documents, int rendered, int skipped, int removedStale, long elapsedMillis) {
+}
@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 일괄 재렌더링 작업이 읽는 문서 본문 projection입니다. 히스토리/작성자는 포함하지 않습니다.
+ */
+public record RenderSource(Long id, String contentHash, String content) {
+}
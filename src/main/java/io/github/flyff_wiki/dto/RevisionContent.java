@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 특정 리비전의 복원된 전체 본문 응답입니다.
+ */
+public record RevisionContent(Long documentId, int revision, String content) {
+}
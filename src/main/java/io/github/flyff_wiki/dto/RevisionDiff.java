@@ -0,0 +1,20 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 두 리비전의 비교 응답입니다.
+ * - from/to: 리비전 번호 (to가 revisionCount이면 현재 본문)
+ * - deleted/inserted: 지운/추가한 토큰 수
+ * - truncated: 시간/비용 한도에 걸려 일부 구간을 통째로 교체(DELETE + INSERT)로 표시했으면 true
+ */
+public record RevisionDiff(
+        Long documentId,
+        int from,
+        int to,
+        String granularity,
+        int deleted,
+        int inserted,
+        boolean truncated,
+        List<DiffChunk> chunks) {
+}
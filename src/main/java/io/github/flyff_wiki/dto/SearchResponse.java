@@ -0,0 +1,10 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 검색 응답입니다.
+ * - totalMatches: 모든 검색어 토큰을 포함하는 문서 수, results: 점수 상위 결과
+ */
+public record SearchResponse(String query, int totalMatches, List<SearchResult> results, long tookMicros) {
+}
@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 검색 결과 한 건입니다. snippet은 평문 발췌입니다.
+ */
+public record SearchResult(Long id, String title, float score, String snippet) {
+}
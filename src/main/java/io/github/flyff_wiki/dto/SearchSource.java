@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 검색 색인 재구성 시 읽는 문서 projection입니다.
+ */
+public record SearchSource(Long id, String title, String content) {
+}
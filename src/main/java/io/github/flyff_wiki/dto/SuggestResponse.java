@@ -0,0 +1,10 @@
+package io.github.flyff_wiki.dto;
+
+import java.util.List;
+
+/**
+ * 제목 자동 완성 응답입니다.
+ * - suggestions: 입력을 슬러그 접두사로 가진 문서를 슬러그 사전 순으로 정렬한 목록
+ */
+public record SuggestResponse(String query, List<TitleSuggestion> suggestions, long tookMicros) {
+}
@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 슬러그가 비어 있는 문서를 채울 때 읽는 제목 projection입니다.
+ */
+public record TitleSource(Long id, String title) {
+}
@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.dto;
+
+/**
+ * 제목 자동 완성 항목입니다. slug로 /document/lookup?title=을 호출하면 문서를 조회할 수 있습니다.
+ */
+public record TitleSuggestion(Long id, String title, String slug) {
+}
@@ -0,0 +1,28 @@
+package io.github.flyff_wiki.event;
+
+import io.github.flyff_wiki.dto.DocumentView;
+
+/**
+ * 문서가 생성되거나 수정되었을 때 DocumentService가 발행하는 이벤트입니다.
+ * - 캐시/색인 등 파생 데이터는 @TransactionalEventListener로 커밋 이후에 이 이벤트를 받아 갱신합니다.
+ * - document: 저장 직후 상태의 조회용 스냅샷
+ * - created: 신규 생성이면 true, 기존 문서 수정이면 false
+ * - previousSlug: 수정 전 슬러그 (신규 생성이거나 알 수 없으면 null). 제목이 바뀌면 자동 완성 색인이 옛 항목을 지웁니다.
+ */
+public record DocumentChangedEvent(DocumentView document, boolean created, String previousSlug) {
+
+    public DocumentChangedEvent(DocumentView document, boolean created) {
+        this(document, created, null);
+    }
+
+    public Long documentId() {
+        return document.id();
+    }
+
+    /**
+     * 이번 변경으로 슬러그가 바뀌었으면 true입니다.
+     */
+    public boolean slugChanged() {
+        return previousSlug != null && !previousSlug.equals(document.slug());
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.flyff_wiki.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.github.flyff_wiki.revision.HistoryWriteBehind;
+import io.github.flyff_wiki.revision.TextDelta;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 문서와 히스토리를 엔티티로 만들지 않고 JDBC 커서에서 바로 JSON으로 써 내려가는 내보내기 도구입니다.
+ * - 현재 본문(LONGTEXT)은 getCharacterStream으로 읽어 조각 단위로 출력하므로 본문 크기만큼 힙을 쓰지 않습니다.
+ * - 히스토리 본문은 리비전 오름차순으로 읽으며 직전 리비전 하나만 들고 델타를 적용합니다.
+ * - 커서는 TYPE_FORWARD_ONLY/CONCUR_READ_ONLY + fetchSize로 열어 드라이버가 행을 나눠 가져오게 합니다.
+ * - 주의사항: 응답 스트림에 쓰는 도중 실패하면 상태 코드를 바꿀 수 없으므로, 존재 확인은 호출 전에 해야 합니다.
+ */
+@Component
+public class DocumentExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentExporter.class);
+
+    private static final String DOCUMENT_COLUMNS =
+            "id, title, content_format, content_hash, revision_count, version, created_at, updated_at, content";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HistoryWriteBehind historyWriteBehind;
+
+    @Value("${flyff.export.fetch-size:100}")
+    private int fetchSize;
+
+    /**
+     * 한 문서를 JSON 객체 하나로 씁니다. history에는 리비전별 메타데이터와 (요청 시) 복원된 본문이 들어갑니다.
+     * - 인자: id (문서 ID), includeHistoryContent (리비전 본문 포함 여부), out (응답 스트림, 닫지 않음)
+     * - 주의사항: 쓰기 지연 중인 리비전이 있으면 DB에 저장될 때까지 잠시 기다린 뒤 커서를 엽니다.
+     *   기다린 뒤에도 기준 리비전이 없는 델타는 본문 대신 error 필드를 쓰고 다음 키프레임까지 건너뜁니다.
+     *   응답이 중간에 끊기지 않도록 예외를 던지지 않습니다.
+     */
+    public void writeDocument(Long id, boolean includeHistoryContent, OutputStream out) {
+        if (!historyWriteBehind.awaitPersisted(id, Duration.ofSeconds(5))) {
+            logger.warn("History of document {} is still being written, export may miss recent revisions", id);
+        }
+        try (JsonGenerator generator = generator(out)) {
+            jdbcTemplate.execute((Connection connection) -> {
+                try (PreparedStatement statement = cursor(connection,
+                        "select " + DOCUMENT_COLUMNS + " from documents where id = ?")) {
+                    statement.setLong(1, id);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        if (!rs.next()) {
+                            generator.writeNull();
+                            return null;
+                        }
+                        generator.writeStartObject();
+                        writeDocumentFields(generator, rs);
+                    }
+                }
+                generator.writeName("history");
+                generator.writeStartArray();
+                writeHistory(connection, generator, id, includeHistoryContent);
+                generator.writeEndArray();
+                generator.writeEndObject();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 모든 문서를 id 순으로 NDJSON(한 줄에 문서 하나, 히스토리 제외)으로 씁니다.
+     * - 인자: out (응답 스트림 또는 GZIPOutputStream, 닫지 않음)
+     * - 리턴값: 내보낸 문서 수
+     */
+    public long writeAll(OutputStream out) {
+        long start = System.nanoTime();
+        long[] count = { 0 };
+        try (JsonGenerator generator = generator(out)) {
+            jdbcTemplate.execute((Connection connection) -> {
+                try (PreparedStatement statement = cursor(connection,
+                        "select " + DOCUMENT_COLUMNS + " from documents order by id");
+                        ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        generator.writeStartObject();
+                        writeDocumentFields(generator, rs);
+                        generator.writeEndObject();
+                        generator.writeRaw('\n');
+                        count[0]++;
+                    }
+                }
+                return null;
+            });
+        }
+        logger.info("Exported {} documents in {} ms", count[0], (System.nanoTime() - start) / 1_000_000);
+        return count[0];
+    }
+
+    private JsonGenerator generator(OutputStream out) {
+        return objectMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET).createGenerator(out);
+    }
+
+    private PreparedStatement cursor(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        return statement;
+    }
+
+    /**
+     * 현재 행의 문서 필드를 씁니다. content는 마지막 열이며 Reader로 흘려보냅니다.
+     */
+    private void writeDocumentFields(JsonGenerator generator, ResultSet rs) throws SQLException {
+        generator.writeNumberProperty("id", rs.getLong("id"));
+        generator.writeStringProperty("title", rs.getString("title"));
+        generator.writeStringProperty("contentFormat", rs.getString("content_format"));
+        generator.writeStringProperty("contentHash", rs.getString("content_hash"));
+        generator.writeNumberProperty("revisionCount", rs.getInt("revision_count"));
+        generator.writeNumberProperty("version", rs.getLong("version"));
+        writeTimestamp(generator, "createdAt", rs.getTimestamp("created_at"));
+        writeTimestamp(generator, "updatedAt", rs.getTimestamp("updated_at"));
+        generator.writeName("content");
+        try (Reader content = rs.getCharacterStream("content")) {
+            if (content == null) {
+                generator.writeNull();
+            } else {
+                generator.writeString(content, -1);
+            }
+        } catch (IOException e) {
+            throw new SQLException("Failed to stream document content", e);
+        }
+    }
+
+    private void writeHistory(Connection connection, JsonGenerator generator, Long id, boolean includeContent)
+            throws SQLException {
+        String columns = includeContent
+                ? "id, revision, keyframe, edited_at, change_description, user_id, content, delta"
+                : "id, revision, keyframe, edited_at, change_description, user_id";
+        try (PreparedStatement statement = cursor(connection,
+                "select " + columns + " from document_history where document_id = ? order by revision")) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                String previous = null;
+                int previousRevision = -1;
+                while (rs.next()) {
+                    int revision = rs.getInt("revision");
+                    generator.writeStartObject();
+                    generator.writeNumberProperty("id", rs.getLong("id"));
+                    generator.writeNumberProperty("revision", revision);
+                    writeTimestamp(generator, "editedAt", rs.getTimestamp("edited_at"));
+                    generator.writeStringProperty("changeDescription", rs.getString("change_description"));
+                    long editorId = rs.getLong("user_id");
+                    if (rs.wasNull()) {
+                        generator.writeNullProperty("editorId");
+                    } else {
+                        generator.writeNumberProperty("editorId", editorId);
+                    }
+                    if (includeContent) {
+                        if (rs.getBoolean("keyframe")) {
+                            previous = rs.getString("content") == null ? "" : rs.getString("content");
+                        } else if (previous != null && previousRevision == revision - 1) {
+                            previous = TextDelta.apply(previous, rs.getBytes("delta"));
+                        } else {
+                            previous = null;
+                        }
+                        if (previous == null) {
+                            logger.warn("Base of document {} revision {} is not stored, exporting it without content",
+                                    id, revision);
+                            generator.writeNullProperty("content");
+                            generator.writeStringProperty("error", "Base revision not stored");
+                        } else {
+                            generator.writeStringProperty("content", previous);
+                            previousRevision = revision;
+                        }
+                    }
+                    generator.writeEndObject();
+                }
+            }
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, String name, Timestamp timestamp) {
+        if (timestamp == null) {
+            generator.writeNullProperty(name);
+        } else {
+            generator.writeStringProperty(name, timestamp.toLocalDateTime().toString());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.flyff_wiki.links;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.github.flyff_wiki.support.Slugs;
+
+/**
+ * 본문에서 다른 문서로 가는 링크를 찾아 대상 슬러그 목록으로 만듭니다. MARKDOWN/HTML 모두 같은 규칙을 씁니다.
+ * - 위키 링크: [[제목]], [[제목|표시 이름]], [[제목#절]]
+ * - 경로 링크: [표시](/wiki/제목) 또는 href="/wiki/제목" (퍼센트 인코딩은 풀고, ?쿼리와 #절은 버림)
+ * - 대상은 Slugs.of로 정규화하므로 제목/슬러그/대소문자 차이와 관계없이 같은 문서를 가리킵니다.
+ */
+public final class LinkExtractor {
+
+    /**
+     * 문서 하나에서 읽는 최대 링크 수입니다. 넘는 링크는 버립니다.
+     */
+    public static final int MAX_LINKS = 10_000;
+
+    private static final String[] NO_LINKS = new String[0];
+    private static final Pattern WIKI_LINK = Pattern.compile(
+            "\\[\\[([^\\[\\]|#\\n]+)(?:#[^\\]|\\n]*)?(?:\\|[^\\]\\n]*)?]]");
+    private static final Pattern WIKI_PATH = Pattern.compile("(?:]\\(|href\\s*=\\s*[\"'])/wiki/([^)\"'#?\\s]+)");
+
+    private LinkExtractor() {
+    }
+
+    /**
+     * 본문의 링크 대상 슬러그를 정렬/중복 제거하여 반환합니다.
+     * - 인자: content (본문, null 허용), selfSlug (문서 자신의 슬러그. 자기 자신으로 가는 링크는 뺌)
+     * - 리턴값: 대상 슬러그 배열 (사전 순, 중복 없음)
+     */
+    public static String[] extract(String content, String selfSlug) {
+        if (content == null || content.isEmpty()) {
+            return NO_LINKS;
+        }
+        TreeSet<String> targets = new TreeSet<>();
+        Matcher wikiLinks = WIKI_LINK.matcher(content);
+        while (wikiLinks.find() && targets.size() < MAX_LINKS) {
+            add(targets, wikiLinks.group(1), selfSlug);
+        }
+        if (content.contains("/wiki/")) {
+            Matcher paths = WIKI_PATH.matcher(content);
+            while (paths.find() && targets.size() < MAX_LINKS) {
+                try {
+                    add(targets, URLDecoder.decode(paths.group(1), StandardCharsets.UTF_8), selfSlug);
+                } catch (IllegalArgumentException e) {
+                    // 잘못된 퍼센트 인코딩은 링크로 보지 않습니다.
+                }
+            }
+        }
+        return targets.isEmpty() ? NO_LINKS : targets.toArray(NO_LINKS);
+    }
+
+    private static void add(TreeSet<String> targets, String target, String selfSlug) {
+        String slug = Slugs.of(target);
+        if (!slug.isEmpty() && !slug.equals(selfSlug)) {
+            targets.add(slug);
+        }
+    }
+}
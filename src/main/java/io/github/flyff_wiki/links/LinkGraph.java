@@ -0,0 +1,354 @@
+package io.github.flyff_wiki.links;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문서 사이의 링크 그래프를 메모리에 담습니다. 역링크(backlink), 고아 문서, 깨진 링크 질의에 씁니다.
+ * - 구조: 나가는 링크는 문서 ID -> 대상 슬러그 배열(정렬), 들어오는 링크는 대상 슬러그 -> 출발 문서 ID long[](정렬)입니다.
+ *   엔티티나 Set&lt;Long&gt; 대신 원시 배열을 두어 간선 하나가 8바이트만 차지합니다.
+ * - 대상을 문서 ID가 아니라 슬러그로 잇기 때문에, 아직 없는 문서로 가는 링크(깨진 링크)도 같은 구조에 남고
+ *   그 제목으로 문서가 생기면 별도 작업 없이 역링크가 됩니다.
+ * - 갱신: update가 이전 링크 목록과 새 목록을 병합 비교하여 바뀐 간선만 고칩니다.
+ *   문서마다 마지막으로 반영한 버전을 기억하여, 그보다 오래된 버전의 갱신은 버립니다 (이벤트가 순서 없이 도착해도 안전).
+ * - 동시성: SearchIndex/TitleTrie와 같이 읽기/쓰기 락으로 질의는 동시에, 갱신은 단독으로 수행합니다.
+ */
+public class LinkGraph {
+
+    private static final long[] NO_SOURCES = new long[0];
+    private static final String[] NO_TARGETS = new String[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, String[]> targetsBySource;
+    private final Map<String, long[]> sourcesByTarget;
+    private final Map<Long, String> slugByDocument;
+    private final Map<String, Long> documentBySlug;
+    private final Map<Long, Long> versionByDocument;
+    private long linkCount;
+
+    public LinkGraph() {
+        this(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), 0);
+    }
+
+    private LinkGraph(Map<Long, String[]> targetsBySource, Map<String, long[]> sourcesByTarget,
+            Map<Long, String> slugByDocument, Map<String, Long> documentBySlug, Map<Long, Long> versionByDocument,
+            long linkCount) {
+        this.targetsBySource = targetsBySource;
+        this.sourcesByTarget = sourcesByTarget;
+        this.slugByDocument = slugByDocument;
+        this.documentBySlug = documentBySlug;
+        this.versionByDocument = versionByDocument;
+        this.linkCount = linkCount;
+    }
+
+    /**
+     * 문서의 슬러그와 나가는 링크를 한 번에 반영합니다 (문서 생성/수정).
+     * - 인자: documentId (문서 ID), version (문서 버전, 모르면 음수), slug (현재 슬러그),
+     *   previousSlug (제목이 바뀌었으면 이전 슬러그, 아니면 null), targets (LinkExtractor.extract 결과, 정렬/중복 없음)
+     * - 리턴값: 추가/삭제된 간선 수. 이미 더 새 버전을 반영했으면 아무것도 바꾸지 않고 stale이 true입니다.
+     */
+    public LinkChange update(long documentId, long version, String slug, String previousSlug, String[] targets) {
+        lock.writeLock().lock();
+        try {
+            if (version >= 0) {
+                Long applied = versionByDocument.get(documentId);
+                if (applied != null && version < applied) {
+                    return LinkChange.STALE;
+                }
+                versionByDocument.put(documentId, version);
+            }
+            if (previousSlug != null && !previousSlug.equals(slug)) {
+                documentBySlug.remove(previousSlug, documentId);
+            }
+            String oldSlug = slugByDocument.put(documentId, slug);
+            if (oldSlug != null && !oldSlug.equals(slug)) {
+                documentBySlug.remove(oldSlug, documentId);
+            }
+            documentBySlug.put(slug, documentId);
+            return setLinks(documentId, targets);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서로 들어오는 링크의 출발 문서 ID를 오름차순으로 반환합니다 (모르는 문서면 빈 배열).
+     */
+    public long[] backlinks(long documentId) {
+        lock.readLock().lock();
+        try {
+            String slug = slugByDocument.get(documentId);
+            long[] sources = slug == null ? null : sourcesByTarget.get(slug);
+            return sources == null ? NO_SOURCES : sources.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서에서 나가는 링크의 대상 슬러그를 사전 순으로 반환합니다.
+     */
+    public String[] links(long documentId) {
+        lock.readLock().lock();
+        try {
+            String[] targets = targetsBySource.get(documentId);
+            return targets == null ? NO_TARGETS : targets.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 슬러그를 쓰는 문서 ID를 반환합니다 (없으면 null).
+     */
+    public Long documentId(String slug) {
+        lock.readLock().lock();
+        try {
+            return documentBySlug.get(slug);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서의 현재 슬러그를 반환합니다 (그래프에 없는 문서면 null).
+     */
+    public String slug(long documentId) {
+        lock.readLock().lock();
+        try {
+            return slugByDocument.get(documentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 들어오는 링크가 없는 문서를 ID 오름차순으로 limit개 반환합니다.
+     * - 인자: afterId (이 ID보다 큰 문서부터, 커서), limit (최대 결과 수)
+     * - 주의사항: 전체 문서를 한 번 훑습니다 (크기 limit인 힙으로 정렬 비용만 줄임). 관리 화면용 질의입니다.
+     */
+    public long[] orphans(long afterId, int limit) {
+        if (limit <= 0) {
+            return NO_SOURCES;
+        }
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Long> smallest = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+            for (Map.Entry<Long, String> document : slugByDocument.entrySet()) {
+                long id = document.getKey();
+                if (id <= afterId || sourcesByTarget.containsKey(document.getValue())) {
+                    continue;
+                }
+                if (smallest.size() < limit) {
+                    smallest.add(id);
+                } else if (id < smallest.peek()) {
+                    smallest.poll();
+                    smallest.add(id);
+                }
+            }
+            long[] orphans = smallest.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(orphans);
+            return orphans;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 없는 문서로 가는 링크를, 가리키는 문서가 많은 대상부터 limit개 반환합니다 ("필요한 문서" 목록).
+     * - 리턴값: 대상 슬러그와 그 슬러그를 링크한 문서 ID 목록
+     */
+    public List<DanglingTarget> broken(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Comparator<DanglingTarget> order = Comparator.<DanglingTarget>comparingInt(target -> target.sources().length)
+                .thenComparing(DanglingTarget::slug, Comparator.reverseOrder());
+        lock.readLock().lock();
+        try {
+            PriorityQueue<DanglingTarget> top = new PriorityQueue<>(limit + 1, order);
+            for (Map.Entry<String, long[]> target : sourcesByTarget.entrySet()) {
+                if (documentBySlug.containsKey(target.getKey())) {
+                    continue;
+                }
+                top.add(new DanglingTarget(target.getKey(), target.getValue()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<DanglingTarget> broken = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                DanglingTarget target = top.poll();
+                broken.add(new DanglingTarget(target.slug(), target.sources().clone()));
+            }
+            Collections.reverse(broken);
+            return broken;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return slugByDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long linkCount() {
+        lock.readLock().lock();
+        try {
+            return linkCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이전 링크 목록과 새 목록을 병합 비교하여 빠진 간선은 지우고 새 간선만 넣습니다. 쓰기 락 안에서 호출합니다.
+     */
+    private LinkChange setLinks(long sourceId, String[] targets) {
+        String[] previous = targetsBySource.getOrDefault(sourceId, NO_TARGETS);
+        int added = 0;
+        int removed = 0;
+        int i = 0;
+        int j = 0;
+        while (i < previous.length || j < targets.length) {
+            int compare = i == previous.length ? 1 : j == targets.length ? -1 : previous[i].compareTo(targets[j]);
+            if (compare < 0) {
+                removeSource(previous[i++], sourceId);
+                removed++;
+            } else if (compare > 0) {
+                addSource(targets[j++], sourceId);
+                added++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        if (targets.length == 0) {
+            targetsBySource.remove(sourceId);
+        } else {
+            targetsBySource.put(sourceId, targets);
+        }
+        linkCount += added - removed;
+        return new LinkChange(added, removed, false);
+    }
+
+    private void addSource(String target, long sourceId) {
+        long[] sources = sourcesByTarget.getOrDefault(target, NO_SOURCES);
+        int index = Arrays.binarySearch(sources, sourceId);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        long[] grown = new long[sources.length + 1];
+        System.arraycopy(sources, 0, grown, 0, insertAt);
+        grown[insertAt] = sourceId;
+        System.arraycopy(sources, insertAt, grown, insertAt + 1, sources.length - insertAt);
+        sourcesByTarget.put(target, grown);
+    }
+
+    private void removeSource(String target, long sourceId) {
+        long[] sources = sourcesByTarget.get(target);
+        int index = sources == null ? -1 : Arrays.binarySearch(sources, sourceId);
+        if (index < 0) {
+            return;
+        }
+        if (sources.length == 1) {
+            sourcesByTarget.remove(target);
+            return;
+        }
+        long[] shrunk = new long[sources.length - 1];
+        System.arraycopy(sources, 0, shrunk, 0, index);
+        System.arraycopy(sources, index + 1, shrunk, index, sources.length - index - 1);
+        sourcesByTarget.put(target, shrunk);
+    }
+
+    /**
+     * update 한 번으로 바뀐 간선 수입니다. stale이면 더 새 버전이 이미 반영되어 버린 갱신입니다.
+     */
+    public record LinkChange(int added, int removed, boolean stale) {
+
+        static final LinkChange STALE = new LinkChange(0, 0, true);
+    }
+
+    /**
+     * 문서가 없는 링크 대상과 그 대상을 가리키는 문서 ID(오름차순)입니다.
+     */
+    public record DanglingTarget(String slug, long[] sources) {
+    }
+
+    /**
+     * 전체 재구성용 빌더입니다. 간선을 대상별 버퍼에 덧붙이기만 하고 build에서 한 번 정렬하므로,
+     * 역링크가 많은 문서도 삽입마다 배열을 복사하지 않습니다.
+     * - 주의사항: 스레드 안전하지 않습니다. 한 스레드에서만 add를 호출합니다.
+     */
+    public static final class Builder {
+
+        private final Map<Long, String[]> targetsBySource = new HashMap<>();
+        private final Map<String, LongBuffer> sourcesByTarget = new HashMap<>();
+        private final Map<Long, String> slugByDocument = new HashMap<>();
+        private final Map<String, Long> documentBySlug = new HashMap<>();
+        private final Map<Long, Long> versionByDocument = new HashMap<>();
+        private long linkCount;
+
+        /**
+         * 문서 하나를 추가합니다. 같은 문서를 두 번 추가하지 않습니다.
+         * - 인자: documentId, version (문서 버전, 모르면 음수), slug, targets (LinkExtractor.extract 결과)
+         */
+        public Builder add(long documentId, long version, String slug, String[] targets) {
+            if (version >= 0) {
+                versionByDocument.put(documentId, version);
+            }
+            slugByDocument.put(documentId, slug);
+            documentBySlug.put(slug, documentId);
+            if (targets.length > 0) {
+                targetsBySource.put(documentId, targets);
+                for (String target : targets) {
+                    sourcesByTarget.computeIfAbsent(target, key -> new LongBuffer()).add(documentId);
+                }
+                linkCount += targets.length;
+            }
+            return this;
+        }
+
+        public LinkGraph build() {
+            Map<String, long[]> sources = new HashMap<>(sourcesByTarget.size() * 4 / 3 + 1);
+            sourcesByTarget.forEach((target, buffer) -> sources.put(target, buffer.toSortedArray()));
+            return new LinkGraph(targetsBySource, sources, slugByDocument, documentBySlug, versionByDocument,
+                    linkCount);
+        }
+    }
+
+    /**
+     * 크기가 늘어나는 long 배열입니다 (Builder 전용).
+     */
+    private static final class LongBuffer {
+
+        private long[] values = new long[2];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
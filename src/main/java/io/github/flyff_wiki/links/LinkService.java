@@ -0,0 +1,273 @@
+package io.github.flyff_wiki.links;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.github.flyff_wiki.dto.Backlinks;
+import io.github.flyff_wiki.dto.BrokenLink;
+import io.github.flyff_wiki.dto.DocumentLink;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.LinkRebuildResult;
+import io.github.flyff_wiki.dto.LinkSource;
+import io.github.flyff_wiki.dto.OrphanPage;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import io.github.flyff_wiki.repository.DocumentRepository;
+import io.github.flyff_wiki.support.Slugs;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 문서 본문의 링크로 만든 링크 그래프(LinkGraph)를 관리합니다.
+ * - 갱신: 문서 생성/수정이 커밋되면 새 본문의 링크를 뽑아 그래프에 남아 있는 이전 리비전의 링크와 비교하고,
+ *   바뀐 간선만 고칩니다. 이전 리비전 본문을 DB에서 다시 읽지 않습니다.
+ *   커밋 후 리스너는 순서 없이 실행될 수 있으므로, 갱신에 문서 버전을 실어 이미 반영한 버전보다 오래된 갱신은 버립니다.
+ * - 재구성: 시작 시(또는 관리 API로) 전체 문서를 id 키셋으로 읽고, 페이지별 링크 추출을 CPU 코어 수만큼 병렬로 실행한 뒤
+ *   새 그래프를 한 번에 교체합니다. 재구성 중 들어온 변경은 따로 모았다가 교체 직전에 새 그래프에 다시 적용합니다.
+ * - 질의: 역링크, 고아 문서, 깨진 링크는 모두 메모리 그래프에서 답하며 DB를 읽지 않습니다.
+ */
+@Service
+public class LinkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinkService.class);
+
+    static final int MAX_LIMIT = 500;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Value("${flyff.links.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private final ExecutorService linkExecutor;
+    private final int parallelism;
+    private final Object pendingLock = new Object();
+
+    private volatile LinkGraph graph = new LinkGraph();
+    private List<LinkUpdate> pendingDuringRebuild;
+
+    public LinkService() {
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.linkExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "links-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 문서로 링크 그래프를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildGraph() {
+        rebuild();
+    }
+
+    /**
+     * 문서 변경이 커밋되면 그 문서의 나가는 링크를 이전 리비전과 비교하여 반영합니다.
+     * - 주의사항: 재구성 중이면 같은 변경을 기록해 두었다가 새 그래프에도 적용합니다.
+     *   같은 문서의 더 새 버전이 먼저 반영되었으면 이 변경은 그래프가 버립니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        DocumentView document = event.document();
+        String slug = document.slug() != null ? document.slug() : Slugs.of(document.title());
+        LinkUpdate update = new LinkUpdate(document.id(), versionOf(document.version()), slug, event.previousSlug(),
+                LinkExtractor.extract(document.content(), slug));
+        LinkGraph current;
+        synchronized (pendingLock) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(update);
+            }
+            current = graph;
+        }
+        LinkGraph.LinkChange change = update.applyTo(current);
+        if (change.stale()) {
+            logger.debug("Skipped stale link update of document {} version {}", document.id(), document.version());
+        } else if (change.added() > 0 || change.removed() > 0) {
+            logger.debug("Links of document {} changed: +{} -{}", document.id(), change.added(), change.removed());
+        }
+    }
+
+    /**
+     * 전체 문서를 다시 읽어 링크 그래프를 새로 만듭니다.
+     * - 리턴값: 문서 수, 링크 수, 소요 시간
+     * - 동작 흐름: id 키셋으로 rebuildBatchSize씩 읽기 -> 페이지마다 링크 추출을 스레드풀에 제출
+     *   (동시에 처리 중인 페이지는 스레드 수의 2배까지, 본문을 메모리에 너무 많이 쌓지 않기 위함)
+     *   -> 끝난 페이지부터 순서대로 빌더에 추가 -> 재구성 중 들어온 변경 적용 -> 그래프 교체
+     * - 주의사항: 재구성은 한 번에 하나만 실행됩니다. 링크 스레드풀에서 호출하면 안 됩니다.
+     */
+    public synchronized LinkRebuildResult rebuild() {
+        long start = System.nanoTime();
+        synchronized (pendingLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        LinkGraph rebuilt;
+        int documents = 0;
+        try {
+            LinkGraph.Builder builder = new LinkGraph.Builder();
+            Deque<CompletableFuture<List<LinkUpdate>>> inFlight = new ArrayDeque<>();
+            long afterId = 0;
+            while (true) {
+                List<LinkSource> page = documentRepository.findLinkSources(afterId,
+                        PageRequest.of(0, rebuildBatchSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                inFlight.add(CompletableFuture.supplyAsync(() -> extract(page), linkExecutor));
+                documents += page.size();
+                afterId = page.get(page.size() - 1).id();
+                while (inFlight.size() >= parallelism * 2) {
+                    addAll(builder, inFlight.poll().join());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                addAll(builder, inFlight.poll().join());
+            }
+            rebuilt = builder.build();
+        } catch (RuntimeException e) {
+            synchronized (pendingLock) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (pendingLock) {
+            for (LinkUpdate update : pendingDuringRebuild) {
+                update.applyTo(rebuilt);
+            }
+            pendingDuringRebuild = null;
+            graph = rebuilt;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Link graph built from {} documents with {} links in {} ms", documents, rebuilt.linkCount(),
+                elapsedMillis);
+        return new LinkRebuildResult(documents, rebuilt.linkCount(), elapsedMillis);
+    }
+
+    /**
+     * 문서로 들어오는 링크를 조회합니다.
+     * - 인자: documentId (문서 ID), limit (최대 결과 수, 1 ~ MAX_LIMIT로 보정)
+     * - 리턴값: 전체 역링크 수와 출발 문서 (ID 오름차순)
+     * - 주의사항: 그래프에 없는 문서면 "Document not found" RuntimeException을 던집니다.
+     */
+    public Backlinks getBacklinks(Long documentId, int limit) {
+        LinkGraph current = graph;
+        requireDocument(current, documentId);
+        long[] sources = current.backlinks(documentId);
+        int count = Math.min(sources.length, clamp(limit));
+        List<DocumentLink> links = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            links.add(new DocumentLink(sources[i], current.slug(sources[i])));
+        }
+        return new Backlinks(documentId, sources.length, links);
+    }
+
+    /**
+     * 문서에서 나가는 링크를 대상 슬러그 사전 순으로 조회합니다. 문서가 없는 대상은 id가 null입니다.
+     * - 주의사항: 그래프에 없는 문서면 "Document not found" RuntimeException을 던집니다.
+     */
+    public List<DocumentLink> getLinks(Long documentId) {
+        LinkGraph current = graph;
+        requireDocument(current, documentId);
+        String[] targets = current.links(documentId);
+        List<DocumentLink> links = new ArrayList<>(targets.length);
+        for (String target : targets) {
+            links.add(new DocumentLink(current.documentId(target), target));
+        }
+        return links;
+    }
+
+    /**
+     * 들어오는 링크가 없는 문서를 ID 순으로 조회합니다.
+     * - 인자: afterId (커서, null이면 처음부터), limit (최대 결과 수, 1 ~ MAX_LIMIT로 보정)
+     */
+    public OrphanPage getOrphans(Long afterId, int limit) {
+        LinkGraph current = graph;
+        int size = clamp(limit);
+        long[] orphans = current.orphans(afterId == null ? 0 : afterId, size);
+        List<DocumentLink> documents = new ArrayList<>(orphans.length);
+        for (long id : orphans) {
+            documents.add(new DocumentLink(id, current.slug(id)));
+        }
+        Long nextAfter = orphans.length == size ? orphans[orphans.length - 1] : null;
+        return new OrphanPage(documents, nextAfter);
+    }
+
+    /**
+     * 아직 문서가 없는 링크 대상을 링크한 문서가 많은 순으로 조회합니다.
+     * - 인자: limit (최대 대상 수, 1 ~ MAX_LIMIT로 보정). 대상마다 출발 문서 ID는 앞쪽 MAX_LIMIT개까지만 담습니다.
+     */
+    public List<BrokenLink> getBrokenLinks(int limit) {
+        List<LinkGraph.DanglingTarget> targets = graph.broken(clamp(limit));
+        List<BrokenLink> broken = new ArrayList<>(targets.size());
+        for (LinkGraph.DanglingTarget target : targets) {
+            long[] sources = target.sources();
+            List<Long> shown = new ArrayList<>(Math.min(sources.length, MAX_LIMIT));
+            for (int i = 0; i < sources.length && i < MAX_LIMIT; i++) {
+                shown.add(sources[i]);
+            }
+            broken.add(new BrokenLink(target.slug(), sources.length, shown));
+        }
+        return broken;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        linkExecutor.shutdown();
+    }
+
+    private static List<LinkUpdate> extract(List<LinkSource> page) {
+        List<LinkUpdate> updates = new ArrayList<>(page.size());
+        for (LinkSource source : page) {
+            String slug = Slugs.of(source.title());
+            updates.add(new LinkUpdate(source.id(), versionOf(source.version()), slug, null,
+                    LinkExtractor.extract(source.content(), slug)));
+        }
+        return updates;
+    }
+
+    private static void addAll(LinkGraph.Builder builder, List<LinkUpdate> updates) {
+        for (LinkUpdate update : updates) {
+            builder.add(update.documentId(), update.version(), update.slug(), update.targets());
+        }
+    }
+
+    private static long versionOf(Long version) {
+        return version == null ? -1 : version;
+    }
+
+    private static void requireDocument(LinkGraph graph, Long documentId) {
+        if (documentId == null || graph.slug(documentId) == null) {
+            throw new RuntimeException("Document not found");
+        }
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * 문서 하나의 버전, 슬러그와 나가는 링크입니다. 재구성 중 들어온 변경을 다시 적용할 때도 씁니다.
+     */
+    private record LinkUpdate(long documentId, long version, String slug, String previousSlug, String[] targets) {
+
+        LinkGraph.LinkChange applyTo(LinkGraph graph) {
+            return graph.update(documentId, version, slug, previousSlug, targets);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.flyff_wiki.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.Repository;
+
+import io.github.flyff_wiki.service.DocumentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * DocumentService 공개 메서드와 위키 리포지토리 메서드에 Micrometer 타이머를 답니다.
+ * - 방식: @Transactional과 같은 인프라 어드바이저(ROLE_INFRASTRUCTURE)로 등록하므로 AspectJ 없이 기존 프록시에 붙습니다.
+ * - 이름: flyff.service.method / flyff.repository.method {class, method, exception}, 백분위 히스토그램 포함
+ * - 순서: 트랜잭션 어드바이스보다 바깥에서 측정하여 커밋 시간까지 포함합니다.
+ * - 끄기: flyff.metrics.hot-path.enabled=false (오버헤드 비교용)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "flyff.metrics.hot-path.enabled", havingValue = "true", matchIfMissing = true)
+public class HotPathMetricsConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor hotPathMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new HotPathPointcut(),
+                new TimingInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * DocumentService에 선언된 public 메서드와 io.github.flyff_wiki 리포지토리 인터페이스의 메서드만 고릅니다.
+     */
+    static final class HotPathPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            if (DocumentService.class.isAssignableFrom(targetClass)) {
+                return method.getDeclaringClass() == DocumentService.class
+                        && Modifier.isPublic(method.getModifiers());
+            }
+            return repositoryName(targetClass) != null
+                    && Repository.class.isAssignableFrom(method.getDeclaringClass());
+        }
+    }
+
+    /**
+     * 호출 시간을 재서 타이머에 기록합니다. 성공 경로의 Timer는 (대상 클래스, 메서드)별로 한 번만 만듭니다.
+     */
+    static final class TimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final Map<MethodKey, Timer> timers = new ConcurrentHashMap<>();
+
+        TimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                record(invocation, "none", System.nanoTime() - start);
+                return result;
+            } catch (Throwable e) {
+                record(invocation, e.getClass().getSimpleName(), System.nanoTime() - start);
+                throw e;
+            }
+        }
+
+        private void record(MethodInvocation invocation, String exception, long nanos) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            MethodKey key = new MethodKey(invocation.getThis() == null ? Object.class : invocation.getThis().getClass(),
+                    invocation.getMethod().getName(), exception);
+            timers.computeIfAbsent(key, k -> timer(registry, k)).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private static Timer timer(MeterRegistry registry, MethodKey key) {
+            String repository = repositoryName(key.targetClass());
+            boolean service = repository == null;
+            return Timer.builder(service ? "flyff.service.method" : "flyff.repository.method")
+                    .description(service ? "DocumentService method latency" : "Repository method latency")
+                    .tag("class", service ? "DocumentService" : repository)
+                    .tag("method", key.method())
+                    .tag("exception", key.exception())
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Spring Data 프록시 클래스가 구현한 위키 리포지토리 인터페이스 이름입니다. 리포지토리가 아니면 null입니다.
+     */
+    static String repositoryName(Class<?> targetClass) {
+        for (Class<?> type : targetClass.getInterfaces()) {
+            if (Repository.class.isAssignableFrom(type) && type.getName().startsWith("io.github.flyff_wiki.")) {
+                return type.getSimpleName();
+            }
+        }
+        return null;
+    }
+
+    private record MethodKey(Class<?> targetClass, String method, String exception) {
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.flyff_wiki.metrics;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메서드 타이머로 표현되지 않는 업무 카운터입니다.
+ * - flyff.history.rows.written{mode=sync|write-behind}: DB에 쓴 히스토리 행 수
+ * - flyff.content.served (bytes): 문서 조회 응답으로 내보낸 본문 바이트 수 (압축 후 크기)
+ */
+@Component
+public class WikiMetrics {
+
+    private final Counter historyRowsSync;
+    private final Counter historyRowsWriteBehind;
+    private final Counter contentServed;
+
+    public WikiMetrics(MeterRegistry meterRegistry) {
+        this.historyRowsSync = Counter.builder("flyff.history.rows.written")
+                .description("History rows written to the database")
+                .tag("mode", "sync")
+                .register(meterRegistry);
+        this.historyRowsWriteBehind = Counter.builder("flyff.history.rows.written")
+                .description("History rows written to the database")
+                .tag("mode", "write-behind")
+                .register(meterRegistry);
+        this.contentServed = Counter.builder("flyff.content.served")
+                .description("Document payload bytes served by GET /api/v1/document/{id}")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void historyRowsWritten(boolean writeBehind, int rows) {
+        (writeBehind ? historyRowsWriteBehind : historyRowsSync).increment(rows);
+    }
+
+    public void contentServed(long bytes) {
+        contentServed.increment(bytes);
+    }
+}
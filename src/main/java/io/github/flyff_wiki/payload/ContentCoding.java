@@ -0,0 +1,110 @@
+package io.github.flyff_wiki.payload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import io.airlift.compress.zstd.ZstdCompressor;
+
+/**
+ * 응답 본문 압축 방식(Content-Encoding)입니다.
+ * - 순수 Java로 인코딩할 수 있는 gzip(JDK)과 zstd(aircompressor)만 지원합니다.
+ *   brotli는 순수 Java 인코더가 없어 제외했습니다.
+ */
+public enum ContentCoding {
+
+    IDENTITY(null),
+    GZIP("gzip"),
+    ZSTD("zstd");
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Content-Encoding 헤더 값입니다. IDENTITY는 null입니다.
+     */
+    public String token() {
+        return token;
+    }
+
+    public byte[] encode(byte[] input) {
+        switch (this) {
+            case GZIP:
+                return gzip(input);
+            case ZSTD:
+                return zstd(input);
+            default:
+                return input;
+        }
+    }
+
+    /**
+     * Accept-Encoding 헤더에서 품질값이 가장 높은 지원 방식을 고릅니다. 같으면 zstd > gzip 순입니다.
+     * - 주의사항: "*"는 gzip에만 적용하고, q=0으로 명시한 방식은 고르지 않습니다.
+     */
+    public static ContentCoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        double gzip = -1;
+        double zstd = -1;
+        double wildcard = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("zstd")) {
+                zstd = quality;
+            } else if (name.equals("gzip")) {
+                gzip = quality;
+            } else if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        if (gzip < 0) {
+            gzip = wildcard; // 명시하지 않은 방식은 "*"의 품질값을 따릅니다 (zstd는 명시한 경우만 사용)
+        }
+        if (zstd > 0 && zstd >= gzip) {
+            return ZSTD;
+        }
+        return gzip > 0 ? GZIP : IDENTITY;
+    }
+
+    private static byte[] gzip(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION); // 미리 계산해 캐시하므로 압축률을 우선합니다
+            }
+        }) {
+            gzip.write(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] zstd(byte[] input) {
+        ZstdCompressor compressor = new ZstdCompressor();
+        byte[] output = new byte[compressor.maxCompressedLength(input.length)];
+        int length = compressor.compress(input, 0, input.length, output, 0, output.length);
+        return Arrays.copyOf(output, length);
+    }
+}
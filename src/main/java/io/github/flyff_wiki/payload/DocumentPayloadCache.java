@@ -0,0 +1,62 @@
+package io.github.flyff_wiki.payload;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.flyff_wiki.dto.DocumentView;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * 문서 응답을 형식(JSON/CBOR)과 압축 방식별로 직렬화/압축한 바이트를 캐시합니다.
+ * - 키: ETag(버전 + 표현) + 형식 + 압축 방식. 버전이 바뀌면 키가 달라지므로 별도 무효화가 필요 없고,
+ *   오래된 항목은 가중치(바이트 수) 한도에 따라 축출됩니다.
+ * - 같은 리비전을 반복 조회해도 직렬화/압축은 한 번만 수행합니다.
+ */
+@Component
+public class DocumentPayloadCache {
+
+    private final Cache<String, Payload> payloads;
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int minCompressSize;
+
+    public DocumentPayloadCache(
+            @Value("${flyff.payload.cache-max-weight:67108864}") long maxWeight,
+            @Value("${flyff.payload.min-compress-size:2048}") int minCompressSize) {
+        this.minCompressSize = minCompressSize;
+        this.payloads = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, Payload payload) -> Math.max(1, payload.bytes().length))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 응답 본문을 반환합니다.
+     * - 인자: view (응답 문서), etag (view의 버전/표현에 대한 ETag), format (직렬화 형식), coding (요청에서 협상한 압축 방식)
+     * - 리턴값: 직렬화 후 압축된 바이트와 실제 압축 방식 (캐시되었으면 캐시 값)
+     * - 주의사항: 직렬화 결과가 minCompressSize보다 작으면 압축하지 않습니다. 같은 문서/etag에는 항상 같은 view가 대응해야 합니다.
+     */
+    public Payload get(DocumentView view, String etag, PayloadFormat format, ContentCoding coding) {
+        String key = view.id() + "|" + etag + "|" + format + "|" + coding;
+        return payloads.get(key, ignored -> {
+            byte[] serialized = serialize(view, format);
+            if (coding == ContentCoding.IDENTITY || serialized.length < minCompressSize) {
+                return new Payload(serialized, ContentCoding.IDENTITY);
+            }
+            return new Payload(coding.encode(serialized), coding);
+        });
+    }
+
+    byte[] serialize(DocumentView view, PayloadFormat format) {
+        return format == PayloadFormat.CBOR ? cborMapper.writeValueAsBytes(view) : objectMapper.writeValueAsBytes(view);
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.flyff_wiki.payload;
+
+/**
+ * 직렬화/압축이 끝난 응답 본문과 실제로 적용된 압축 방식입니다.
+ * - 작은 본문은 요청한 방식과 관계없이 IDENTITY일 수 있습니다.
+ */
+public record Payload(byte[] bytes, ContentCoding coding) {
+}
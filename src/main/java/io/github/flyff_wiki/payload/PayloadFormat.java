@@ -0,0 +1,66 @@
+package io.github.flyff_wiki.payload;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 문서 응답의 직렬화 형식입니다. 내부 API 클라이언트는 Accept: application/cbor로 바이너리 형식을 받을 수 있습니다.
+ */
+public enum PayloadFormat {
+
+    JSON(MediaType.APPLICATION_JSON, null),
+    CBOR(MediaType.parseMediaType("application/cbor"), "cbor");
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    PayloadFormat(MediaType mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.etagSuffix = etagSuffix;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * ETag 변형 이름에 붙일 접미사입니다. 기본 형식(JSON)은 null입니다.
+     */
+    public String etagSuffix() {
+        return etagSuffix;
+    }
+
+    /**
+     * Accept 헤더에서 품질값이 가장 높은 지원 형식을 고릅니다. 헤더가 없거나 해석할 수 없으면 JSON입니다.
+     */
+    public static PayloadFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            // 구체성으로 먼저 정렬한 뒤 품질값으로 안정 정렬하여, 품질값이 같을 때만 구체성이 순서를 정하게 합니다.
+            MimeTypeUtils.sortBySpecificity(accepted);
+            accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        } catch (IllegalArgumentException e) {
+            return JSON;
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() <= 0) {
+                continue;
+            }
+            if (CBOR.mediaType.isCompatibleWith(mediaType) && !mediaType.isWildcardType()
+                    && !mediaType.isWildcardSubtype()) {
+                return CBOR;
+            }
+            if (JSON.mediaType.isCompatibleWith(mediaType)) {
+                return JSON;
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.flyff_wiki.profiling;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * SQL 프로파일링이 켜져 있으면 요청마다 SqlStats를 시작하고, 끝나면 요약을 로그로 남깁니다.
+ * - 응답 헤더(X-SQL-*)는 본문을 쓰기 직전에 SqlProfilingResponseAdvice가 붙입니다.
+ * - 경고: 문장 수가 warnStatements를 넘거나 같은 SQL이 repeatThreshold번 이상 반복되면(N+1 의심) WARN으로 기록합니다.
+ * - 전환: flyff.sql.profiling.enabled 또는 POST /api/v1/admin/sql-profiling?enabled=
+ *   DataSource 프록시는 시작할 때 켜져 있었을 때만 설치되므로, 꺼진 채 시작한 인스턴스는 런타임에 켤 수 없습니다.
+ */
+@Component
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlProfilingFilter.class);
+
+    private final int warnStatements;
+    private final int repeatThreshold;
+    private final boolean proxyInstalled;
+    private volatile boolean enabled;
+
+    public SqlProfilingFilter(
+            @Value("${flyff.sql.profiling.enabled:false}") boolean enabled,
+            @Value("${flyff.sql.profiling.warn-statements:10}") int warnStatements,
+            @Value("${flyff.sql.profiling.repeat-threshold:3}") int repeatThreshold) {
+        this.enabled = enabled;
+        this.proxyInstalled = enabled;
+        this.warnStatements = warnStatements;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청별 수집을 켜거나 끕니다.
+     * - 주의사항: 시작할 때 꺼져 있어 DataSource 프록시가 없으면 켤 수 없습니다 (IllegalStateException).
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !proxyInstalled) {
+            throw new IllegalStateException("SQL profiling proxy is not installed; "
+                    + "start with flyff.sql.profiling.enabled=true to toggle it at runtime");
+        }
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+        SqlStats stats = SqlStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStats.stop();
+            SqlStatsSummary summary = stats.summary();
+            if (summary.statements() > warnStatements || summary.maxRepeats() >= repeatThreshold) {
+                logger.warn("{} {}: {} SQL statements, {} rows, {} ms; most repeated ({}x): {}",
+                        request.getMethod(), request.getRequestURI(), summary.statements(), summary.rows(),
+                        String.format("%.2f", summary.elapsedMillis()), summary.maxRepeats(), summary.repeatedSql());
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("{} {}: {} SQL statements, {} rows, {} ms", request.getMethod(), request.getRequestURI(),
+                        summary.statements(), summary.rows(), String.format("%.2f", summary.elapsedMillis()));
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.flyff_wiki.profiling;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * DataSource 빈을 datasource-proxy로 감싸 SQL 실행을 SqlStats로 보고하게 합니다.
+ * - flyff.sql.profiling.enabled로 시작했을 때만 감쌉니다. 꺼진 채 시작하면 모든 JDBC 호출이 프록시를 거치지 않습니다.
+ *   감싼 뒤의 수집 여부는 SqlProfilingFilter가 요청마다 SqlStats를 시작하는지로 정해지므로 런타임에 켜고 끌 수 있습니다.
+ * - ResultSet까지 감싸는 조회 행 수 집계는 호출마다 비용이 들어 flyff.sql.profiling.count-rows를 켤 때만 합니다.
+ * - 복제본 라우팅 프록시 다음, 커넥션 예산 이전에 적용되어 원본/복제본의 SQL을 모두 셉니다.
+ */
+@Component
+public class SqlProfilingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final boolean enabled;
+    private final boolean countRows;
+
+    public SqlProfilingPostProcessor(
+            @Value("${flyff.sql.profiling.enabled:false}") boolean enabled,
+            @Value("${flyff.sql.profiling.count-rows:false}") boolean countRows) {
+        this.enabled = enabled;
+        this.countRows = countRows;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        SqlStatsListener listener = new SqlStatsListener();
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(listener);
+        if (countRows) {
+            builder.methodListener(listener).proxyResultSet();
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
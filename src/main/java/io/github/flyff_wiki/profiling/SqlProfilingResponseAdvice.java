@@ -0,0 +1,38 @@
+package io.github.flyff_wiki.profiling;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * SQL 프로파일링 중인 요청의 응답에 SQL 요약 헤더를 붙입니다.
+ * - X-SQL-Count, X-SQL-Rows, X-SQL-Time-Ms, X-SQL-Max-Repeats
+ * - 본문을 쓰기 직전 기준이므로, 직렬화 중에 실행되는 SQL(지연 로딩)은 필터 로그에만 반영됩니다.
+ */
+@ControllerAdvice
+public class SqlProfilingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        SqlStats stats = SqlStats.current();
+        if (stats != null) {
+            SqlStatsSummary summary = stats.summary();
+            response.getHeaders().set("X-SQL-Count", Integer.toString(summary.statements()));
+            response.getHeaders().set("X-SQL-Rows", Long.toString(summary.rows()));
+            response.getHeaders().set("X-SQL-Time-Ms", String.format("%.2f", summary.elapsedMillis()));
+            response.getHeaders().set("X-SQL-Max-Repeats", Integer.toString(summary.maxRepeats()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.flyff_wiki.profiling;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 요청(또는 한 측정 구간)에서 실행된 SQL 통계를 모으는 스레드 로컬 누산기입니다.
+ * - 수집: SqlStatsListener가 현재 스레드에 시작된 SqlStats가 있을 때만 기록합니다 (없으면 비용 거의 없음).
+ * - 반복: 같은 SQL 문자열이 몇 번 실행되었는지 세어 N+1 패턴(같은 조회가 행마다 반복)을 찾습니다.
+ * - 주의사항: 스레드 로컬이므로 요청 스레드 밖(비동기 스트리밍, 쓰기 지연 writer 등)의 SQL은 세지 않습니다.
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+    private long queryStart;
+
+    private SqlStats() {
+    }
+
+    /**
+     * 현재 스레드에서 수집을 시작합니다. 이미 수집 중이면 그 누산기를 그대로 씁니다.
+     */
+    static SqlStats start() {
+        SqlStats stats = CURRENT.get();
+        if (stats == null) {
+            stats = new SqlStats();
+            CURRENT.set(stats);
+        }
+        return stats;
+    }
+
+    static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * work를 실행하는 동안의 SQL 통계를 측정합니다 (테스트의 쿼리 수 예산 검사용).
+     * - 사용 예시: SqlStatsSummary sql = SqlStats.measure(() -> documentService.getRevision(id, 3));
+     */
+    public static SqlStatsSummary measure(Runnable work) {
+        SqlStats outer = CURRENT.get();
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        try {
+            work.run();
+            return stats.summary();
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    void beforeQuery() {
+        queryStart = System.nanoTime();
+    }
+
+    void afterQuery(String sql, long updatedRows) {
+        statements++;
+        rows += updatedRows;
+        elapsedNanos += System.nanoTime() - queryStart;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    /**
+     * 지금까지의 통계를 불변 요약으로 만듭니다. 가장 많이 반복된 SQL을 함께 담습니다.
+     */
+    public SqlStatsSummary summary() {
+        String repeatedSql = null;
+        int maxRepeats = 0;
+        for (Map.Entry<String, Integer> entry : executions.entrySet()) {
+            if (entry.getValue() > maxRepeats) {
+                maxRepeats = entry.getValue();
+                repeatedSql = entry.getKey();
+            }
+        }
+        return new SqlStatsSummary(statements, rows, elapsedNanos / 1_000_000.0, maxRepeats, repeatedSql);
+    }
+}
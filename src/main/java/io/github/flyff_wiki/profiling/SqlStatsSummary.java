@@ -0,0 +1,13 @@
+package io.github.flyff_wiki.profiling;
+
+/**
+ * 요청 하나의 SQL 통계 요약입니다.
+ * - rows: 조회로 읽은 행 + 변경된 행, maxRepeats: 같은 SQL이 가장 많이 실행된 횟수 (repeatedSql)
+ */
+public record SqlStatsSummary(
+        int statements,
+        long rows,
+        double elapsedMillis,
+        int maxRepeats,
+        String repeatedSql) {
+}
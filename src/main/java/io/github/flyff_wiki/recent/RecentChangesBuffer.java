@@ -0,0 +1,143 @@
+package io.github.flyff_wiki.recent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+import io.github.flyff_wiki.dto.RecentChange;
+
+/**
+ * 최근 변경을 고정 크기로 보관하는 락 없는(lock-free) 링 버퍼입니다.
+ * - 쓰기: 변경 번호를 AtomicLong으로 발급받고, 번호 & mask 슬롯에 항목을 넣습니다.
+ *   여러 작성자가 동시에 써도 락을 잡지 않으며, 늦게 도착한 작성자가 더 새로운 항목을 덮어쓰지 않도록 번호를 비교해 넣습니다.
+ * - 읽기: 슬롯의 항목 번호로 상태를 판단합니다. 기대 번호와 같으면 게시됨, 작으면 아직 쓰는 중, 크면 이미 덮어씀입니다.
+ *   쓰는 중인 번호를 만나면 그 앞까지만 읽으므로 읽는 쪽의 커서가 빈 번호를 건너뛰지 않습니다.
+ * - 용량을 넘긴 오래된 변경은 덮어써지며, 읽기 결과에서 조용히 빠집니다.
+ */
+public final class RecentChangesBuffer {
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong(1);
+
+    /**
+     * - 인자: capacity (보관할 최대 변경 수, 2의 거듭제곱으로 올림)
+     */
+    public RecentChangesBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 새 변경을 추가합니다.
+     * - 인자: factory (발급된 변경 번호로 항목을 만드는 함수)
+     * - 리턴값: 추가한 항목
+     * - 주의사항: factory가 예외를 던지면 그 번호에는 빈 항목을 넣어, 읽는 쪽이 그 번호에서 멈추지 않게 합니다.
+     */
+    public Entry append(LongFunction<Entry> factory) {
+        long sequence = next.getAndIncrement();
+        Entry entry = new Entry(sequence, null, null);
+        try {
+            entry = factory.apply(sequence);
+            return entry;
+        } finally {
+            Entry published = entry;
+            slots.accumulateAndGet(index(sequence), published,
+                    (current, candidate) -> current == null || current.sequence() < candidate.sequence()
+                            ? candidate
+                            : current);
+        }
+    }
+
+    /**
+     * 마지막으로 발급한 변경 번호입니다 (아직 쓰는 중일 수 있음). 변경이 없으면 0입니다.
+     */
+    public long lastSequence() {
+        return next.get() - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * sequence 다음 변경부터 오래된 순으로 최대 max개를 읽습니다 (스트림 전송용).
+     * - 리턴값: 읽은 항목과 다음 호출에 넘길 커서
+     */
+    public Slice since(long sequence, int max) {
+        long last = lastSequence();
+        long s = Math.max(sequence + 1, last - mask);
+        long cursor = s - 1;
+        List<Entry> entries = new ArrayList<>(Math.min(max, (int) Math.max(0, last - cursor)));
+        while (s <= last && entries.size() < max) {
+            Entry entry = slots.get(index(s));
+            if (entry == null || entry.sequence() < s) {
+                break;
+            }
+            if (entry.sequence() == s && entry.change() != null) {
+                entries.add(entry);
+            }
+            cursor = s++;
+        }
+        return new Slice(Math.max(cursor, sequence), entries);
+    }
+
+    /**
+     * sequence 이후 변경 중 최신 limit개를 최신순으로 읽습니다 (목록 조회용).
+     * - 리턴값: 읽은 항목과, 빠짐없이 확인한 마지막 변경 번호 (다음 조회의 since)
+     */
+    public Slice latest(long sequence, int limit) {
+        long last = lastSequence();
+        long s = Math.max(sequence + 1, last - mask);
+        long cursor = s - 1;
+        Deque<Entry> newest = new ArrayDeque<>(Math.max(1, limit));
+        while (s <= last) {
+            Entry entry = slots.get(index(s));
+            if (entry == null || entry.sequence() < s) {
+                break;
+            }
+            if (entry.sequence() == s && entry.change() != null && limit > 0) {
+                if (newest.size() == limit) {
+                    newest.pollLast();
+                }
+                newest.addFirst(entry);
+            }
+            cursor = s++;
+        }
+        return new Slice(Math.max(cursor, sequence), new ArrayList<>(newest));
+    }
+
+    /**
+     * sequence 다음에 읽을 수 있는 변경이 있는지 확인합니다.
+     */
+    public boolean hasAfter(long sequence) {
+        long s = sequence + 1;
+        long last = lastSequence();
+        if (s > last) {
+            return false;
+        }
+        if (s < last - mask) {
+            return true;
+        }
+        Entry entry = slots.get(index(s));
+        return entry != null && entry.sequence() >= s;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    /**
+     * 버퍼 항목입니다. payload는 SSE로 보낼 직렬화 결과로, 구독자 수와 관계없이 변경마다 한 번만 만듭니다.
+     */
+    public record Entry(long sequence, RecentChange change, String payload) {
+    }
+
+    public record Slice(long cursor, List<Entry> entries) {
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.flyff_wiki.recent;
+
+/**
+ * 변경 스트림 구독자가 노드 상한(max-subscribers)에 이르렀을 때 던집니다.
+ * - 클라이언트는 잠시 후 다시 구독하거나 목록 조회(GET /api/v1/recent-changes)로 대신해야 합니다 (503 + Retry-After).
+ */
+public class RecentChangesBusyException extends RuntimeException {
+
+    public RecentChangesBusyException(int maxSubscribers) {
+        super("Recent changes stream is at capacity (" + maxSubscribers + " subscribers)");
+    }
+}
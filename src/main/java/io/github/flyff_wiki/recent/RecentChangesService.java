@@ -0,0 +1,322 @@
+package io.github.flyff_wiki.recent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.RecentChange;
+import io.github.flyff_wiki.dto.RecentChanges;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 문서 생성/수정을 메모리 링 버퍼(RecentChangesBuffer)에 모아 최근 변경 목록과 SSE 스트림으로 제공합니다.
+ * - 목록 조회는 DB를 읽지 않습니다. 버퍼는 노드별이며, 재시작하면 비어 있는 상태로 시작합니다.
+ * - 스트림: 구독자마다 커서(마지막으로 보낸 변경 번호)를 두고, 새 변경이 들어오면 전송 작업을 예약합니다.
+ *   한 구독자의 전송 작업은 한 번에 하나만 돌며, 밀린 변경을 버퍼에서 한꺼번에 보냅니다.
+ *   버퍼 용량보다 뒤처진 구독자는 덮어쓴 변경을 건너뜁니다.
+ * - 느린 구독자: 전송 한 번이 sendTimeout보다 오래 막히면 구독자를 끊고 전송 스레드를 interrupt합니다.
+ *   interrupt로도 풀리지 않는 쓰기(서블릿 컨테이너의 쓰기 타임아웃까지 대기)가 다른 구독자의 전송을 막지 않도록,
+ *   막힌 스레드가 돌아올 때까지 전송 스레드를 하나씩 늘립니다.
+ * - 직렬화: 변경마다 JSON을 한 번만 만들어 버퍼에 함께 보관하고 모든 구독자가 재사용합니다.
+ */
+@Service
+public class RecentChangesService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentChangesService.class);
+    private static final int MAX_LIMIT = 500;
+    private static final int SEND_BATCH = 256;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final RecentChangesBuffer buffer;
+    private final int maxSubscribers;
+    private final int dispatchThreads;
+    private final Duration heartbeat;
+    private final Duration streamTimeout;
+    private final Duration sendTimeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ThreadPoolExecutor dispatcher;
+    private ScheduledExecutorService heartbeats;
+
+    public RecentChangesService(
+            @Value("${flyff.recent-changes.capacity:4096}") int capacity,
+            @Value("${flyff.recent-changes.max-subscribers:10000}") int maxSubscribers,
+            @Value("${flyff.recent-changes.dispatch-threads:4}") int dispatchThreads,
+            @Value("${flyff.recent-changes.heartbeat:15s}") Duration heartbeat,
+            @Value("${flyff.recent-changes.stream-timeout:30m}") Duration streamTimeout,
+            @Value("${flyff.recent-changes.send-timeout:10s}") Duration sendTimeout) {
+        this.buffer = new RecentChangesBuffer(capacity);
+        this.maxSubscribers = maxSubscribers;
+        this.dispatchThreads = Math.max(1, dispatchThreads);
+        this.heartbeat = heartbeat;
+        this.streamTimeout = streamTimeout;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "recent-changes-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recent-changes-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, heartbeat.toMillis());
+        heartbeats.scheduleAtFixedRate(this::heartbeat, period, period, TimeUnit.MILLISECONDS);
+        long checkPeriod = Math.max(1, sendTimeout.toMillis() / 2);
+        heartbeats.scheduleAtFixedRate(this::dropStalled, checkPeriod, checkPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * 커밋된 문서 변경을 버퍼에 추가하고 구독자들에게 전송을 예약합니다.
+     * - 동작 흐름: 변경 번호 발급 -> 항목 생성/JSON 직렬화 (한 번) -> 슬롯에 게시 -> 구독자별 전송 작업 예약
+     * - 주의사항: 커밋 이후에만 호출되므로 롤백된 수정은 피드에 나타나지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        DocumentView document = event.document();
+        buffer.append(sequence -> {
+            RecentChange change = new RecentChange(sequence, document.id(), document.title(),
+                    document.revisionCount(), document.version(), event.created(),
+                    document.content() == null ? 0 : document.content().length(), document.updatedAt());
+            return new RecentChangesBuffer.Entry(sequence, change, objectMapper.writeValueAsString(change));
+        });
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+    }
+
+    /**
+     * 최근 변경을 최신순으로 반환합니다.
+     * - 인자: since (이전 응답의 lastSequence, 처음이면 null), limit (최대 항목 수, 1 ~ MAX_LIMIT로 보정)
+     * - 리턴값: since 이후 변경 중 최신 limit개와 다음 조회에 쓸 lastSequence
+     */
+    public RecentChanges getRecentChanges(Long since, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        RecentChangesBuffer.Slice slice = buffer.latest(since == null ? 0 : since, size);
+        return new RecentChanges(slice.cursor(),
+                slice.entries().stream().map(RecentChangesBuffer.Entry::change).toList());
+    }
+
+    /**
+     * 변경 스트림 구독을 시작합니다.
+     * - 인자: lastEventId (재연결 시 Last-Event-ID, 처음이면 null)
+     * - 리턴값: 구독자 SseEmitter. lastEventId가 있으면 그 이후 버퍼에 남은 변경부터 보냅니다.
+     * - 주의사항: 구독자가 max-subscribers에 이르면 RecentChangesBusyException을 던집니다.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(new SseEmitter(streamTimeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new RecentChangesBusyException(maxSubscribers);
+        }
+        long cursor = lastEventId == null ? buffer.lastSequence() : Math.min(lastEventId, buffer.lastSequence());
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.add(subscriber);
+        if (buffer.hasAfter(cursor)) {
+            subscriber.schedule();
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            subscriber.schedule();
+        }
+    }
+
+    /**
+     * 전송 한 번이 sendTimeout보다 오래 걸리는 구독자를 끊습니다.
+     * - 주의사항: heartbeat 스레드에서 돌기 때문에 emitter를 건드리지 않습니다 (complete는 진행 중인 send를 기다림).
+     *   emitter 정리는 interrupt로 send가 실패한 전송 스레드가 합니다.
+     */
+    private void dropStalled() {
+        long now = System.nanoTime();
+        long timeout = sendTimeout.toNanos();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != Subscriber.IDLE && now - started > timeout && remove(subscriber)) {
+                logger.debug("Dropping recent changes subscriber stalled for more than {}", sendTimeout);
+                subscriber.abort();
+            }
+        }
+    }
+
+    /**
+     * 막힌 전송 스레드만큼 전송 스레드 수를 늘리거나 줄입니다.
+     */
+    private synchronized void resizeDispatcher(int delta) {
+        int size = dispatcher.getCorePoolSize() + delta;
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    /**
+     * 구독자 한 명의 전송 상태입니다. scheduled로 전송 작업이 동시에 둘 이상 돌지 않게 합니다.
+     */
+    private final class Subscriber implements Runnable {
+
+        static final long IDLE = Long.MIN_VALUE;
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile boolean heartbeatDue;
+        private volatile long sendStartedAt = IDLE;
+        private Thread sender;
+        private boolean stalled;
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        /**
+         * 밀린 변경을 모두 보내고, 보내는 사이 새 변경이 들어왔으면 다시 반복합니다.
+         */
+        @Override
+        public void run() {
+            synchronized (this) {
+                sender = Thread.currentThread();
+            }
+            try {
+                do {
+                    drain();
+                    scheduled.set(false);
+                } while (buffer.hasAfter(cursor) && scheduled.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Dropping recent changes subscriber: {}", e.getMessage());
+                remove(this);
+                scheduled.set(false);
+                emitter.completeWithError(e);
+            } finally {
+                boolean wasStalled;
+                synchronized (this) {
+                    sender = null;
+                    wasStalled = stalled;
+                }
+                if (wasStalled) {
+                    resizeDispatcher(-1);
+                    // interrupt를 무시하고 끝난 send였다면 아직 열려 있으므로 닫습니다 (이미 닫혔으면 무시됨).
+                    emitter.complete();
+                }
+                // abort가 send 직후에 interrupt했을 수 있으므로 다음 작업으로 새지 않게 지웁니다.
+                Thread.interrupted();
+            }
+        }
+
+        /**
+         * 막힌 send를 interrupt하고, 이 스레드가 돌아올 때까지 전송 스레드를 하나 늘립니다.
+         */
+        void abort() {
+            synchronized (this) {
+                if (sender == null || stalled) {
+                    return;
+                }
+                stalled = true;
+                sender.interrupt();
+            }
+            resizeDispatcher(1);
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = IDLE;
+            }
+        }
+
+        private void drain() throws IOException {
+            RecentChangesBuffer.Slice slice;
+            do {
+                slice = buffer.since(cursor, SEND_BATCH);
+                for (RecentChangesBuffer.Entry entry : slice.entries()) {
+                    send(SseEmitter.event()
+                            .id(Long.toString(entry.sequence()))
+                            .name("change")
+                            .data(entry.payload()));
+                }
+                cursor = slice.cursor();
+            } while (slice.entries().size() == SEND_BATCH);
+            if (heartbeatDue) {
+                heartbeatDue = false;
+                send(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.flyff_wiki.render;
+
+import java.util.List;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * MARKDOWN 본문을 정제된 HTML로 변환합니다.
+ * - 본문에 섞인 원시 HTML은 이스케이프하고(escapeHtml), javascript: 같은 위험한 링크는 제거합니다(sanitizeUrls).
+ * - 주의사항: 출력이 바뀌는 변경(확장 추가, 옵션 변경 등)을 하면 VERSION을 올려야 저장된 결과가 재렌더링됩니다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    public static final int VERSION = 1;
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+
+    // Parser와 HtmlRenderer는 불변이며 여러 스레드에서 공유해도 안전합니다.
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+
+    public String render(String markdown) {
+        return renderer.render(parser.parse(markdown));
+    }
+}
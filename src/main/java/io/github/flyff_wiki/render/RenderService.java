@@ -0,0 +1,198 @@
+package io.github.flyff_wiki.render;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.RenderedContent;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.RenderJobResult;
+import io.github.flyff_wiki.dto.RenderSource;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import io.github.flyff_wiki.repository.DocumentRepository;
+import io.github.flyff_wiki.repository.RenderedContentRepository;
+import io.github.flyff_wiki.support.ContentHash;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * MARKDOWN 본문의 HTML 렌더링 결과를 본문 해시 기준으로 저장/캐시합니다.
+ * - 조회 순서: 메모리 캐시 -> rendered_content 테이블 -> 렌더링 후 저장
+ * - 문서가 바뀌면 커밋 이후 백그라운드에서 미리 렌더링하므로 조회 경로에서는 보통 렌더링이 일어나지 않습니다.
+ * - 렌더러 버전이 바뀌면 rerenderAll이 모든 MARKDOWN 문서를 CPU 코어 수만큼 병렬로 다시 렌더링합니다.
+ */
+@Service
+public class RenderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RenderService.class);
+
+    @Autowired
+    private MarkdownRenderer markdownRenderer;
+
+    @Autowired
+    private RenderedContentRepository renderedContentRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Value("${flyff.render.batch-size:200}")
+    private int batchSize;
+
+    private final Cache<String, String> htmlCache;
+    private final ExecutorService renderExecutor;
+
+    public RenderService(@Value("${flyff.render.cache-max-weight:33554432}") long cacheMaxWeight) {
+        this.htmlCache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxWeight)
+                .weigher((String key, String html) -> Math.max(1, html.length()))
+                .build();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.renderExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "render-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 렌더 키를 만듭니다. 렌더러 버전이 포함되므로 버전이 바뀌면 이전 결과는 조회되지 않습니다.
+     */
+    public static String renderKey(String contentHash) {
+        return MarkdownRenderer.VERSION + ":" + contentHash;
+    }
+
+    /**
+     * MARKDOWN 본문의 HTML을 반환합니다. 같은 해시는 한 번만 렌더링합니다.
+     * - 인자: contentHash (본문 SHA-256, null이면 계산), markdown (원문)
+     * - 리턴값: 정제된 HTML
+     */
+    public String renderHtml(String contentHash, String markdown) {
+        String hash = contentHash != null ? contentHash : ContentHash.sha256Hex(markdown);
+        return htmlCache.get(renderKey(hash), key -> renderedContentRepository.findById(key)
+                .map(RenderedContent::getHtml)
+                .orElseGet(() -> store(key, markdown)));
+    }
+
+    /**
+     * 조회 응답을 렌더링된 형태로 바꿉니다.
+     * - MARKDOWN이면 본문을 HTML로 바꾸고 contentFormat을 HTML로 표시합니다. 그 외 포맷은 그대로 반환합니다.
+     */
+    public DocumentView renderView(DocumentView view) {
+        if (view.contentFormat() != ContentFormat.MARKDOWN) {
+            return view;
+        }
+        String html = renderHtml(view.contentHash(), view.content());
+        return new DocumentView(view.id(), view.title(), view.slug(), html, ContentFormat.HTML, view.contentHash(),
+                view.revisionCount(), view.version(), view.createdAt(), view.updatedAt());
+    }
+
+    /**
+     * 문서 변경이 커밋되면 새 본문을 백그라운드에서 미리 렌더링합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        DocumentView document = event.document();
+        if (document.contentFormat() != ContentFormat.MARKDOWN) {
+            return;
+        }
+        renderExecutor.execute(() -> {
+            try {
+                renderHtml(document.contentHash(), document.content());
+            } catch (RuntimeException e) {
+                logger.warn("Pre-rendering failed for document ID: {}", document.id(), e);
+            }
+        });
+    }
+
+    /**
+     * 시작 시 이전 렌더러 버전의 결과가 남아 있으면 재렌더링 작업을 백그라운드로 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rerenderIfRendererChanged() {
+        if (renderedContentRepository.existsByRendererVersionNot(MarkdownRenderer.VERSION)) {
+            logger.info("Renderer version changed to {}, re-rendering MARKDOWN documents", MarkdownRenderer.VERSION);
+            CompletableFuture.runAsync(this::rerenderAll);
+        }
+    }
+
+    /**
+     * 모든 MARKDOWN 문서를 현재 렌더러 버전으로 렌더링하고 이전 버전 결과를 삭제합니다.
+     * - 리턴값: 처리 문서 수, 렌더링/건너뜀 수, 삭제한 이전 결과 수, 소요 시간
+     * - 동작 흐름: id 키셋으로 batchSize씩 읽기 -> 페이지 안의 문서를 렌더 스레드풀에서 병렬 렌더링 -> 이전 버전 삭제
+     * - 주의사항: 렌더 스레드풀에서 호출하면 안 됩니다 (자기 작업을 기다리며 교착될 수 있음).
+     */
+    public RenderJobResult rerenderAll() {
+        long start = System.nanoTime();
+        AtomicInteger rendered = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        int documents = 0;
+        long afterId = 0;
+        while (true) {
+            List<RenderSource> page = documentRepository.findRenderSources(
+                    ContentFormat.MARKDOWN, afterId, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            CompletableFuture<?>[] tasks = page.stream()
+                    .map(source -> CompletableFuture.runAsync(() -> {
+                        String hash = source.contentHash() != null
+                                ? source.contentHash()
+                                : ContentHash.sha256Hex(source.content());
+                        String key = renderKey(hash);
+                        if (renderedContentRepository.existsById(key)) {
+                            skipped.incrementAndGet();
+                        } else {
+                            store(key, source.content());
+                            rendered.incrementAndGet();
+                        }
+                    }, renderExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(tasks).join();
+            documents += page.size();
+            afterId = page.get(page.size() - 1).id();
+        }
+        int removed = renderedContentRepository.deleteStale(MarkdownRenderer.VERSION);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Re-rendered {} of {} MARKDOWN documents in {} ms ({} stale results removed)",
+                rendered.get(), documents, elapsedMillis, removed);
+        return new RenderJobResult(documents, rendered.get(), skipped.get(), removed, elapsedMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdown();
+    }
+
+    private String store(String key, String markdown) {
+        String html = markdownRenderer.render(markdown);
+        RenderedContent rendered = new RenderedContent();
+        rendered.setRenderKey(key);
+        rendered.setRendererVersion(MarkdownRenderer.VERSION);
+        rendered.setHtml(html);
+        rendered.setRenderedAt(LocalDateTime.now());
+        try {
+            renderedContentRepository.save(rendered);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 본문을 다른 스레드가 먼저 저장한 경우입니다. 결과가 같으므로 무시합니다.
+            logger.debug("Rendered content {} was stored concurrently", key);
+        }
+        return html;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.flyff_wiki.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.dto.HistoryEntry;
+
+@Repository
+public interface DocumentHistoryRepository extends JpaRepository<DocumentHistory, Long> {
+
+    /**
+     * 주어진 리비전 이하에서 가장 가까운 키프레임을 찾습니다.
+     */
+    Optional<DocumentHistory> findFirstByDocumentIdAndKeyframeTrueAndRevisionLessThanEqualOrderByRevisionDesc(
+            Long documentId, int revision);
+
+    /**
+     * 리비전 구간 [from, to]의 히스토리를 리비전 오름차순으로 조회합니다.
+     */
+    List<DocumentHistory> findByDocumentIdAndRevisionBetweenOrderByRevisionAsc(Long documentId, int from, int to);
+
+    /**
+     * 최신 히스토리 첫 페이지를 본문 없이 조회합니다. (document_id, edited_at) 인덱스를 사용합니다.
+     */
+    @Query("select new io.github.flyff_wiki.dto.HistoryEntry(h.id, h.revision, h.editedAt, h.changeDescription, e.id) "
+            + "from DocumentHistory h left join h.editor e "
+            + "where h.document.id = :documentId "
+            + "order by h.editedAt desc, h.id desc")
+    List<HistoryEntry> findEntries(@Param("documentId") Long documentId, Pageable pageable);
+
+    /**
+     * 커서 (editedAt, id) 이후의 히스토리 페이지를 키셋 방식으로 조회합니다.
+     * - 주의사항: OFFSET을 쓰지 않으므로 페이지가 깊어져도 조회 비용이 일정합니다.
+     */
+    @Query("select new io.github.flyff_wiki.dto.HistoryEntry(h.id, h.revision, h.editedAt, h.changeDescription, e.id) "
+            + "from DocumentHistory h left join h.editor e "
+            + "where h.document.id = :documentId "
+            + "and (h.editedAt < :editedAt or (h.editedAt = :editedAt and h.id < :id)) "
+            + "order by h.editedAt desc, h.id desc")
+    List<HistoryEntry> findEntriesAfter(@Param("documentId") Long documentId,
+            @Param("editedAt") LocalDateTime editedAt, @Param("id") Long id, Pageable pageable);
+}
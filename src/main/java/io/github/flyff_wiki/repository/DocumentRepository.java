@@ -1,11 +1,117 @@
 package io.github.flyff_wiki.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.github.flyff_wiki.domain.ContentFormat;
 import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.DocumentSummary;
+import io.github.flyff_wiki.dto.DocumentValidator;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.LinkSource;
+import io.github.flyff_wiki.dto.RenderSource;
+import io.github.flyff_wiki.dto.SearchSource;
+import io.github.flyff_wiki.dto.TitleSource;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
 
+    /**
+     * afterId 다음부터 주어진 포맷의 문서 본문을 id 순으로 조회합니다 (일괄 렌더링용 키셋 페이지).
+     */
+    @Query("select new io.github.flyff_wiki.dto.RenderSource(d.id, d.contentHash, d.content) from Document d "
+            + "where d.contentFormat = :format and d.id > :afterId order by d.id")
+    List<RenderSource> findRenderSources(@Param("format") ContentFormat format, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * afterId 다음부터 문서 제목/본문을 id 순으로 조회합니다 (검색 색인 구성용 키셋 페이지).
+     */
+    @Query("select new io.github.flyff_wiki.dto.SearchSource(d.id, d.title, d.content) from Document d "
+            + "where d.id > :afterId order by d.id")
+    List<SearchSource> findSearchSources(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * afterId 다음부터 문서 제목/본문/버전을 id 순으로 조회합니다 (링크 그래프 재구성용 키셋 페이지).
+     */
+    @Query("select new io.github.flyff_wiki.dto.LinkSource(d.id, d.title, d.content, d.version) from Document d "
+            + "where d.id > :afterId order by d.id")
+    List<LinkSource> findLinkSources(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 문서의 버전/수정 시각만 기본 키로 조회합니다 (조건부 GET용, 본문은 읽지 않음).
+     * - readOnly 트랜잭션으로 실행하여 복제본 라우팅이 켜져 있으면 복제본에서 읽습니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new io.github.flyff_wiki.dto.DocumentValidator(d.version, d.updatedAt) from Document d "
+            + "where d.id = :id")
+    Optional<DocumentValidator> findValidator(@Param("id") Long id);
+
+    /**
+     * 여러 문서를 IN 쿼리 한 번으로 조회용 응답 형태로 읽습니다 (일괄 조회용, 히스토리/작성자는 읽지 않음).
+     * - readOnly 트랜잭션으로 실행하여 복제본 라우팅이 켜져 있으면 복제본에서 읽습니다.
+     * - 주의사항: 결과 순서는 보장되지 않으며, 없는 ID는 결과에서 빠집니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new io.github.flyff_wiki.dto.DocumentView(d.id, d.title, d.slug, d.content, d.contentFormat, "
+            + "d.contentHash, d.revisionCount, d.version, d.createdAt, d.updatedAt) from Document d where d.id in :ids")
+    List<DocumentView> findViews(@Param("ids") Collection<Long> ids);
+
+    /**
+     * findViews와 같지만 본문 컬럼을 읽지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new io.github.flyff_wiki.dto.DocumentSummary(d.id, d.title, d.slug, d.contentFormat, "
+            + "d.contentHash, d.revisionCount, d.version, d.createdAt, d.updatedAt) from Document d where d.id in :ids")
+    List<DocumentSummary> findSummaries(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 슬러그로 문서 ID만 조회합니다 (documents.slug 유니크 인덱스 조회, 본문은 읽지 않음).
+     * - readOnly 트랜잭션으로 실행하여 복제본 라우팅이 켜져 있으면 복제본에서 읽습니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select d.id from Document d where d.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    /**
+     * 슬러그를 쓰는 문서가 있는지 확인합니다 (생성 전 중복 검사용, 원본에서 읽음).
+     */
+    boolean existsBySlug(String slug);
+
+    /**
+     * id가 아닌 다른 문서가 슬러그를 쓰는지 확인합니다 (제목 변경 전 중복 검사용).
+     */
+    boolean existsBySlugAndIdNot(String slug, Long id);
+
+    /**
+     * afterId 다음부터 슬러그가 비어 있는 문서의 제목을 id 순으로 조회합니다 (슬러그 채우기용 키셋 페이지).
+     */
+    @Query("select new io.github.flyff_wiki.dto.TitleSource(d.id, d.title) from Document d "
+            + "where d.slug is null and d.id > :afterId order by d.id")
+    List<TitleSource> findTitlesWithoutSlug(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 가장 최근에 만든 문서부터 ID/제목을 조회합니다 (시작 시 예열 대상 선정용, 본문은 읽지 않음).
+     */
+    @Transactional(readOnly = true)
+    @Query("select new io.github.flyff_wiki.dto.TitleSource(d.id, d.title) from Document d order by d.id desc")
+    List<TitleSource> findLatestTitles(Pageable pageable);
+
+    /**
+     * 슬러그가 비어 있는 문서에 슬러그를 채웁니다. 버전은 올리지 않습니다 (내용 변경이 아니므로).
+     * - 리턴값: 갱신한 행 수 (그사이 채워졌으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("update Document d set d.slug = :slug where d.id = :id and d.slug is null")
+    int assignSlug(@Param("id") Long id, @Param("slug") String slug);
 }
@@ -0,0 +1,24 @@
+package io.github.flyff_wiki.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.flyff_wiki.domain.RenderedContent;
+
+@Repository
+public interface RenderedContentRepository extends JpaRepository<RenderedContent, String> {
+
+    boolean existsByRendererVersionNot(int rendererVersion);
+
+    /**
+     * 현재 렌더러 버전이 아닌 결과를 일괄 삭제합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RenderedContent r where r.rendererVersion <> :rendererVersion")
+    int deleteStale(@Param("rendererVersion") int rendererVersion);
+}
@@ -0,0 +1,12 @@
+package io.github.flyff_wiki.revision;
+
+/**
+ * 쓰기 지연 히스토리 대기열이 가득 차서 정해진 시간 안에 자리를 얻지 못했을 때 던집니다 (배압).
+ * - 수정 트랜잭션은 롤백되며, 클라이언트는 잠시 후 다시 시도해야 합니다 (503 + Retry-After).
+ */
+public class HistoryBacklogException extends RuntimeException {
+
+    public HistoryBacklogException(int capacity) {
+        super("History write-behind queue is full (" + capacity + " pending revisions)");
+    }
+}
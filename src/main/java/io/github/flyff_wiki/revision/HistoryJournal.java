@@ -0,0 +1,317 @@
+package io.github.flyff_wiki.revision;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 쓰기 지연(write-behind) 히스토리의 로컬 추가 전용(append-only) 저널입니다.
+ * - 레코드: int(payload 길이) + int(CRC32C) + payload. 끝부분이 잘리거나 CRC가 맞지 않으면 그 지점에서 읽기를 멈춥니다.
+ * - 세그먼트: 파일이 segmentBytes를 넘으면 새 파일로 넘어갑니다. 봉인된 세그먼트의 모든 항목이
+ *   DB에 반영(또는 롤백)되면 파일을 지웁니다.
+ * - 디렉터리 잠금: 같은 디렉터리를 두 인스턴스가 쓰지 않도록 LOCK 파일을 잠급니다. 이미 잠겨 있으면
+ *   slot-1, slot-2 ... 하위 디렉터리 중 처음 잠글 수 있는 곳을 씁니다. 재시작하면 같은 순서로 슬롯을 잡으므로
+ *   이전 실행이 남긴 세그먼트를 복구할 수 있습니다.
+ * - 동시성: 쓰기는 lock 아래에서 하고 fsync(force)는 락 밖에서 하여 동시 편집들의 fsync가 겹치도록 합니다.
+ * - 격리: 재시도 한도를 넘겨도 DB에 넣지 못한 항목은 resolve하지 않으므로 세그먼트가 남아 다음 시작 때 복구됩니다.
+ */
+class HistoryJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryJournal.class);
+
+    private static final String SUFFIX = ".journal";
+    private static final int MAX_SLOTS = 64;
+
+    private final Path directory;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final long segmentBytes;
+    private final List<Path> recoveredSegments;
+    private final Object writeLock = new Object();
+
+    private Segment active;
+    private long nextSegmentNumber;
+
+    private HistoryJournal(Path directory, FileChannel lockChannel, FileLock lock, long segmentBytes) throws IOException {
+        this.directory = directory;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+        this.segmentBytes = segmentBytes;
+        try (Stream<Path> files = Files.list(directory)) {
+            this.recoveredSegments = files
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path segment : recoveredSegments) {
+            nextSegmentNumber = Math.max(nextSegmentNumber, segmentNumber(segment) + 1);
+        }
+    }
+
+    /**
+     * 저널 디렉터리를 잠그고 엽니다. 새 항목은 기존 세그먼트 뒤 번호의 새 파일에 씁니다.
+     */
+    static HistoryJournal open(Path root, long segmentBytes) throws IOException {
+        for (int slot = 0; slot < MAX_SLOTS; slot++) {
+            Path directory = slot == 0 ? root : root.resolve("slot-" + slot);
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(directory.resolve("LOCK"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock != null) {
+                logger.info("Using history journal directory {}", directory);
+                return new HistoryJournal(directory, channel, lock, segmentBytes);
+            }
+            channel.close();
+        }
+        throw new IOException("No free history journal slot under " + root);
+    }
+
+    /**
+     * 이전 실행이 남긴 세그먼트의 항목을 기록 순서대로 읽습니다.
+     */
+    List<PendingHistory> readRecovered() throws IOException {
+        List<PendingHistory> entries = new ArrayList<>();
+        for (Path segment : recoveredSegments) {
+            readRecords(segment, entries);
+        }
+        return entries;
+    }
+
+    /**
+     * 복구를 마친 이전 세그먼트를 지웁니다.
+     */
+    void deleteRecovered() throws IOException {
+        for (Path segment : recoveredSegments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    /**
+     * 항목을 기록하고 디스크에 동기화합니다.
+     * - 리턴값: 항목이 들어간 세그먼트 (DB 반영 후 resolve에 넘겨야 함)
+     */
+    Segment append(PendingHistory entry) {
+        ByteBuffer record = record(entry);
+        Segment segment;
+        try {
+            synchronized (writeLock) {
+                if (active == null || active.size >= segmentBytes) {
+                    roll();
+                }
+                segment = active;
+                while (record.hasRemaining()) {
+                    segment.channel.write(record);
+                }
+                segment.size += record.limit();
+                segment.unresolved.incrementAndGet();
+            }
+            try {
+                segment.channel.force(false);
+            } catch (ClosedChannelException e) {
+                // 그 사이 다른 스레드가 세그먼트를 넘겼습니다. 봉인할 때 force 했으므로 이미 디스크에 있습니다.
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to history journal", e);
+        }
+        return segment;
+    }
+
+    /**
+     * 항목이 DB에 반영되었거나 롤백되었음을 알립니다. 봉인된 세그먼트가 비면 파일을 지웁니다.
+     */
+    void resolve(Segment segment) {
+        if (segment.unresolved.decrementAndGet() == 0 && segment.sealed) {
+            segment.delete();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            if (active != null) {
+                active.seal();
+                active = null;
+            }
+        }
+        lock.release();
+        lockChannel.close();
+    }
+
+    private void roll() throws IOException {
+        if (active != null) {
+            active.seal();
+        }
+        Path path = directory.resolve(String.format("%016d%s", nextSegmentNumber++, SUFFIX));
+        active = new Segment(path, FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    private static long segmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void readRecords(Path file, List<PendingHistory> entries) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        int valid = 0;
+        while (buffer.remaining() >= 8) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (crc(payload) != checksum) {
+                break;
+            }
+            entries.add(decode(payload));
+            valid++;
+        }
+        if (buffer.hasRemaining()) {
+            logger.warn("History journal {} has a torn or corrupt tail after {} records", file, valid);
+        }
+    }
+
+    private static ByteBuffer record(PendingHistory entry) {
+        byte[] payload = encode(entry);
+        ByteBuffer record = ByteBuffer.allocate(8 + payload.length);
+        record.putInt(payload.length).putInt(crc(payload)).put(payload).flip();
+        return record;
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(PendingHistory entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64
+                + (entry.content() == null ? 0 : entry.content().length() * 3)
+                + (entry.delta() == null ? 0 : entry.delta().length));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(entry.documentId());
+            out.writeInt(entry.revision());
+            out.writeBoolean(entry.keyframe());
+            writeBytes(out, entry.content() == null ? null : entry.content().getBytes(StandardCharsets.UTF_8));
+            writeBytes(out, entry.delta());
+            out.writeLong(entry.editedAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(entry.editedAt().getNano());
+            writeBytes(out, entry.changeDescription() == null
+                    ? null
+                    : entry.changeDescription().getBytes(StandardCharsets.UTF_8));
+            out.writeLong(entry.editorId() == null ? -1 : entry.editorId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static PendingHistory decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long documentId = in.readLong();
+            int revision = in.readInt();
+            boolean keyframe = in.readBoolean();
+            byte[] content = readBytes(in);
+            byte[] delta = readBytes(in);
+            LocalDateTime editedAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            byte[] description = readBytes(in);
+            long editorId = in.readLong();
+            return new PendingHistory(documentId, revision, keyframe,
+                    content == null ? null : new String(content, StandardCharsets.UTF_8),
+                    delta, editedAt,
+                    description == null ? null : new String(description, StandardCharsets.UTF_8),
+                    editorId < 0 ? null : editorId);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.available()) {
+            throw new EOFException("Journal field length " + length + " exceeds record");
+        }
+        byte[] value = new byte[length];
+        in.readFully(value);
+        return value;
+    }
+
+    /**
+     * 저널 파일 하나와 아직 DB에 반영되지 않은 항목 수입니다.
+     */
+    static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicInteger unresolved = new AtomicInteger();
+        private volatile boolean sealed;
+        private long size;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private void seal() throws IOException {
+            channel.force(false);
+            channel.close();
+            sealed = true;
+            if (unresolved.get() == 0) {
+                delete();
+            }
+        }
+
+        private void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warn("Failed to delete history journal segment {}", path, e);
+            }
+        }
+    }
+}
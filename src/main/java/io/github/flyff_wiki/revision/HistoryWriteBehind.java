@@ -0,0 +1,514 @@
+package io.github.flyff_wiki.revision;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.metrics.WikiMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 문서 수정 트랜잭션에서 document_history INSERT를 떼어 내 배치로 저장하는 쓰기 지연(write-behind) 저장소입니다.
+ * - 수정 경로: 문서 UPDATE(버전 조건)를 flush한 뒤 히스토리를 로컬 저널에 기록(fsync)하고 커밋합니다.
+ *   커밋되면 대기열에 넣고, 롤백되면 저널 항목을 버립니다.
+ * - 저장 경로: 단일 writer 스레드가 대기열을 batchSize 단위로 꺼내 JDBC 배치 INSERT 후 저널 항목을 정리합니다.
+ *   실패하면 maxAttempts번까지 재시도하고, 그래도 실패하면 한 건씩 넣어 실패한 항목만 격리(quarantine)합니다.
+ *   격리된 항목은 배압 허가를 돌려주어 writer와 다른 수정을 막지 않지만, 저장될 때까지 pending과 저널에는 남습니다.
+ *   키프레임 + 델타 사슬이 끊기지 않도록 RevisionStore는 DB에 빠진 리비전을 pending에서 채우고,
+ *   writer는 retryInterval마다 격리된 항목을 다시 넣어 봅니다. 종료 시 남은 항목은 다음 시작 때 저널에서 복구됩니다.
+ * - 조회: DB에 들어가기 전의 리비전은 pending으로 조회할 수 있습니다 (RevisionStore가 사용).
+ * - 배압: 저널 기록 ~ DB 반영 사이의 항목 수가 capacity를 넘으면 offerTimeout만큼 기다린 뒤 HistoryBacklogException을 던집니다.
+ * - 복구: 시작 시 이전 실행의 저널을 읽어, 커밋된 수정(documents.revision_count > revision)이면서 DB에 없는 리비전만 넣습니다.
+ *   같은 (문서, 리비전)이 여러 번 기록되었다면 마지막 기록만 커밋되었을 수 있습니다
+ *   (문서 행 잠금을 잡은 뒤 기록하므로, 앞선 기록은 롤백된 시도입니다).
+ * - 설정: 저널은 재부팅에도 남아야 하므로 기본 경로가 없습니다. journal-dir 없이 켜면 시작(또는 전환)에 실패합니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class HistoryWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryWriteBehind.class);
+
+    private static final String INSERT_SQL = "insert into document_history "
+            + "(document_id, user_id, revision, keyframe, content, delta, edited_at, change_description) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WikiMetrics wikiMetrics;
+
+    private final Path journalDirectory;
+    private final long segmentBytes;
+    private final int batchSize;
+    private final int capacity;
+    private final Duration offerTimeout;
+    private final int maxAttempts;
+    private final long retryIntervalNanos;
+    private final Semaphore permits;
+    private final BlockingQueue<Queued> queue = new LinkedBlockingQueue<>();
+    private final Map<Key, PendingHistory> pending = new ConcurrentHashMap<>();
+    private final Map<Long, DocumentPending> pendingByDocument = new ConcurrentHashMap<>();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong quarantined = new AtomicLong();
+    // writer 스레드만 접근합니다 (시작 전 복구 포함).
+    private final List<Queued> parked = new ArrayList<>();
+    private long nextParkedRetry;
+
+    private volatile boolean enabled;
+    private volatile boolean running;
+    private HistoryJournal journal;
+    private Thread writer;
+
+    public HistoryWriteBehind(
+            @Value("${flyff.history.write-behind.enabled:false}") boolean enabled,
+            @Value("${flyff.history.write-behind.journal-dir:}") String journalDirectory,
+            @Value("${flyff.history.write-behind.segment-bytes:67108864}") long segmentBytes,
+            @Value("${flyff.history.write-behind.batch-size:200}") int batchSize,
+            @Value("${flyff.history.write-behind.capacity:10000}") int capacity,
+            @Value("${flyff.history.write-behind.offer-timeout:2s}") Duration offerTimeout,
+            @Value("${flyff.history.write-behind.max-attempts:8}") int maxAttempts,
+            @Value("${flyff.history.write-behind.retry-interval:30s}") Duration retryInterval) {
+        this.enabled = enabled;
+        this.journalDirectory = journalDirectory == null || journalDirectory.isBlank()
+                ? null
+                : Path.of(journalDirectory);
+        this.segmentBytes = segmentBytes;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.offerTimeout = offerTimeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.permits = new Semaphore(capacity);
+    }
+
+    /**
+     * 저널을 열고 이전 실행에서 남은 항목을 복구한 뒤 writer 스레드를 시작합니다.
+     * - 주의사항: 비활성 상태로 시작해도 복구는 수행합니다 (이전 실행이 남긴 리비전을 잃지 않도록).
+     *   journal-dir이 없으면 켜진 상태에서는 IllegalStateException으로 시작을 막고, 꺼진 상태에서는 저널 없이 둡니다.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (journalDirectory == null) {
+            requireJournal(enabled);
+            logger.info("History write-behind is disabled and no journal directory is configured");
+            return;
+        }
+        journal = HistoryJournal.open(journalDirectory, segmentBytes);
+        recover();
+        running = true;
+        writer = new Thread(this::drain, "history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        if (journal == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            logger.warn("{} history revisions were not written before shutdown; they will be recovered from the journal",
+                    queue.size());
+        }
+        if (quarantined.get() > 0) {
+            logger.warn("{} quarantined history revisions stay in the journal and will be retried on the next start",
+                    quarantined.get());
+        }
+        journal.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 쓰기 지연 사용 여부를 런타임에 전환합니다. 이미 대기 중인 항목은 계속 저장됩니다.
+     * - 주의사항: 저널 디렉터리 없이 시작한 인스턴스는 켤 수 없습니다 (IllegalStateException).
+     */
+    public void setEnabled(boolean enabled) {
+        if (journal == null) {
+            requireJournal(enabled);
+        }
+        this.enabled = enabled;
+    }
+
+    private static void requireJournal(boolean enabled) {
+        if (enabled) {
+            throw new IllegalStateException("flyff.history.write-behind.journal-dir must point to persistent storage "
+                    + "when history write-behind is enabled");
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 수정한 문서의 히스토리를 저널에 기록하고, 커밋되면 배치 저장 대기열에 넣습니다.
+     * - 인자: documentId (문서 ID), history (RevisionStore.compact를 거친 히스토리)
+     * - 주의사항: 문서 UPDATE를 flush하여 행 잠금을 잡은 뒤, 커밋 전에 호출해야 합니다.
+     *   대기열이 가득 차면 HistoryBacklogException을 던지고 트랜잭션은 롤백됩니다.
+     */
+    public void submit(Long documentId, DocumentHistory history) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("History write-behind requires an active transaction");
+        }
+        acquirePermit();
+        PendingHistory entry = new PendingHistory(documentId, history.getRevision(), history.isKeyframe(),
+                history.getContent(), history.getDelta(), history.getEditedAt(), history.getChangeDescription(),
+                history.getEditor() == null ? null : history.getEditor().getId());
+        HistoryJournal.Segment segment;
+        try {
+            segment = journal.append(entry);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        Key key = new Key(documentId, entry.revision());
+        addPending(key, entry);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    queue.add(new Queued(key, entry, segment));
+                } else {
+                    removePending(key, entry);
+                    journal.resolve(segment);
+                    permits.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * 아직 DB에 저장되지 않은 리비전을 찾습니다. 없으면 null입니다.
+     */
+    public PendingHistory pending(Long documentId, int revision) {
+        return pending.get(new Key(documentId, revision));
+    }
+
+    /**
+     * 문서의 대기 중인 리비전이 모두 DB에 저장될 때까지 기다립니다 (히스토리 목록/내보내기의 완전성 보장용).
+     * - 리턴값: 시간 안에 모두 저장되었으면 true (격리된 리비전이 있으면 다시 저장될 때까지 false)
+     * - 동작 흐름: 문서별 대기 수가 0이 되는 순간 완료되는 future를 기다립니다. 대기 항목이 없으면 바로 true입니다.
+     */
+    public boolean awaitPersisted(Long documentId, Duration timeout) {
+        DocumentPending tracked = pendingByDocument.get(documentId);
+        if (tracked == null) {
+            return true;
+        }
+        try {
+            tracked.drained.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public HistoryWriteBehindStats stats() {
+        return new HistoryWriteBehindStats(enabled, pending.size(), queue.size(), capacity,
+                inserted.get(), batches.get(), recovered.get(), quarantined.get());
+    }
+
+    private void addPending(Key key, PendingHistory entry) {
+        if (pending.put(key, entry) == null) {
+            pendingByDocument.compute(key.documentId(), (id, count) -> {
+                DocumentPending tracked = count == null ? new DocumentPending() : count;
+                tracked.count++;
+                return tracked;
+            });
+        }
+    }
+
+    /**
+     * 대기 항목을 지우고, 문서의 마지막 대기 항목이었다면 awaitPersisted 대기자를 깨웁니다.
+     */
+    private void removePending(Key key, PendingHistory entry) {
+        if (!pending.remove(key, entry)) {
+            return;
+        }
+        pendingByDocument.computeIfPresent(key.documentId(), (id, tracked) -> {
+            if (--tracked.count > 0) {
+                return tracked;
+            }
+            tracked.drained.complete(null);
+            return null;
+        });
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new HistoryBacklogException(capacity);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HistoryBacklogException(capacity);
+        }
+    }
+
+    /**
+     * writer 스레드 본체입니다. 종료 요청 후에도 대기열이 빌 때까지 저장합니다.
+     * - 동작 흐름: 배치 저장 -> 실패한 항목은 격리 (pending/저널 유지, 허가 반환) -> retryInterval마다 격리 항목 재시도
+     */
+    private void drain() {
+        List<Queued> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (!parked.isEmpty() && System.nanoTime() - nextParkedRetry >= 0) {
+                    retryParked();
+                }
+                Queued first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                List<Queued> failed = writeWithRetry(batch);
+                for (Queued queued : batch) {
+                    if (failed.contains(queued)) {
+                        park(queued);
+                    } else {
+                        persisted(queued);
+                    }
+                    permits.release();
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치를 maxAttempts번까지 지수 백오프로 재시도합니다. 끝내 실패하면 한 건씩 넣어 실패한 항목만 골라냅니다.
+     * - 리턴값: DB에 넣지 못한 항목 (모두 저장되었으면 빈 목록)
+     */
+    private List<Queued> writeWithRetry(List<Queued> batch) throws InterruptedException {
+        List<Queued> sorted = batch.stream()
+                .sorted(Comparator.comparingLong((Queued queued) -> queued.key().documentId())
+                        .thenComparingInt(queued -> queued.key().revision()))
+                .toList();
+        List<PendingHistory> entries = sorted.stream().map(Queued::entry).toList();
+        long backoffMillis = 100;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                insert(entries);
+                written(entries.size());
+                return List.of();
+            } catch (RuntimeException e) {
+                if (attempt == maxAttempts) {
+                    logger.error("Failed to write {} history revisions after {} attempts, writing them one by one",
+                            entries.size(), attempt, e);
+                    break;
+                }
+                logger.error("Failed to write {} history revisions, retrying in {} ms",
+                        entries.size(), backoffMillis, e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, 10_000);
+            }
+        }
+        List<Queued> failed = new ArrayList<>();
+        for (Queued queued : sorted) {
+            try {
+                insert(List.of(queued.entry()));
+                written(1);
+            } catch (RuntimeException e) {
+                logger.error("Failed to write revision {} of document {}", queued.key().revision(),
+                        queued.key().documentId(), e);
+                failed.add(queued);
+            }
+        }
+        return failed;
+    }
+
+    private void written(int rows) {
+        inserted.addAndGet(rows);
+        wikiMetrics.historyRowsWritten(true, rows);
+        batches.incrementAndGet();
+    }
+
+    private void persisted(Queued queued) {
+        removePending(queued.key(), queued.entry());
+        journal.resolve(queued.segment());
+    }
+
+    /**
+     * 저장하지 못한 항목을 격리합니다. pending과 저널에 그대로 두어 복원과 재시작 복구가 계속 되게 합니다.
+     */
+    private void park(Queued queued) {
+        if (parked.isEmpty()) {
+            nextParkedRetry = System.nanoTime() + retryIntervalNanos;
+        }
+        parked.add(queued);
+        quarantined.set(parked.size());
+        logger.error("Quarantined revision {} of document {}, retrying every {} s", queued.key().revision(),
+                queued.key().documentId(), TimeUnit.NANOSECONDS.toSeconds(retryIntervalNanos));
+    }
+
+    /**
+     * 격리된 항목을 한 건씩 다시 넣어 봅니다. 성공한 항목만 pending과 저널에서 정리합니다.
+     */
+    private void retryParked() {
+        List<Queued> retry = new ArrayList<>(parked);
+        parked.clear();
+        for (Queued queued : retry) {
+            try {
+                insert(List.of(queued.entry()));
+                written(1);
+                persisted(queued);
+                logger.info("Stored quarantined revision {} of document {}", queued.key().revision(),
+                        queued.key().documentId());
+            } catch (RuntimeException e) {
+                logger.debug("Quarantined revision {} of document {} still fails", queued.key().revision(),
+                        queued.key().documentId(), e);
+                parked.add(queued);
+            }
+        }
+        quarantined.set(parked.size());
+        nextParkedRetry = System.nanoTime() + retryIntervalNanos;
+    }
+
+    /**
+     * 한 트랜잭션에서 배치 INSERT합니다. 이미 있는 리비전(재시도/복구 중복)이 섞여 있으면 한 건씩 넣으며 건너뜁니다.
+     */
+    private void insert(List<PendingHistory> entries) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), HistoryWriteBehind::bind));
+        } catch (DuplicateKeyException e) {
+            logger.debug("Batch contained already stored revisions, inserting one by one");
+            for (PendingHistory entry : entries) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, entry));
+                } catch (DuplicateKeyException duplicate) {
+                    logger.debug("Revision {} of document {} is already stored", entry.revision(), entry.documentId());
+                }
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement statement, PendingHistory entry) throws SQLException {
+        statement.setLong(1, entry.documentId());
+        if (entry.editorId() == null) {
+            statement.setNull(2, Types.BIGINT);
+        } else {
+            statement.setLong(2, entry.editorId());
+        }
+        statement.setInt(3, entry.revision());
+        statement.setBoolean(4, entry.keyframe());
+        statement.setString(5, entry.content());
+        statement.setBytes(6, entry.delta());
+        statement.setTimestamp(7, entry.editedAt() == null ? null : Timestamp.valueOf(entry.editedAt()));
+        statement.setString(8, entry.changeDescription());
+    }
+
+    private void recover() throws IOException {
+        List<PendingHistory> entries = journal.readRecovered();
+        if (entries.isEmpty()) {
+            journal.deleteRecovered();
+            return;
+        }
+        Map<Key, PendingHistory> latest = new LinkedHashMap<>();
+        for (PendingHistory entry : entries) {
+            Key key = new Key(entry.documentId(), entry.revision());
+            latest.remove(key);
+            latest.put(key, entry);
+        }
+        Map<Long, Integer> revisionCounts = new HashMap<>();
+        List<PendingHistory> committed = new ArrayList<>();
+        for (PendingHistory entry : latest.values()) {
+            int revisionCount = revisionCounts.computeIfAbsent(entry.documentId(), documentId -> jdbcTemplate
+                    .queryForList("select revision_count from documents where id = ?", Integer.class, documentId)
+                    .stream().findFirst().orElse(-1));
+            Integer stored = jdbcTemplate.queryForObject(
+                    "select count(*) from document_history where document_id = ? and revision = ?",
+                    Integer.class, entry.documentId(), entry.revision());
+            if (revisionCount > entry.revision() && stored != null && stored == 0) {
+                committed.add(entry);
+            }
+        }
+        int stored = 0;
+        for (int from = 0; from < committed.size(); from += batchSize) {
+            List<PendingHistory> chunk = committed.subList(from, Math.min(committed.size(), from + batchSize));
+            try {
+                insert(chunk);
+                stored += chunk.size();
+            } catch (RuntimeException e) {
+                logger.error("Failed to recover {} history revisions as a batch, writing them one by one",
+                        chunk.size(), e);
+                for (PendingHistory entry : chunk) {
+                    try {
+                        insert(List.of(entry));
+                        stored++;
+                    } catch (RuntimeException failed) {
+                        // 이전 세그먼트는 곧 지우므로 새 저널에 다시 기록하고 격리합니다.
+                        Key key = new Key(entry.documentId(), entry.revision());
+                        addPending(key, entry);
+                        park(new Queued(key, entry, journal.append(entry)));
+                    }
+                }
+            }
+        }
+        journal.deleteRecovered();
+        recovered.addAndGet(stored);
+        logger.info("Recovered {} history revisions from the journal ({} records read)", stored, entries.size());
+    }
+
+    private record Key(long documentId, int revision) {
+    }
+
+    private record Queued(Key key, PendingHistory entry, HistoryJournal.Segment segment) {
+    }
+
+    /**
+     * 문서 하나의 대기 리비전 수입니다. count는 pendingByDocument.compute 안에서만 바꿉니다.
+     */
+    private static final class DocumentPending {
+
+        private final CompletableFuture<Void> drained = new CompletableFuture<>();
+        private int count;
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.flyff_wiki.revision;
+
+/**
+ * 쓰기 지연 히스토리 저장의 현재 상태와 누적 통계입니다.
+ * - pending: 저널에 기록되었지만 아직 DB에 없는 리비전 수, queued: 커밋되어 INSERT를 기다리는 수
+ * - quarantined: 재시도 한도를 넘겨 격리된 (pending과 저널에 남아 주기적으로 다시 넣는) 리비전 수
+ */
+public record HistoryWriteBehindStats(
+        boolean enabled,
+        int pending,
+        int queued,
+        int capacity,
+        long inserted,
+        long batches,
+        long recovered,
+        long quarantined) {
+}
@@ -0,0 +1,18 @@
+package io.github.flyff_wiki.revision;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저널에 기록되었지만 아직 document_history 테이블에 들어가지 않은 히스토리 행입니다.
+ * - content는 키프레임일 때만, delta는 델타 리비전일 때만 채워집니다. editorId는 편집자가 없으면 null입니다.
+ */
+public record PendingHistory(
+        long documentId,
+        int revision,
+        boolean keyframe,
+        String content,
+        byte[] delta,
+        LocalDateTime editedAt,
+        String changeDescription,
+        Long editorId) {
+}
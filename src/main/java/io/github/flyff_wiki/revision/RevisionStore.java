@@ -0,0 +1,138 @@
+package io.github.flyff_wiki.revision;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.repository.DocumentHistoryRepository;
+
+/**
+ * 문서 히스토리를 키프레임 + 델타 형태로 보관하고 임의 리비전을 복원하는 저장소입니다.
+ * - 리비전 번호가 keyframeInterval의 배수이면 전체 본문(키프레임)을 저장합니다.
+ * - 그 사이 리비전은 직전 리비전 본문 대비 TextDelta만 저장합니다.
+ * - 복원 비용은 최대 keyframeInterval - 1개의 델타 적용으로 제한됩니다.
+ * - 쓰기 지연(HistoryWriteBehind) 중인 리비전은 DB보다 먼저 대기 항목에서 찾습니다.
+ */
+@Component
+public class RevisionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevisionStore.class);
+
+    @Autowired
+    private DocumentHistoryRepository documentHistoryRepository;
+
+    @Autowired
+    private HistoryWriteBehind historyWriteBehind;
+
+    @Value("${flyff.revision.keyframe-interval:16}")
+    private int keyframeInterval;
+
+    /**
+     * 새 히스토리에 리비전 번호를 매기고, 키프레임이 아니면 본문을 델타로 압축합니다.
+     * - 인자: document (히스토리가 추가될 문서), history (content에 전체 스냅샷이 채워진 히스토리)
+     * - 리턴값: 없음 (history와 document.revisionCount가 갱신됨)
+     * - 동작 흐름: 리비전 번호 할당 -> 키프레임 여부 판단 -> 직전 리비전 복원 -> 델타 인코딩
+     * - 주의사항: 델타가 원문보다 크면 키프레임으로 저장합니다. 호출 후 document.addHistory를 호출해야 합니다.
+     *   content가 null이면 빈 문자열로 바꿔 저장하므로 다음 리비전의 델타 기준이 항상 존재합니다.
+     * - 사용 예시: revisionStore.compact(doc, history); doc.addHistory(history);
+     */
+    public void compact(Document document, DocumentHistory history) {
+        int revision = document.getRevisionCount();
+        history.setRevision(revision);
+        document.setRevisionCount(revision + 1);
+
+        String snapshot = history.getContent() == null ? "" : history.getContent();
+        history.setContent(snapshot);
+        if (revision % keyframeInterval == 0) {
+            history.setKeyframe(true);
+            return;
+        }
+
+        String base = reconstruct(document.getId(), revision - 1);
+        byte[] delta = TextDelta.encode(base, snapshot);
+        if (delta.length >= snapshot.getBytes(StandardCharsets.UTF_8).length) {
+            logger.debug("Delta for document {} revision {} is not smaller than snapshot, storing keyframe",
+                    document.getId(), revision);
+            history.setKeyframe(true);
+            return;
+        }
+        history.setKeyframe(false);
+        history.setDelta(delta);
+        history.setContent(null);
+    }
+
+    /**
+     * 특정 리비전의 본문을 가장 가까운 키프레임과 이후 델타들로 복원합니다.
+     * - 인자: documentId (문서 ID), revision (복원할 리비전 번호)
+     * - 리턴값: 해당 리비전의 전체 본문
+     * - 동작 흐름: 요청 리비전부터 아래로 대기 항목을 모음 (대기 키프레임 또는 대기 아닌 리비전에서 멈춤)
+     *   -> 시작 본문 결정 (대기 키프레임 또는 DB 복원) -> 대기 델타를 오름차순 적용
+     * - 주의사항: 리비전이 없으면 RuntimeException을 던집니다.
+     */
+    public String reconstruct(Long documentId, int revision) {
+        Deque<PendingHistory> pending = new ArrayDeque<>();
+        for (int r = revision; r >= 0; r--) {
+            PendingHistory entry = historyWriteBehind.pending(documentId, r);
+            if (entry == null) {
+                break;
+            }
+            pending.push(entry);
+            if (entry.keyframe()) {
+                break;
+            }
+        }
+        if (pending.isEmpty()) {
+            return reconstructStored(documentId, revision);
+        }
+        PendingHistory first = pending.pop();
+        String content = first.keyframe()
+                ? first.content()
+                : TextDelta.apply(reconstructStored(documentId, first.revision() - 1), first.delta());
+        for (PendingHistory entry : pending) {
+            content = entry.keyframe() ? entry.content() : TextDelta.apply(content, entry.delta());
+        }
+        return content;
+    }
+
+    /**
+     * DB에 저장된 리비전으로 본문을 복원합니다. 격리되어 아직 DB에 없는 리비전은 대기 항목으로 채웁니다.
+     * - 주의사항: DB 키프레임이 없으면 (리비전 0이 격리된 경우) 리비전 0부터 채웁니다.
+     */
+    private String reconstructStored(Long documentId, int revision) {
+        DocumentHistory keyframe = documentHistoryRepository
+                .findFirstByDocumentIdAndKeyframeTrueAndRevisionLessThanEqualOrderByRevisionDesc(documentId, revision)
+                .orElse(null);
+        // 이전 버전은 null 스냅샷을 본문 없는 키프레임으로 저장했으므로 빈 문자열로 취급합니다.
+        String content = keyframe == null || keyframe.getContent() == null ? "" : keyframe.getContent();
+        int from = keyframe == null ? 0 : keyframe.getRevision() + 1;
+        if (from > revision) {
+            return content;
+        }
+
+        List<DocumentHistory> chain = documentHistoryRepository
+                .findByDocumentIdAndRevisionBetweenOrderByRevisionAsc(documentId, from, revision);
+        int next = 0;
+        for (int r = from; r <= revision; r++) {
+            if (next < chain.size() && chain.get(next).getRevision() == r) {
+                DocumentHistory history = chain.get(next++);
+                content = history.isKeyframe() ? history.getContent() : TextDelta.apply(content, history.getDelta());
+                continue;
+            }
+            PendingHistory entry = historyWriteBehind.pending(documentId, r);
+            if (entry == null) {
+                throw new RuntimeException("Revision not found");
+            }
+            content = entry.keyframe() ? entry.content() : TextDelta.apply(content, entry.delta());
+        }
+        return content;
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.flyff_wiki.revision;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 두 텍스트 사이의 COPY/INSERT 델타를 만들고 적용하는 인코더입니다.
+ * - 동작 방식: base를 고정 크기 블록으로 해시 색인한 뒤, target을 롤링 해시로 훑으며
+ *   일치 구간은 COPY(offset, length), 나머지는 INSERT(literal)로 기록합니다.
+ * - 포맷: varint(baseLength) varint(targetLength) 뒤에 연산이 이어집니다.
+ *   COPY는 varint(length << 1) varint(offset), INSERT는 varint(byteLength << 1 | 1) bytes 입니다.
+ * - 주의사항: literal은 char 단위 3바이트 인코딩(CESU-8 방식)을 사용하므로
+ *   서로게이트 쌍이 COPY 경계에서 잘려도 손실 없이 복원됩니다.
+ */
+public final class TextDelta {
+
+    private static final int BLOCK = 16;
+    private static final int PRIME = 31;
+    private static final int OP_COPY = 0;
+    private static final int OP_INSERT = 1;
+
+    private TextDelta() {
+    }
+
+    /**
+     * base를 target으로 바꾸는 델타를 인코딩합니다.
+     * - 인자: base (기준 텍스트), target (복원할 텍스트)
+     * - 리턴값: 직렬화된 델타 바이트 배열
+     * - 사용 예시: byte[] delta = TextDelta.encode(previous, current);
+     */
+    public static byte[] encode(String base, String target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, target.length() / 8));
+        writeVarint(out, base.length());
+        writeVarint(out, target.length());
+
+        int blocks = base.length() / BLOCK;
+        if (blocks == 0 || target.length() < BLOCK) {
+            writeInsert(out, target, 0, target.length());
+            return out.toByteArray();
+        }
+
+        int mask = Integer.highestOneBit(blocks * 2 - 1) * 2 - 1;
+        int[] table = new int[mask + 1];
+        for (int block = blocks - 1; block >= 0; block--) {
+            int offset = block * BLOCK;
+            table[hash(base, offset) & mask] = offset + 1; // 0은 빈 슬롯이므로 +1 저장
+        }
+
+        int pow = 1;
+        for (int i = 1; i < BLOCK; i++) {
+            pow *= PRIME;
+        }
+
+        int literalStart = 0;
+        int pos = 0;
+        int rolling = hash(target, 0);
+        int limit = target.length() - BLOCK;
+        while (pos <= limit) {
+            int candidate = table[rolling & mask] - 1;
+            if (candidate >= 0 && base.regionMatches(candidate, target, pos, BLOCK)) {
+                int copyFrom = candidate;
+                int copyStart = pos;
+                while (copyStart > literalStart && copyFrom > 0
+                        && base.charAt(copyFrom - 1) == target.charAt(copyStart - 1)) {
+                    copyFrom--;
+                    copyStart--;
+                }
+                int copyEnd = pos + BLOCK;
+                int baseEnd = candidate + BLOCK;
+                while (copyEnd < target.length() && baseEnd < base.length()
+                        && base.charAt(baseEnd) == target.charAt(copyEnd)) {
+                    copyEnd++;
+                    baseEnd++;
+                }
+                writeInsert(out, target, literalStart, copyStart);
+                writeVarint(out, (copyEnd - copyStart) << 1 | OP_COPY);
+                writeVarint(out, copyFrom);
+                literalStart = copyEnd;
+                pos = copyEnd;
+                if (pos <= limit) {
+                    rolling = hash(target, pos);
+                }
+                continue;
+            }
+            if (pos < limit) {
+                rolling = (rolling - target.charAt(pos) * pow) * PRIME + target.charAt(pos + BLOCK);
+            }
+            pos++;
+        }
+        writeInsert(out, target, literalStart, target.length());
+        return out.toByteArray();
+    }
+
+    /**
+     * base에 델타를 적용하여 target을 복원합니다.
+     * - 인자: base (encode 시 사용한 기준 텍스트), delta (encode 결과)
+     * - 리턴값: 복원된 텍스트
+     * - 주의사항: base 길이가 델타 헤더와 다르면 IllegalArgumentException을 던집니다.
+     */
+    public static String apply(String base, byte[] delta) {
+        int[] cursor = { 0 };
+        int baseLength = readVarint(delta, cursor);
+        if (baseLength != base.length()) {
+            throw new IllegalArgumentException("Delta base length mismatch: expected "
+                    + baseLength + " but was " + base.length());
+        }
+        int targetLength = readVarint(delta, cursor);
+        StringBuilder target = new StringBuilder(targetLength);
+        while (cursor[0] < delta.length) {
+            int op = readVarint(delta, cursor);
+            int length = op >>> 1;
+            if ((op & 1) == OP_COPY) {
+                int offset = readVarint(delta, cursor);
+                target.append(base, offset, offset + length);
+            } else {
+                cursor[0] = readChars(delta, cursor[0], cursor[0] + length, target);
+            }
+        }
+        if (target.length() != targetLength) {
+            throw new IllegalArgumentException("Delta produced " + target.length()
+                    + " chars, expected " + targetLength);
+        }
+        return target.toString();
+    }
+
+    private static int hash(CharSequence text, int offset) {
+        int h = 0;
+        for (int i = offset; i < offset + BLOCK; i++) {
+            h = h * PRIME + text.charAt(i);
+        }
+        return h;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, String text, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        ByteArrayOutputStream literal = new ByteArrayOutputStream((to - from) * 3);
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                literal.write(c);
+            } else if (c < 0x800) {
+                literal.write(0xC0 | (c >> 6));
+                literal.write(0x80 | (c & 0x3F));
+            } else {
+                literal.write(0xE0 | (c >> 12));
+                literal.write(0x80 | ((c >> 6) & 0x3F));
+                literal.write(0x80 | (c & 0x3F));
+            }
+        }
+        writeVarint(out, literal.size() << 1 | OP_INSERT);
+        out.write(literal.toByteArray(), 0, literal.size());
+    }
+
+    private static int readChars(byte[] bytes, int from, int to, StringBuilder target) {
+        int i = from;
+        while (i < to) {
+            int b = bytes[i] & 0xFF;
+            if (b < 0x80) {
+                target.append((char) b);
+                i += 1;
+            } else if (b < 0xE0) {
+                target.append((char) (((b & 0x1F) << 6) | (bytes[i + 1] & 0x3F)));
+                i += 2;
+            } else {
+                target.append((char) (((b & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F)));
+                i += 3;
+            }
+        }
+        return i;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] cursor) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            int b = bytes[cursor[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
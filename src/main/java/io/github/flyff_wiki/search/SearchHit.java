@@ -0,0 +1,7 @@
+package io.github.flyff_wiki.search;
+
+/**
+ * 색인 검색 결과 한 건 (문서 ID와 BM25 점수).
+ */
+public record SearchHit(long documentId, float score) {
+}
@@ -0,0 +1,10 @@
+package io.github.flyff_wiki.search;
+
+import java.util.List;
+
+/**
+ * 색인 검색 결과입니다.
+ * - totalMatches: 모든 질의 토큰을 포함하는 문서 수, hits: 점수 상위 limit건
+ */
+public record SearchHits(int totalMatches, List<SearchHit> hits) {
+}
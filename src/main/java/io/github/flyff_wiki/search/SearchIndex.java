@@ -0,0 +1,260 @@
+package io.github.flyff_wiki.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문서 제목/본문에 대한 메모리 역색인(inverted index)입니다.
+ * - 구조: 토큰 -> Postings(문서 서수 오름차순 int[] + 빈도 int[]). 문서 ID는 내부 서수(ordinal)로 바꿔 저장합니다.
+ * - 갱신: 문서를 다시 색인하면 새 서수를 붙여 뒤에 추가하고 이전 서수는 삭제 표시만 합니다.
+ *   삭제 표시가 전체의 1/4을 넘으면 서수를 다시 매기며 한 번에 정리합니다 (compaction).
+ * - 점수: BM25 (k1=1.2, b=0.75). 제목 토큰은 TITLE_BOOST배 빈도로 계산합니다.
+ * - 질의: 모든 질의 토큰을 포함한 문서만 결과에 포함합니다 (AND).
+ * - 동시성: 읽기/쓰기 락으로 검색은 동시에, 색인 갱신은 단독으로 수행합니다.
+ */
+public class SearchIndex {
+
+    static final int TITLE_BOOST = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_COMPACTION_DELETES = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] documentIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int nextOrdinal;
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * 문서를 색인합니다. 이미 색인된 문서면 이전 내용을 대체합니다.
+     * - 인자: documentId (문서 ID), title (제목), content (본문)
+     * - 동작 흐름: 락 밖에서 토큰화/빈도 계산 -> 쓰기 락 -> 이전 서수 삭제 표시 -> 새 서수로 postings 추가
+     */
+    public void index(long documentId, String title, String content) {
+        add(documentId, title, content, true);
+    }
+
+    /**
+     * 아직 색인되지 않은 문서만 색인합니다.
+     * - 리턴값: 새로 색인했으면 true
+     */
+    public boolean indexIfAbsent(long documentId, String title, String content) {
+        return add(documentId, title, content, false);
+    }
+
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 토큰을 모두 포함한 문서를 BM25 점수 순으로 반환합니다.
+     * - 인자: query (검색어), limit (최대 결과 수)
+     * - 리턴값: 전체 일치 수와 상위 limit건
+     * - 동작 흐름: 질의 토큰화 -> 가장 드문 토큰의 postings를 후보로 -> 나머지 토큰은 이진 탐색으로 확인하며 점수 합산
+     */
+    public SearchHits search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchHits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocuments = ordinals.size();
+            if (liveDocuments == 0) {
+                return new SearchHits(0, List.of());
+            }
+            Postings[] lists = new Postings[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return new SearchHits(0, List.of());
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            float averageLength = (float) totalLength / liveDocuments;
+            float[] idf = new float[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                int df = Math.min(lists[i].size, liveDocuments);
+                idf[i] = (float) Math.log(1 + (liveDocuments - df + 0.5) / (df + 0.5));
+            }
+
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(SearchHit::score));
+            int matches = 0;
+            Postings rarest = lists[0];
+            candidates:
+            for (int p = 0; p < rarest.size; p++) {
+                int ordinal = rarest.docs[p];
+                if (deleted.get(ordinal)) {
+                    continue;
+                }
+                float norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                float score = 0;
+                for (int i = 0; i < lists.length; i++) {
+                    int at = i == 0 ? p : lists[i].find(ordinal);
+                    if (at < 0) {
+                        continue candidates;
+                    }
+                    int tf = lists[i].freqs[at];
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+                matches++;
+                top.add(new SearchHit(documentIds[ordinal], score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+            return new SearchHits(matches, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean add(long documentId, String title, String content, boolean replace) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> titleTokens = Tokenizer.tokenize(title);
+        List<String> contentTokens = Tokenizer.tokenize(content);
+        for (String token : titleTokens) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : contentTokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = titleTokens.size() * TITLE_BOOST + contentTokens.size();
+
+        lock.writeLock().lock();
+        try {
+            if (!replace && ordinals.containsKey(documentId)) {
+                return false;
+            }
+            removeLocked(documentId);
+            int ordinal = nextOrdinal++;
+            if (ordinal == documentIds.length) {
+                documentIds = Arrays.copyOf(documentIds, ordinal * 2);
+                lengths = Arrays.copyOf(lengths, ordinal * 2);
+            }
+            documentIds[ordinal] = documentId;
+            lengths[ordinal] = length;
+            totalLength += length;
+            ordinals.put(documentId, ordinal);
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new Postings()).add(ordinal, entry.getValue());
+            }
+            if (deletedCount >= MIN_COMPACTION_DELETES && deletedCount * 4 >= nextOrdinal) {
+                compactLocked();
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long documentId) {
+        Integer ordinal = ordinals.remove(documentId);
+        if (ordinal != null) {
+            deleted.set(ordinal);
+            deletedCount++;
+            totalLength -= lengths[ordinal];
+        }
+    }
+
+    /**
+     * 삭제 표시된 서수를 제거하고 남은 문서에 서수를 다시 매깁니다. 서수 순서가 유지되므로 postings 정렬도 유지됩니다.
+     */
+    private void compactLocked() {
+        int[] remap = new int[nextOrdinal];
+        int live = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+            } else {
+                remap[ordinal] = live;
+                documentIds[live] = documentIds[ordinal];
+                lengths[live] = lengths[ordinal];
+                live++;
+            }
+        }
+        postings.values().removeIf(list -> list.compact(remap) == 0);
+        ordinals.replaceAll((documentId, ordinal) -> remap[ordinal]);
+        deleted.clear();
+        deletedCount = 0;
+        nextOrdinal = live;
+    }
+
+    /**
+     * 한 토큰의 문서 서수/빈도 목록입니다. 서수는 항상 오름차순입니다.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = ordinal;
+            freqs[size] = frequency;
+            size++;
+        }
+
+        int find(int ordinal) {
+            int at = Arrays.binarySearch(docs, 0, size, ordinal);
+            return at >= 0 ? at : -1;
+        }
+
+        int compact(int[] remap) {
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                int mapped = remap[docs[read]];
+                if (mapped >= 0) {
+                    docs[write] = mapped;
+                    freqs[write] = freqs[read];
+                    write++;
+                }
+            }
+            size = write;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.flyff_wiki.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.SearchResponse;
+import io.github.flyff_wiki.dto.SearchResult;
+import io.github.flyff_wiki.dto.SearchSource;
+import io.github.flyff_wiki.dto.SuggestResponse;
+import io.github.flyff_wiki.dto.TitleSuggestion;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import io.github.flyff_wiki.repository.DocumentRepository;
+import io.github.flyff_wiki.service.DocumentService;
+import io.github.flyff_wiki.support.Slugs;
+
+/**
+ * 문서 전문 검색 서비스입니다.
+ * - 시작 시 DB에서 한 번 색인을 채우고, 이후에는 문서 변경 이벤트로 해당 문서만 다시 색인합니다.
+ * - 검색 결과 본문 발췌는 DocumentService.getDocumentView(캐시 경유)로 읽은 본문에서 만듭니다.
+ * - 제목 자동 완성은 같은 시점에 채우고 갱신하는 슬러그 트라이(TitleTrie)로 DB 없이 응답합니다.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Value("${flyff.search.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private final SearchIndex searchIndex = new SearchIndex();
+
+    private final TitleTrie titleTrie = new TitleTrie();
+
+    /**
+     * 애플리케이션 시작 시 전체 문서로 색인과 제목 트라이를 채웁니다.
+     * - 동작 흐름: 슬러그가 빈 문서 채우기 -> id 키셋으로 rebuildBatchSize씩 읽기 -> 아직 색인되지 않은 문서만 색인/트라이 등록
+     * - 주의사항: 시작 직후 변경 이벤트로 먼저 색인된 문서는 더 오래된 DB 값으로 덮어쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long start = System.nanoTime();
+        int assigned = documentService.assignMissingSlugs(rebuildBatchSize);
+        if (assigned > 0) {
+            logger.info("Assigned slugs to {} documents saved without one", assigned);
+        }
+        int indexed = 0;
+        long afterId = 0;
+        while (true) {
+            List<SearchSource> page = documentRepository.findSearchSources(afterId, PageRequest.of(0, rebuildBatchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (SearchSource source : page) {
+                if (searchIndex.indexIfAbsent(source.id(), source.title(), source.content())) {
+                    titleTrie.put(Slugs.of(source.title()), source.id(), source.title());
+                    indexed++;
+                }
+            }
+            afterId = page.get(page.size() - 1).id();
+        }
+        logger.info("Search index built with {} documents ({} title trie nodes) in {} ms", indexed,
+                titleTrie.nodeCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 문서 변경이 커밋되면 해당 문서만 다시 색인합니다. 제목이 바뀌었으면 트라이에서 이전 슬러그를 지웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        DocumentView document = event.document();
+        searchIndex.index(document.id(), document.title(), document.content());
+        if (event.slugChanged()) {
+            titleTrie.remove(event.previousSlug(), document.id());
+        }
+        String slug = document.slug() != null ? document.slug() : Slugs.of(document.title());
+        titleTrie.put(slug, document.id(), document.title());
+    }
+
+    /**
+     * 검색어로 문서를 찾아 점수 순 결과와 발췌를 반환합니다.
+     * - 인자: query (검색어), limit (최대 결과 수, 1 ~ MAX_LIMIT로 보정)
+     * - 리턴값: 전체 일치 수, 결과 목록, 소요 시간(마이크로초)
+     */
+    public SearchResponse search(String query, int limit) {
+        long start = System.nanoTime();
+        SearchHits hits = searchIndex.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        List<SearchResult> results = new ArrayList<>(hits.hits().size());
+        for (SearchHit hit : hits.hits()) {
+            try {
+                DocumentView document = documentService.getDocumentView(hit.documentId());
+                results.add(new SearchResult(document.id(), document.title(), hit.score(),
+                        Snippets.of(document.content(), terms)));
+            } catch (RuntimeException e) {
+                logger.debug("Skipping search hit for missing document ID: {}", hit.documentId());
+            }
+        }
+        return new SearchResponse(query, hits.totalMatches(), results, (System.nanoTime() - start) / 1_000);
+    }
+
+    /**
+     * 입력으로 시작하는 제목을 자동 완성합니다. DB와 문서 캐시를 읽지 않습니다.
+     * - 인자: query (입력 중인 제목, 끝의 공백은 단어 경계로 취급), limit (최대 결과 수, 1 ~ MAX_LIMIT로 보정)
+     * - 리턴값: 슬러그 사전 순 후보 목록과 소요 시간(마이크로초)
+     */
+    public SuggestResponse suggest(String query, int limit) {
+        long start = System.nanoTime();
+        List<TitleSuggestion> suggestions = titleTrie.suggest(Slugs.prefix(query),
+                Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return new SuggestResponse(query, suggestions, (System.nanoTime() - start) / 1_000);
+    }
+}
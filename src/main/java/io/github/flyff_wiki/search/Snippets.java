@@ -0,0 +1,35 @@
+package io.github.flyff_wiki.search;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 결과에 보여 줄 본문 발췌(snippet)를 만듭니다.
+ * - 질의 토큰이 처음 등장하는 위치 주변 WINDOW 글자를 잘라 공백을 정리합니다.
+ * - 주의사항: 발췌는 평문입니다. 본문 마크업을 해석하지 않으므로 클라이언트가 이스케이프해서 보여야 합니다.
+ */
+public final class Snippets {
+
+    static final int WINDOW = 160;
+
+    private Snippets() {
+    }
+
+    public static String of(String content, List<String> terms) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+        String lower = content.toLowerCase(Locale.ROOT);
+        int first = -1;
+        for (String term : terms) {
+            int at = lower.indexOf(term);
+            if (at >= 0 && (first < 0 || at < first)) {
+                first = at;
+            }
+        }
+        int from = Math.min(Math.max(0, first - WINDOW / 4), content.length());
+        int to = Math.min(content.length(), from + WINDOW);
+        String excerpt = content.substring(from, to).replaceAll("\\s+", " ").strip();
+        return (from > 0 ? "…" : "") + excerpt + (to < content.length() ? "…" : "");
+    }
+}
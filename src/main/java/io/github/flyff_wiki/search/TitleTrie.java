@@ -0,0 +1,276 @@
+package io.github.flyff_wiki.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.github.flyff_wiki.dto.TitleSuggestion;
+
+/**
+ * 문서 슬러그 -> (문서 ID, 제목)을 담는 메모리 압축 접두사 트리(radix trie)입니다. 제목 자동 완성에 씁니다.
+ * - 구조: 갈림길이 없는 경로는 노드 하나의 label(char[])로 합쳐 저장합니다.
+ *   자식은 label 첫 글자 순으로 정렬된 배열에 두고 이진 탐색합니다 (노드마다 Map을 두지 않음).
+ * - 질의: 접두사를 따라 내려간 뒤 그 아래를 사전 순으로 순회하며 limit개를 모으면 멈춥니다.
+ *   비용은 접두사 길이와 결과 수에 비례하며 전체 제목 수와는 무관합니다.
+ * - 갱신: 추가는 겹치는 label을 나누고(split), 삭제는 빈 잎을 떼어 낸 뒤 자식 하나만 남은 노드를 합칩니다(merge).
+ * - 동시성: SearchIndex와 같이 읽기/쓰기 락으로 질의는 동시에, 갱신은 단독으로 수행합니다.
+ */
+public class TitleTrie {
+
+    private static final long NONE = -1;
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node(new char[0]);
+    private int size;
+
+    /**
+     * 슬러그에 문서를 등록합니다. 같은 슬러그가 있으면 문서 ID/제목을 바꿉니다.
+     * - 인자: slug (Slugs.of로 정규화한 값), documentId (문서 ID), title (응답에 보여 줄 원래 제목)
+     * - 리턴값: 새 슬러그를 추가했으면 true
+     */
+    public boolean put(String slug, long documentId, String title) {
+        if (slug == null || slug.isEmpty()) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < slug.length()) {
+                int index = childIndex(node, slug.charAt(i));
+                if (index < 0) {
+                    Node leaf = new Node(slug.substring(i).toCharArray());
+                    node.children = insertAt(node.children, -index - 1, leaf);
+                    node = leaf;
+                    break;
+                }
+                Node child = node.children[index];
+                int common = commonPrefix(child.label, slug, i);
+                if (common < child.label.length) {
+                    Node split = new Node(Arrays.copyOf(child.label, common));
+                    child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                    split.children = new Node[] { child };
+                    node.children[index] = split;
+                    child = split;
+                }
+                node = child;
+                i += common;
+            }
+            boolean added = node.documentId == NONE;
+            node.documentId = documentId;
+            node.title = title;
+            if (added) {
+                size++;
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 슬러그가 documentId를 가리킬 때만 지웁니다. 그사이 다른 문서가 같은 슬러그를 차지했으면 그대로 둡니다.
+     * - 리턴값: 지웠으면 true
+     */
+    public boolean remove(String slug, long documentId) {
+        if (slug == null || slug.isEmpty()) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            Node parent = null;
+            int parentIndex = -1;
+            Node node = root;
+            int i = 0;
+            while (i < slug.length()) {
+                int index = childIndex(node, slug.charAt(i));
+                if (index < 0) {
+                    return false;
+                }
+                Node child = node.children[index];
+                if (commonPrefix(child.label, slug, i) < child.label.length) {
+                    return false;
+                }
+                parent = node;
+                parentIndex = index;
+                node = child;
+                i += child.label.length;
+            }
+            if (node.documentId == NONE || node.documentId != documentId) {
+                return false;
+            }
+            node.documentId = NONE;
+            node.title = null;
+            size--;
+            if (node.children.length == 0) {
+                parent.children = removeAt(parent.children, parentIndex);
+                if (parent != root && parent.documentId == NONE && parent.children.length == 1) {
+                    merge(parent);
+                }
+            } else if (node.children.length == 1) {
+                merge(node);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 슬러그 접두사로 시작하는 문서를 슬러그 사전 순으로 limit개까지 반환합니다.
+     * - 인자: prefix (Slugs.prefix로 정규화한 접두사), limit (최대 결과 수)
+     * - 리턴값: 일치하는 문서 목록 (접두사가 비어 있으면 빈 목록)
+     */
+    public List<TitleSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            StringBuilder path = new StringBuilder(prefix.length() + 32);
+            int i = 0;
+            while (i < prefix.length()) {
+                int index = childIndex(node, prefix.charAt(i));
+                if (index < 0) {
+                    return List.of();
+                }
+                Node child = node.children[index];
+                int common = commonPrefix(child.label, prefix, i);
+                if (common < child.label.length && i + common < prefix.length()) {
+                    return List.of();
+                }
+                path.append(child.label);
+                node = child;
+                i += common;
+            }
+            List<TitleSuggestion> suggestions = new ArrayList<>(Math.min(limit, size));
+            collect(node, path, limit, suggestions);
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 루트를 뺀 노드 수입니다 (메모리 측정/테스트용).
+     */
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                for (Node child : stack.pop().children) {
+                    count++;
+                    stack.push(child);
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(Node node, StringBuilder path, int limit, List<TitleSuggestion> suggestions) {
+        if (node.documentId != NONE) {
+            suggestions.add(new TitleSuggestion(node.documentId, node.title, path.toString()));
+        }
+        for (Node child : node.children) {
+            if (suggestions.size() >= limit) {
+                return;
+            }
+            int length = path.length();
+            path.append(child.label);
+            collect(child, path, limit, suggestions);
+            path.setLength(length);
+        }
+    }
+
+    /**
+     * 자식이 하나뿐인 빈 노드를 그 자식과 합칩니다.
+     */
+    private static void merge(Node node) {
+        Node child = node.children[0];
+        char[] label = Arrays.copyOf(node.label, node.label.length + child.label.length);
+        System.arraycopy(child.label, 0, label, node.label.length, child.label.length);
+        node.label = label;
+        node.children = child.children;
+        node.documentId = child.documentId;
+        node.title = child.title;
+    }
+
+    private static int childIndex(Node node, char c) {
+        Node[] children = node.children;
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = children[mid].label[0];
+            if (first < c) {
+                low = mid + 1;
+            } else if (first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefix(char[] label, String text, int offset) {
+        int max = Math.min(label.length, text.length() - offset);
+        int i = 0;
+        while (i < max && label[i] == text.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Node[] insertAt(Node[] children, int index, Node node) {
+        Node[] grown = new Node[children.length + 1];
+        System.arraycopy(children, 0, grown, 0, index);
+        grown[index] = node;
+        System.arraycopy(children, index, grown, index + 1, children.length - index);
+        return grown;
+    }
+
+    private static Node[] removeAt(Node[] children, int index) {
+        if (children.length == 1) {
+            return NO_CHILDREN;
+        }
+        Node[] shrunk = new Node[children.length - 1];
+        System.arraycopy(children, 0, shrunk, 0, index);
+        System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+        return shrunk;
+    }
+
+    /**
+     * 트라이 노드입니다. documentId가 NONE이 아니면 루트에서 이 노드까지의 label을 이은 슬러그가 등록된 것입니다.
+     */
+    private static final class Node {
+
+        char[] label;
+        Node[] children = NO_CHILDREN;
+        long documentId = NONE;
+        String title;
+
+        Node(char[] label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.flyff_wiki.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인/질의용 토크나이저입니다.
+ * - 영문/숫자: 연속된 글자를 한 단어로 보고 소문자로 정규화합니다.
+ * - 한글/한자/가나: 연속 구간을 2글자씩 겹쳐 자릅니다(bigram). 조사가 붙어도 어간 bigram이 일치합니다.
+ *   예) "아이템을" -> [아이, 이템, 템을], 질의 "아이템" -> [아이, 이템]
+ * - 한 글자짜리 한글 구간은 그 글자 하나를 토큰으로 씁니다.
+ */
+public final class Tokenizer {
+
+    static final int MAX_TERM_LENGTH = 40;
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isCjk(c)) {
+                int end = i + 1;
+                while (end < length && isCjk(text.charAt(end))) {
+                    end++;
+                }
+                if (end - i == 1) {
+                    tokens.add(String.valueOf(c));
+                } else {
+                    for (int k = i; k < end - 1; k++) {
+                        tokens.add(text.substring(k, k + 2));
+                    }
+                }
+                i = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i + 1;
+                while (end < length && Character.isLetterOrDigit(text.charAt(end)) && !isCjk(text.charAt(end))) {
+                    end++;
+                }
+                if (end - i <= MAX_TERM_LENGTH) {
+                    tokens.add(text.substring(i, end).toLowerCase(Locale.ROOT));
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isCjk(char c) {
+        if (c < 0x1100) {
+            return false;
+        }
+        if (c >= 0xAC00 && c <= 0xD7A3) { // 한글 완성형 음절
+            return true;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.flyff_wiki.service;
+
+/**
+ * 수정 요청의 기대 버전이 현재 버전과 다르거나, 동시 수정에 밀려 커밋하지 못했을 때 던집니다.
+ * - 응답 본문(기준/현재 본문)은 트랜잭션이 롤백된 뒤 DocumentService.describeConflict로 따로 조회합니다.
+ */
+public class DocumentConflictException extends RuntimeException {
+
+    private final Long documentId;
+    private final Long expectedVersion;
+
+    public DocumentConflictException(Long documentId, Long expectedVersion) {
+        super("Document " + documentId + " was modified concurrently (expected version " + expectedVersion + ")");
+        this.documentId = documentId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public Long getDocumentId() {
+        return documentId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
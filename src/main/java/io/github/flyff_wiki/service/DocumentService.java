@@ -1,73 +1,245 @@
 package io.github.flyff_wiki.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.github.flyff_wiki.cache.DocumentViewCache;
+import io.github.flyff_wiki.datasource.ReplicaLagTracker;
+import io.github.flyff_wiki.datasource.ReplicaRoutingDataSource;
 import io.github.flyff_wiki.domain.ContentFormat;
 import io.github.flyff_wiki.domain.Document;
 import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.dto.DocumentConflict;
+import io.github.flyff_wiki.dto.DocumentValidator;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.HistoryCursor;
+import io.github.flyff_wiki.dto.HistoryEntry;
+import io.github.flyff_wiki.dto.HistoryPage;
+import io.github.flyff_wiki.dto.RevisionContent;
+import io.github.flyff_wiki.dto.TitleSource;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import io.github.flyff_wiki.metrics.WikiMetrics;
+import io.github.flyff_wiki.render.RenderService;
+import io.github.flyff_wiki.repository.DocumentHistoryRepository;
 import io.github.flyff_wiki.repository.DocumentRepository;
+import io.github.flyff_wiki.revision.HistoryWriteBehind;
+import io.github.flyff_wiki.revision.RevisionStore;
+import io.github.flyff_wiki.support.ContentHash;
+import io.github.flyff_wiki.support.Slugs;
 
 @Service
 public class DocumentService {
 
     private static final Logger logger = LoggerFactory.getLogger(DocumentService.class);
 
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    private static final Duration HISTORY_FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
+    // 무결성 위반을 구분하는 인덱스 이름 (Document, DocumentHistory의 @Index와 같아야 함)
+    private static final String REVISION_INDEX = "ux_document_history_revision";
+    private static final String SLUG_INDEX = "ux_documents_slug";
+
     @Autowired
     private DocumentRepository documentRepository;
 
+    @Autowired
+    private DocumentHistoryRepository documentHistoryRepository;
+
+    @Autowired
+    private RevisionStore revisionStore;
+
+    @Autowired
+    private HistoryWriteBehind historyWriteBehind;
+
+    @Autowired
+    private DocumentViewCache documentViewCache;
+
+    @Autowired
+    private ReplicaLagTracker replicaLagTracker;
+
+    @Autowired
+    private WikiMetrics wikiMetrics;
+
+    @Autowired
+    private RenderService renderService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 새 문서를 저장합니다.
+     * - 주의사항: 제목의 슬러그를 이미 다른 문서가 쓰고 있으면 DuplicateTitleException을 던집니다.
+     *   미리 확인한 뒤에도 동시에 같은 제목이 저장되면 유니크 인덱스 위반을 같은 예외로 바꿉니다.
+     */
     public Document createDocument(Document document) {
-        logger.info("Creating new document with title: {}", document.getTitle());
-        document.setCreatedAt(LocalDateTime.now());
-        document.setUpdatedAt(LocalDateTime.now());
+        logger.debug("Creating new document with title: {}", document.getTitle());
+        initializeNewDocument(document);
+        String slug = document.getSlug();
+        if (slug != null && documentRepository.existsBySlug(slug)) {
+            throw new DuplicateTitleException(document.getTitle(), slug);
+        }
+        Document saved;
+        try {
+            saved = documentRepository.save(document);
+        } catch (DataIntegrityViolationException e) {
+            if (slug != null && documentRepository.existsBySlug(slug)) {
+                throw new DuplicateTitleException(document.getTitle(), slug);
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(new DocumentChangedEvent(DocumentView.from(saved), true));
+        logger.debug("Document created with ID: {}", saved.getId());
+        return saved;
+    }
+
+    /**
+     * 새 문서의 서버 관리 필드를 초기화합니다. 단건 생성과 일괄 가져오기가 같은 규칙을 쓰도록 분리했습니다.
+     * - 인자: document (요청으로 들어온 새 문서)
+     * - 리턴값: 없음 (document가 직접 변경됨)
+     * - 동작 흐름: 클라이언트가 보낸 id 무시 -> 생성/수정 시각 -> 기본 포맷 -> 본문 해시 -> 제목 슬러그
+     */
+    public void initializeNewDocument(Document document) {
+        LocalDateTime now = LocalDateTime.now();
+        document.setId(null);
+        document.setCreatedAt(now);
+        document.setUpdatedAt(now);
         if (document.getContentFormat() == null) {
             document.setContentFormat(ContentFormat.MARKDOWN); // 기본 포맷
             logger.debug("Setting default content format to MARKDOWN");
         }
-        Document saved = documentRepository.save(document);
-        logger.info("Document created with ID: {}", saved.getId());
-        return saved;
+        document.setContentHash(ContentHash.sha256Hex(document.getContent()));
+        document.setSlug(Slugs.of(document.getTitle()));
     }
 
+    @Transactional
     public Document updateDocument(Long id, Document updatedDocument) {
-        logger.info("Updating document with ID: {}", id);
+        return updateDocument(id, updatedDocument, null);
+    }
+
+    /**
+     * 기대 버전을 확인하며 문서를 수정합니다 (낙관적 락).
+     * - 인자: id (문서 ID), updatedDocument (새 내용), expectedVersion (If-Match로 받은 버전, 검사하지 않으면 null)
+     * - 리턴값: 수정된 문서 (version이 1 증가함)
+     * - 동작 흐름: 로드 -> 버전 비교 -> 히스토리 압축/추가 -> 필드 갱신 -> flush로 버전 조건부 UPDATE 즉시 실행
+     *   -> (쓰기 지연 사용 시) 행 잠금을 잡은 상태에서 히스토리를 저널에 기록, INSERT는 커밋 후 배치로 수행
+     * - 주의사항: 버전이 다르거나 같은 버전을 읽은 다른 수정이 먼저 커밋되면 DocumentConflictException을 던집니다.
+     *   동시 수정은 같은 리비전 번호의 히스토리 INSERT(유니크 인덱스) 또는 버전 조건 UPDATE에서 감지됩니다.
+     *   그 밖의 무결성 위반은 슬러그 인덱스면 DuplicateTitleException으로 바꾸고, 나머지는 그대로 던집니다.
+     *   쓰기 지연 대기열이 가득 차면 HistoryBacklogException을 던집니다.
+     *   바뀐 제목의 슬러그를 다른 문서가 쓰고 있으면 DuplicateTitleException을 던집니다.
+     */
+    @Transactional
+    public Document updateDocument(Long id, Document updatedDocument, Long expectedVersion) {
+        logger.debug("Updating document with ID: {}", id);
         Optional<Document> existing = documentRepository.findById(id);
         if (existing.isEmpty()) {
+            if (expectedVersion != null) {
+                throw new RuntimeException("Document not found");
+            }
             logger.info("Document not found with ID: {}, creating new document instead", id);
             return createDocument(updatedDocument);
         }
 
+        if (updatedDocument.getTitle() == null || updatedDocument.getContent() == null) {
+            // 필수 값 누락이 flush의 무결성 위반(500)이 아니라 잘못된 요청(400)이 되도록 미리 확인합니다.
+            throw new IllegalArgumentException("title and content are required");
+        }
         Document doc = existing.get();
+        if (expectedVersion != null && !expectedVersion.equals(doc.getVersion())) {
+            logger.debug("Version mismatch for document {}: expected {} but was {}", id, expectedVersion, doc.getVersion());
+            throw new DocumentConflictException(id, expectedVersion);
+        }
+        String previousSlug = Slugs.of(doc.getTitle());
+        String slug = Slugs.of(updatedDocument.getTitle());
+        if (!slug.equals(doc.getSlug()) && documentRepository.existsBySlugAndIdNot(slug, id)) {
+            throw new DuplicateTitleException(updatedDocument.getTitle(), slug);
+        }
         // 히스토리 생성: 업데이트 이전 내용을 스냅샷으로 저장합니다.
         // - 인자: updatedDocument (새로 들어온 문서 정보)
         // - 리턴값: 없음 (히스토리는 doc에 추가됨)
-        // - 동작 흐름: 기존 본문 스냅샷 -> 편집자/시각 설정 -> doc.addHistory 호출
+        // - 동작 흐름: 기존 본문 스냅샷 -> 편집자/시각 설정 -> 키프레임/델타 압축 -> doc.addHistory 호출 (쓰기 지연이면 flush 후 submit)
         // - 주의사항: 히스토리는 "업데이트 전" 내용을 저장하는 정책입니다.
         DocumentHistory history = new DocumentHistory();
         history.setEditor(updatedDocument.getAuthor());
         history.setContent(doc.getContent());
         history.setEditedAt(LocalDateTime.now());
         history.setChangeDescription("Document updated");
-        doc.addHistory(history);
+        revisionStore.compact(doc, history);
+        boolean writeBehind = historyWriteBehind.isEnabled();
+        if (!writeBehind) {
+            doc.addHistory(history);
+        }
 
         doc.setTitle(updatedDocument.getTitle());
+        doc.setSlug(slug);
         doc.setContent(updatedDocument.getContent());
+        doc.setContentHash(ContentHash.sha256Hex(updatedDocument.getContent()));
         doc.setContentFormat(updatedDocument.getContentFormat());
         doc.setAuthor(updatedDocument.getAuthor());
         doc.setUpdatedAt(LocalDateTime.now());
-        Document saved = documentRepository.save(doc);
-        logger.info("Document updated successfully with ID: {}", id);
+        Document saved;
+        try {
+            saved = documentRepository.save(doc);
+            documentRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            logger.debug("Concurrent update detected for document {}: {}", id, e.getMessage());
+            throw new DocumentConflictException(id, expectedVersion);
+        } catch (DataIntegrityViolationException e) {
+            String constraint = violatedConstraint(e);
+            if (constraint.contains(REVISION_INDEX)) {
+                logger.debug("Concurrent history revision detected for document {}: {}", id, e.getMessage());
+                throw new DocumentConflictException(id, expectedVersion);
+            }
+            if (constraint.contains(SLUG_INDEX)) {
+                throw new DuplicateTitleException(updatedDocument.getTitle(), slug);
+            }
+            throw e;
+        }
+        if (writeBehind) {
+            historyWriteBehind.submit(id, history);
+        } else {
+            wikiMetrics.historyRowsWritten(false, 1);
+        }
+        eventPublisher.publishEvent(new DocumentChangedEvent(DocumentView.from(saved), false, previousSlug));
+        logger.debug("Document updated successfully with ID: {}", id);
         return saved;
     }
 
+    /**
+     * 충돌 응답에 필요한 기준 본문과 현재 문서를 조회합니다.
+     * - 인자: id (문서 ID), expectedVersion (클라이언트가 편집을 시작한 버전, 없으면 null)
+     * - 리턴값: 기준 본문(히스토리 리비전 expectedVersion)과 현재 문서
+     * - 주의사항: 충돌한 트랜잭션이 롤백된 뒤 새 트랜잭션에서 호출해야 합니다.
+     */
+    @Transactional(readOnly = true)
+    public DocumentConflict describeConflict(Long id, Long expectedVersion) {
+        DocumentView current = DocumentView.from(getDocument(id));
+        String baseContent = null;
+        if (expectedVersion != null && expectedVersion >= 0 && expectedVersion < current.revisionCount()) {
+            baseContent = revisionStore.reconstruct(id, expectedVersion.intValue());
+        }
+        return new DocumentConflict(id, expectedVersion, current.version(), baseContent, current);
+    }
+
     public Document getDocument(Long id) {
-        logger.info("Retrieving document with ID: {}", id);
-        Document document = documentRepository.findById(id)
+        logger.debug("Retrieving document with ID: {}", id);
+        Document document = replicaLagTracker.read(id, () -> documentRepository.findById(id))
                 .orElseThrow(() -> {
                     logger.error("Document not found with ID: {}", id);
                     return new RuntimeException("Document not found");
@@ -75,4 +247,138 @@ public class DocumentService {
         logger.debug("Document retrieved: {}", document.getTitle());
         return document;
     }
+
+    /**
+     * 조회용 문서 응답을 캐시를 거쳐 반환합니다. 히스토리 컬렉션은 로딩하지 않습니다.
+     * - 인자: id (문서 ID)
+     * - 리턴값: 현재 본문과 리비전 수를 담은 DocumentView
+     * - 동작 흐름: DocumentViewCache 조회 -> 미스면 getDocument로 적재 후 캐시에 저장
+     * - 주의사항: 캐시 적중 시 트랜잭션/커넥션을 잡지 않도록 이 메서드에는 @Transactional을 두지 않습니다.
+     */
+    public DocumentView getDocumentView(Long id) {
+        return documentViewCache.get(id, key -> DocumentView.from(getDocument(key)));
+    }
+
+    /**
+     * 제목이나 슬러그로 문서를 찾아 조회용 응답을 반환합니다.
+     * - 인자: titleOrSlug (제목 또는 슬러그. Slugs.of로 정규화하므로 대소문자/공백 차이는 무시됨)
+     * - 리턴값: getDocumentView와 같은 응답 (캐시 경유)
+     * - 동작 흐름: 슬러그 정규화 -> 유니크 인덱스로 ID 조회 (복제본) -> 없으면 원본에서 한 번 더 -> getDocumentView
+     * - 주의사항: 복제본에 아직 반영되지 않은 새 문서도 찾도록, 복제본에서 못 찾은 경우에만 원본을 다시 조회합니다.
+     */
+    public DocumentView getDocumentViewByTitle(String titleOrSlug) {
+        String slug = Slugs.of(titleOrSlug);
+        if (slug == null || slug.isEmpty()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        Long id = documentRepository.findIdBySlug(slug)
+                .or(() -> ReplicaRoutingDataSource.onPrimary(() -> documentRepository.findIdBySlug(slug)))
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+        return getDocumentView(id);
+    }
+
+    /**
+     * 슬러그가 비어 있는 문서(슬러그 도입 이전에 저장된 문서)에 슬러그를 채웁니다.
+     * - 인자: batchSize (한 번에 읽을 문서 수)
+     * - 리턴값: 채운 문서 수
+     * - 주의사항: 정규화 후 다른 문서와 제목이 겹치는 문서는 건너뛰고 경고만 남깁니다 (슬러그는 null로 남음).
+     */
+    public int assignMissingSlugs(int batchSize) {
+        int assigned = 0;
+        long afterId = 0;
+        while (true) {
+            List<TitleSource> page = documentRepository.findTitlesWithoutSlug(afterId, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                return assigned;
+            }
+            for (TitleSource source : page) {
+                try {
+                    assigned += documentRepository.assignSlug(source.id(), Slugs.of(source.title()));
+                } catch (DataIntegrityViolationException e) {
+                    logger.warn("Cannot assign slug to document {}: title '{}' is already used", source.id(),
+                            source.title());
+                }
+            }
+            afterId = page.get(page.size() - 1).id();
+        }
+    }
+
+    /**
+     * 조건부 GET 판단용 검증자를 반환합니다. 본문이나 히스토리는 읽지 않습니다.
+     * - 인자: id (문서 ID)
+     * - 리턴값: 현재 버전과 수정 시각
+     * - 동작 흐름: 캐시에 조회 응답이 있으면 그 값 사용 -> 없으면 기본 키 프로젝션 쿼리 한 번
+     * - 주의사항: 캐시를 채우지 않습니다. 304로 끝나는 요청이 본문을 적재하지 않도록 하기 위함입니다.
+     */
+    public DocumentValidator getValidator(Long id) {
+        DocumentView cached = documentViewCache.peek(id);
+        if (cached != null) {
+            return new DocumentValidator(cached.version(), cached.updatedAt());
+        }
+        return replicaLagTracker.read(id, () -> documentRepository.findValidator(id))
+                .orElseThrow(() -> new RuntimeException("Document not found"));
+    }
+
+    /**
+     * 렌더링된 조회 응답을 반환합니다. MARKDOWN 본문은 캐시된 HTML로 바뀝니다.
+     * - 인자: id (문서 ID)
+     * - 리턴값: content가 HTML인 DocumentView
+     */
+    public DocumentView getRenderedDocumentView(Long id) {
+        return renderService.renderView(getDocumentView(id));
+    }
+
+    /**
+     * 문서 히스토리를 최신순으로 키셋 페이지네이션하여 조회합니다.
+     * - 인자: id (문서 ID), after (이전 페이지의 nextCursor, 첫 페이지면 null), limit (페이지 크기)
+     * - 리턴값: 본문 없는 히스토리 항목과 다음 페이지 커서
+     * - 동작 흐름: limit 보정 -> 커서 유무에 따라 첫 페이지/이후 페이지 조회 -> 꽉 찬 페이지면 다음 커서 생성
+     * - 주의사항: limit은 1 ~ MAX_HISTORY_PAGE_SIZE로 보정됩니다.
+     *   쓰기 지연 중인 리비전이 있으면 저장될 때까지 잠시(최대 HISTORY_FLUSH_TIMEOUT) 기다립니다.
+     */
+    @Transactional(readOnly = true)
+    public HistoryPage getHistory(Long id, String after, int limit) {
+        if (!historyWriteBehind.awaitPersisted(id, HISTORY_FLUSH_TIMEOUT)) {
+            logger.warn("History of document {} is still being written, returning a partial page", id);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        PageRequest page = PageRequest.of(0, pageSize);
+        List<HistoryEntry> entries;
+        if (after == null || after.isBlank()) {
+            entries = replicaLagTracker.read(id, () -> documentHistoryRepository.findEntries(id, page));
+        } else {
+            HistoryCursor cursor = HistoryCursor.parse(after);
+            entries = replicaLagTracker.read(id,
+                    () -> documentHistoryRepository.findEntriesAfter(id, cursor.editedAt(), cursor.id(), page));
+        }
+        String nextCursor = entries.size() < pageSize
+                ? null
+                : HistoryCursor.of(entries.get(entries.size() - 1)).toToken();
+        return new HistoryPage(entries, nextCursor);
+    }
+
+    /**
+     * 특정 리비전의 전체 본문을 복원합니다.
+     * - 인자: id (문서 ID), revision (리비전 번호)
+     * - 리턴값: 복원된 본문
+     */
+    @Transactional(readOnly = true)
+    public RevisionContent getRevision(Long id, int revision) {
+        String content = replicaLagTracker.read(id, () -> revisionStore.reconstruct(id, revision));
+        return new RevisionContent(id, revision, content);
+    }
+
+    /**
+     * 무결성 위반을 일으킨 제약(인덱스) 이름을 소문자로 돌려줍니다.
+     * - 동작 흐름: Hibernate가 추출한 제약 이름 -> 없으면 드라이버 예외 메시지 (대부분의 DB가 인덱스 이름을 포함)
+     */
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message == null ? "" : message.toLowerCase(Locale.ROOT);
+    }
 }
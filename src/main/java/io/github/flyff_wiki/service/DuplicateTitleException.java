@@ -0,0 +1,19 @@
+package io.github.flyff_wiki.service;
+
+/**
+ * 생성/수정하려는 제목의 슬러그(Slugs.of)를 이미 다른 문서가 쓰고 있을 때 던집니다.
+ * - 대소문자/공백만 다른 제목도 같은 슬러그이므로 중복으로 봅니다.
+ */
+public class DuplicateTitleException extends RuntimeException {
+
+    private final String slug;
+
+    public DuplicateTitleException(String title, String slug) {
+        super("Title '" + title + "' is already used by another document (slug " + slug + ")");
+        this.slug = slug;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.flyff_wiki.support;
+
+/**
+ * 문서 버전 기반 ETag("v{version}")를 만들고 If-Match 헤더에서 버전을 읽습니다.
+ * - 같은 버전이면 본문/제목/포맷이 같으므로 강한(strong) ETag로 사용합니다.
+ * - If-Match 비교는 기본 표현("v{version}")만 받습니다.
+ */
+public final class DocumentETag {
+
+    private DocumentETag() {
+    }
+
+    public static String of(Long version) {
+        return "\"v" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * 같은 버전의 다른 표현(예: 렌더링된 HTML)에 쓰는 ETag입니다. 표현마다 값이 달라야 캐시가 섞이지 않습니다.
+     * - 사용 예시: DocumentETag.of(3L, "html1") -> "v3-html1"
+     */
+    public static String of(Long version, String variant) {
+        return "\"v" + (version == null ? 0 : version) + "-" + variant + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 기대 버전을 읽습니다.
+     * - 인자: ifMatch (헤더 값, 없으면 null)
+     * - 리턴값: 기대 버전. 헤더가 없거나 "*"이면 null (버전 검사 안 함)
+     * - 주의사항: 형식이 맞지 않으면 IllegalArgumentException을 던집니다. 약한 비교(W/)는 허용하지 않습니다.
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 4 || !tag.startsWith("\"v") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("Malformed If-Match header: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(2, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed If-Match header: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.flyff_wiki.support;
+
+import java.text.Normalizer;
+
+/**
+ * 문서 제목을 정규화한 슬러그(slug)를 만듭니다. 슬러그는 documents.slug 유니크 인덱스와 자동 완성 트라이의 키입니다.
+ * - 규칙: NFKC 정규화 -> 앞뒤 공백 제거 -> 공백/밑줄 연속 구간을 '_' 하나로 -> 소문자 (Locale.ROOT, 코드 포인트 단위)
+ * - 예: "  Flyff   Wiki_Guide " -> "flyff_wiki_guide", "ＦＬＹＦＦ" -> "flyff"
+ * - 슬러그가 같은 제목은 같은 문서로 취급하므로, 대소문자/공백만 다른 제목은 함께 쓸 수 없습니다.
+ */
+public final class Slugs {
+
+    /**
+     * 슬러그 최대 길이입니다 (title 컬럼 기본 길이와 같음). NFKC로 길어진 제목은 이 길이에서 자릅니다.
+     */
+    public static final int MAX_LENGTH = 255;
+
+    private Slugs() {
+    }
+
+    /**
+     * 제목의 슬러그를 반환합니다. 제목이나 슬러그 어느 쪽을 넣어도 같은 값이 나옵니다.
+     * - 인자: title (문서 제목, null 허용)
+     * - 리턴값: 슬러그 (title이 null이면 null)
+     */
+    public static String of(String title) {
+        return title == null ? null : normalize(title, false);
+    }
+
+    /**
+     * 자동 완성 입력을 슬러그 접두사로 바꿉니다.
+     * - of와 같지만 끝의 공백을 '_'로 남깁니다. "flyff "를 입력하면 "flyff_"로 시작하는 제목만 찾기 위함입니다.
+     */
+    public static String prefix(String query) {
+        return query == null ? "" : normalize(query, true);
+    }
+
+    private static String normalize(String text, boolean keepTrailingGap) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder slug = new StringBuilder(normalized.length());
+        boolean gap = false;
+        for (int i = 0; i < normalized.length();) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint) || codePoint == '_') {
+                gap = true;
+                continue;
+            }
+            if (gap && slug.length() > 0) {
+                slug.append('_');
+            }
+            gap = false;
+            slug.appendCodePoint(Character.toLowerCase(codePoint));
+        }
+        if (gap && keepTrailingGap && slug.length() > 0) {
+            slug.append('_');
+        }
+        if (slug.length() > MAX_LENGTH) {
+            int end = Character.isHighSurrogate(slug.charAt(MAX_LENGTH - 1)) ? MAX_LENGTH - 1 : MAX_LENGTH;
+            slug.setLength(end);
+        }
+        return slug.toString();
+    }
+}
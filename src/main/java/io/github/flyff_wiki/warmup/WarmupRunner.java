@@ -0,0 +1,121 @@
+package io.github.flyff_wiki.warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import io.github.flyff_wiki.dto.TitleSource;
+import io.github.flyff_wiki.repository.DocumentRepository;
+
+/**
+ * 애플리케이션이 준비 완료(readiness)를 알리기 전에 DocumentController 조회 경로를 실제 HTTP로 호출해 예열합니다.
+ * - 이유: ApplicationRunner는 웹 서버가 뜬 뒤, ReadinessState.ACCEPTING_TRAFFIC 전에 실행됩니다.
+ *   그동안 /actuator/health/readiness는 503이므로, 오토스케일로 뜬 파드가 JIT/커넥션/캐시가 찬 뒤에 트래픽을 받습니다.
+ * - 호출 경로: 최근 문서 sampleSize개를 돌아가며 GET /document/{id} (JSON/CBOR, identity/gzip/zstd, ?render=html),
+ *   같은 ETag로 조건부 GET(304), GET /document/lookup, GET /document/{id}/history
+ * - 주의사항: 문서를 만들거나 고치지 않으므로 쓰기 경로는 예열하지 않습니다. 문서가 없으면 건너뜁니다.
+ *   실패해도 시작을 막지 않고 경고만 남기며, timeout이 지나면 남은 반복을 버립니다.
+ * - 사용 예시: --flyff.warmup.enabled=true (prod 프로필에서는 기본으로 켜짐)
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "flyff.warmup.enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String[] ACCEPTS = { "application/json", "application/cbor" };
+    private static final String[] ENCODINGS = { "identity", "gzip", "zstd" };
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${flyff.warmup.iterations:2000}")
+    private int iterations;
+
+    @Value("${flyff.warmup.sample-size:50}")
+    private int sampleSize;
+
+    @Value("${flyff.warmup.timeout:30s}")
+    private Duration timeout;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || port <= 0) {
+            logger.info("Skipping warm-up: no web server is running");
+            return;
+        }
+        List<TitleSource> samples = documentRepository.findLatestTitles(PageRequest.of(0, sampleSize));
+        if (samples.isEmpty()) {
+            logger.info("Skipping warm-up: there are no documents to read");
+            return;
+        }
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        String base = "http://localhost:" + port + "/api/v1/document";
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int requests = 0;
+        int failures = 0;
+        int iteration = 0;
+        try {
+            for (; iteration < iterations && System.nanoTime() < deadline; iteration++) {
+                TitleSource sample = samples.get(iteration % samples.size());
+                String path = base + "/" + sample.id() + (iteration % 4 == 3 ? "?render=html" : "");
+                HttpRequest.Builder get = HttpRequest.newBuilder(URI.create(path))
+                        .header("Accept", ACCEPTS[iteration % ACCEPTS.length])
+                        .header("Accept-Encoding", ENCODINGS[iteration % ENCODINGS.length]);
+                HttpResponse<byte[]> document = client.send(get.build(), HttpResponse.BodyHandlers.ofByteArray());
+                failures += failed(document);
+                requests++;
+                Optional<String> etag = document.headers().firstValue("ETag");
+                if (etag.isPresent()) {
+                    failures += failed(client.send(get.header("If-None-Match", etag.get()).build(),
+                            HttpResponse.BodyHandlers.discarding()));
+                    requests++;
+                }
+                String title = URLEncoder.encode(sample.title(), StandardCharsets.UTF_8);
+                failures += failed(client.send(HttpRequest.newBuilder(URI.create(base + "/lookup?title=" + title))
+                        .build(), HttpResponse.BodyHandlers.discarding()));
+                failures += failed(client.send(HttpRequest.newBuilder(URI.create(base + "/" + sample.id()
+                        + "/history?limit=5")).build(), HttpResponse.BodyHandlers.discarding()));
+                requests += 2;
+            }
+        } catch (IOException e) {
+            logger.warn("Warm-up stopped after {} requests", requests, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Warm-up interrupted after {} requests", requests);
+        }
+        logger.info("Warm-up finished: {} iterations, {} requests ({} failed) over {} documents in {} ms", iteration,
+                requests, failures, samples.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int failed(HttpResponse<?> response) {
+        int status = response.statusCode();
+        return status == 200 || status == 304 ? 0 : 1;
+    }
+}
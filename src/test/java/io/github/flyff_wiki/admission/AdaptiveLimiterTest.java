@@ -0,0 +1,91 @@
+package io.github.flyff_wiki.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testRejectsImmediatelyOnceLimitIsReached() {
+        // 테스트 목적: 처리 중 요청이 한도에 닿으면 기다리지 않고 거절하고, 자리가 나면 다시 받는지 검증합니다.
+        AdaptiveLimiter limiter = new AdaptiveLimiter("write", 2, 1, 10, clock::get);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        assertThat(limiter.stats().shed()).isEqualTo(1);
+        assertThat(limiter.stats().accepted()).isEqualTo(3);
+        assertThat(limiter.stats().inFlight()).isEqualTo(2);
+        assertThatThrownBy(() -> new AdaptiveLimiter("read", 0, 1, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testLimitGrowsAtSteadyLatencyAndShrinksWhenLatencyRises() {
+        // 테스트 목적: 한도를 다 쓰는 동안 응답 시간이 평소와 같으면 한도를 늘리고,
+        //   응답이 평소의 tolerance배보다 느려지면 한도를 줄이되 최소 한도 아래로는 내리지 않는지 검증합니다.
+        AdaptiveLimiter limiter = new AdaptiveLimiter("write", 20, 2, 200, clock::get);
+
+        // Given: 항상 한도보다 많은 요청이 몰리고, 응답 시간은 10ms로 일정합니다.
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter, 1_000, 10, false);
+        }
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(20);
+
+        // When: 응답 시간이 40ms로 늘어납니다 (수정 트랜잭션이 밀리는 상황).
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, 1_000, 40, false);
+        }
+
+        // Then: 한도가 크게 줄어듭니다.
+        assertThat(limiter.getLimit()).isLessThan(grown / 2).isGreaterThanOrEqualTo(2);
+        for (int i = 0; i < 50; i++) {
+            runWindow(limiter, 1_000, 400, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.stats().shortRttMillis()).isEqualTo(400.0);
+    }
+
+    @Test
+    public void testUnderusedLimitDoesNotGrowAndOverloadBacksOff() {
+        // 테스트 목적: 한도의 절반도 쓰지 않으면 늘리지 않고, 과부하(503) 신호가 있던 구간은 한도를 곱셈으로 줄이는지 검증합니다.
+        AdaptiveLimiter limiter = new AdaptiveLimiter("read", 100, 10, 1_000, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter, 3, 5, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(100);
+
+        runWindow(limiter, 100, 5, true);
+        assertThat(limiter.getLimit()).isEqualTo(90);
+        assertThat(limiter.stats().dropped()).isPositive();
+    }
+
+    /**
+     * 측정 구간 하나를 흉내 냅니다. concurrency개까지 동시에 입장시킨 뒤 rttMillis 후 모두 내보내는 일을
+     * 구간 최소 시간이 지날 때까지 반복합니다.
+     */
+    private void runWindow(AdaptiveLimiter limiter, int concurrency, long rttMillis, boolean overloaded) {
+        int rounds = AdaptiveLimiter.MIN_WINDOW_SAMPLES;
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (admitted < concurrency && limiter.tryAcquire()) {
+                admitted++;
+            }
+            clock.addAndGet(AdaptiveLimiter.MIN_WINDOW_NANOS / rounds);
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), overloaded);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.flyff_wiki.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class AdmissionControlFilterTest {
+
+    @Test
+    public void testWriteOverLimitIsShedWhileReadsStillPass() throws Exception {
+        // 테스트 목적: 수정 한도가 찬 상태에서 수정 요청은 바로 429 + Retry-After로 거절되고,
+        //   조회 요청은 별도 한도로 계속 처리되는지 검증합니다.
+        // 기대 동작 흐름: 수정 A 처리 중 (한도 1 사용) -> 그 사이 수정 B는 429, 조회 C는 200 -> A 종료 후 수정 D는 처리
+        AdmissionControlFilter filter = filter(true, 1);
+        AtomicReference<MockHttpServletResponse> shedWrite = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> read = new AtomicReference<>();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/v1/document/1"), first, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                try {
+                    shedWrite.set(send(filter, "POST", "/api/v1/document/2"));
+                    read.set(send(filter, "GET", "/api/v1/document/2"));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }));
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(shedWrite.get().getStatus()).isEqualTo(429);
+        assertThat(Integer.parseInt(shedWrite.get().getHeader(HttpHeaders.RETRY_AFTER))).isBetween(2, 4);
+        assertThat(read.get().getStatus()).isEqualTo(200);
+        assertThat(send(filter, "POST", "/api/v1/document/2").getStatus()).isEqualTo(200);
+        assertThat(filter.stats()).extracting(stats -> stats.requestClass() + ":" + stats.shed())
+                .containsExactly("read:0", "write:1");
+    }
+
+    @Test
+    public void testOnlyDocumentPathsAreLimitedAndFilterCanBeDisabled() throws Exception {
+        // 테스트 목적: 문서 API와 일괄 조회만 제한하고 스트리밍 내보내기는 제외하며, 꺼져 있으면 아무것도 세지 않는지 검증합니다.
+        AdmissionControlFilter filter = filter(true, 1);
+        assertThat(filter.shouldNotFilter(request("GET", "/api/v1/search"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/v1/document/1/export"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/v1/documents:batchGet"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("POST", "/api/v1/document"))).isFalse();
+
+        AdmissionControlFilter disabled = filter(false, 1);
+        send(disabled, "POST", "/api/v1/document/1");
+        assertThat(disabled.stats()).allSatisfy(stats -> assertThat(stats.accepted()).isZero());
+    }
+
+    @Test
+    public void testBatchGetCountsAgainstReadLimitByBatchSize() throws Exception {
+        // 테스트 목적: 일괄 조회가 POST여도 read 한도를 쓰고, 본문 크기만큼 여러 자리를 차지하는지 검증합니다.
+        // 기대 동작 흐름: 큰 일괄 조회 A 처리 중 (read 한도 10 중 8) -> 그 사이 큰 일괄 조회 B는 503,
+        //   단건 조회 C와 수정 D는 200 -> A 종료 후 B는 처리
+        AdmissionControlFilter filter = filter(true, 1);
+        AtomicReference<MockHttpServletResponse> shedBatch = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> read = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> write = new AtomicReference<>();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(batchGet(100), first, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                try {
+                    shedBatch.set(send(filter, batchGet(100)));
+                    read.set(send(filter, request("GET", "/api/v1/document/2")));
+                    write.set(send(filter, request("POST", "/api/v1/document/2")));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }));
+
+        assertThat(AdmissionControlFilter.batchPermits(batchGet(100)))
+                .isEqualTo(AdmissionControlFilter.MAX_BATCH_PERMITS);
+        assertThat(AdmissionControlFilter.batchPermits(batchGet(1))).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(shedBatch.get().getStatus()).isEqualTo(503);
+        assertThat(read.get().getStatus()).isEqualTo(200);
+        assertThat(write.get().getStatus()).isEqualTo(200);
+        assertThat(send(filter, batchGet(100)).getStatus()).isEqualTo(200);
+        assertThat(filter.stats()).extracting(stats -> stats.requestClass() + ":" + stats.shed())
+                .containsExactly("read:1", "write:0");
+    }
+
+    private static AdmissionControlFilter filter(boolean enabled, int writeLimit) {
+        return new AdmissionControlFilter(enabled, 10, 1, 10, 1, writeLimit, 1, writeLimit, 2);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private static MockHttpServletRequest batchGet(int ids) {
+        StringBuilder body = new StringBuilder("{\"ids\":[");
+        for (int i = 0; i < ids; i++) {
+            body.append(i == 0 ? "" : ",").append(1_000_000_000 + i);
+        }
+        MockHttpServletRequest request = request("POST", "/api/v1/documents:batchGet");
+        request.setContent(body.append("]}").toString().getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletResponse send(AdmissionControlFilter filter, String method, String uri)
+            throws Exception {
+        return send(filter, request(method, uri));
+    }
+
+    private static MockHttpServletResponse send(AdmissionControlFilter filter, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.flyff_wiki.admission;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.AdmissionStats;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 조회 중에 수정이 폭주할 때 입장 제어가 조회 p99를 지키는지 측정합니다 (패치 직후 상황).
+ * - 실행 방법: ./gradlew benchmark --tests '*AdmissionLoadBenchmark'
+ * - 단계: 조회만 -> 조회 + 수정 폭주 (입장 제어 끔) -> 조회 + 수정 폭주 (입장 제어 켬)
+ * - 조회는 문서 캐시를 끄고 실행하여 매번 커넥션을 쓰게 하고, 수정은 큰 본문으로 보내 트랜잭션을 길게 만듭니다.
+ *   수정 클라이언트는 거절되어도 잠깐 쉬고 바로 다시 보내 압력을 유지합니다 (Retry-After를 따르지 않음).
+ * - 출력: 단계별 조회 p50/p99와 오류 수, 수정 처리/거절 수와 처리된 수정의 p99, 끝났을 때의 한도
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "flyff.cache.document.enabled=false",
+        "server.tomcat.max-connections=4000",
+        "server.tomcat.accept-count=2000" })
+public class AdmissionLoadBenchmark {
+
+    private static final int DOCUMENTS = 200;
+    private static final int READERS = 64;
+    private static final int WRITERS = 400;
+    private static final Duration PHASE = Duration.ofSeconds(15);
+    private static final String WRITE_CONTENT = "패치 노트 patch note line\n".repeat(8_000);
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Test
+    public void measureReadTailLatencyUnderWriteBurst() throws Exception {
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            Document document = new Document();
+            document.setTitle("Admission Benchmark " + i);
+            document.setContent("아이템 설명 item description ".repeat(100));
+            document.setContentFormat(ContentFormat.MARKDOWN);
+            documents.add(documentService.createDocument(document));
+        }
+        ExecutorService clients = Executors.newFixedThreadPool(READERS + WRITERS);
+        try {
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(clients)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            admissionControlFilter.setEnabled(false);
+            run("reads-only", http, clients, documents, 0);
+            run("burst/no-limit", http, clients, documents, WRITERS);
+            admissionControlFilter.setEnabled(true);
+            run("burst/adaptive", http, clients, documents, WRITERS);
+            for (AdmissionStats stats : admissionControlFilter.stats()) {
+                System.out.println(stats);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private void run(String phase, HttpClient http, ExecutorService clients, List<Document> documents, int writers)
+            throws Exception {
+        long deadline = System.nanoTime() + PHASE.toNanos();
+        AtomicInteger readErrors = new AtomicInteger();
+        AtomicInteger writesShed = new AtomicInteger();
+        AtomicInteger writeErrors = new AtomicInteger();
+        List<Future<long[]>> reads = new ArrayList<>();
+        List<Future<long[]>> writes = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            reads.add(clients.submit(() -> {
+                LatencyLog log = new LatencyLog();
+                while (System.nanoTime() < deadline) {
+                    Document document = documents.get(ThreadLocalRandom.current().nextInt(documents.size()));
+                    HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/api/v1/document/" + document.getId()))
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+                    long begin = System.nanoTime();
+                    try {
+                        if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            readErrors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        readErrors.incrementAndGet();
+                    }
+                    log.add(System.nanoTime() - begin);
+                }
+                return log.toArray();
+            }));
+        }
+        for (int w = 0; w < writers; w++) {
+            writes.add(clients.submit(() -> {
+                LatencyLog log = new LatencyLog();
+                while (System.nanoTime() < deadline) {
+                    Document document = documents.get(ThreadLocalRandom.current().nextInt(documents.size()));
+                    String body = "{\"title\":\"" + document.getTitle() + "\",\"contentFormat\":\"MARKDOWN\","
+                            + "\"content\":\"" + WRITE_CONTENT.replace("\n", "\\n") + System.nanoTime() + "\"}";
+                    HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/api/v1/document/" + document.getId()))
+                            .timeout(Duration.ofSeconds(60))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                    long begin = System.nanoTime();
+                    try {
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 200) {
+                            log.add(System.nanoTime() - begin);
+                            continue;
+                        }
+                        if (status == 429) {
+                            writesShed.incrementAndGet();
+                        } else {
+                            writeErrors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        writeErrors.incrementAndGet();
+                    }
+                    Thread.sleep(10);
+                }
+                return log.toArray();
+            }));
+        }
+        long[] readLatencies = collect(reads);
+        long[] writeLatencies = collect(writes);
+        System.out.printf("%-15s reads=%7d p50=%7.2fms p99=%8.2fms errors=%d | writes ok=%6d p99=%8.2fms shed=%7d "
+                + "errors=%d%n", phase, readLatencies.length, percentile(readLatencies, 0.50),
+                percentile(readLatencies, 0.99), readErrors.get(), writeLatencies.length,
+                percentile(writeLatencies, 0.99), writesShed.get(), writeErrors.get());
+    }
+
+    private static long[] collect(List<Future<long[]>> futures) throws Exception {
+        long[][] parts = new long[futures.size()][];
+        int total = 0;
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = futures.get(i).get();
+            total += parts[i].length;
+        }
+        long[] all = new long[total];
+        int at = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, all, at, part.length);
+            at += part.length;
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)] / 1e6;
+    }
+
+    /**
+     * 스레드 하나가 쓰는 지연 시간 기록입니다.
+     */
+    private static final class LatencyLog {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.flyff_wiki.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.flyff_wiki.cache.DocumentViewCache;
+import io.github.flyff_wiki.datasource.ReplicaLagTracker;
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.dto.BatchGetResponse;
+import io.github.flyff_wiki.dto.DocumentSummary;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.repository.DocumentRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class DocumentBatchServiceTest {
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentViewCache documentViewCache;
+
+    @Spy
+    private ReplicaLagTracker replicaLagTracker = new ReplicaLagTracker(false, Duration.ofSeconds(2));
+
+    @InjectMocks
+    private DocumentBatchService documentBatchService;
+
+    @Test
+    public void testResultsFollowRequestOrderAndReportMissingIds() {
+        // 테스트 목적: 캐시 적중 문서와 IN 쿼리로 읽은 문서를 합쳐 요청 순서대로 반환하고, 없는 ID를 따로 알려 주는지 검증합니다.
+        // 기대 동작 흐름: 캐시 확인 (2번 적중) -> 나머지(3, 1, 99)를 IN 쿼리 한 번으로 조회 -> 요청 순서로 응답 구성
+        when(documentViewCache.peek(anyLong()))
+                .thenAnswer(invocation -> invocation.getArgument(0).equals(2L) ? view(2L) : null);
+        when(documentRepository.findViews(anyCollection())).thenReturn(List.of(view(1L), view(3L)));
+
+        // When: 중복 ID가 섞인 요청을 보냅니다.
+        BatchGetResponse response = documentBatchService.batchGet(List.of(3L, 2L, 99L, 1L, 3L), null);
+
+        // Then: 요청 순서(중복 제거), 전체 필드, 없는 ID를 확인합니다.
+        assertThat(response.documents()).extracting(document -> document.get("id")).containsExactly(3L, 2L, 1L);
+        assertThat(response.documents().get(0)).containsEntry("content", "본문 3").containsKey("updatedAt");
+        assertThat(response.missing()).containsExactly(99L);
+        verify(documentRepository, times(1)).findViews(argThat(ids -> ids.size() == 3 && ids.contains(99L)));
+    }
+
+    @Test
+    public void testProjectionWithoutContentSkipsContentColumnAndRejectsUnknownFields() {
+        // 테스트 목적: 본문을 고르지 않으면 본문 없는 projection 쿼리를 쓰고, 모르는 필드나 너무 많은 ID는 거절하는지 검증합니다.
+        when(documentRepository.findSummaries(anyCollection())).thenReturn(List.of(summary(1L)));
+
+        BatchGetResponse response = documentBatchService.batchGet(List.of(1L), List.of("title", "version"));
+
+        assertThat(response.documents()).hasSize(1);
+        assertThat(response.documents().get(0)).containsOnlyKeys("id", "title", "version");
+        verify(documentRepository, never()).findViews(anyCollection());
+        assertThatThrownBy(() -> documentBatchService.batchGet(List.of(1L), List.of("author")))
+                .isInstanceOf(IllegalArgumentException.class);
+        List<Long> tooMany = LongStream.rangeClosed(1, DocumentBatchService.MAX_IDS + 1)
+                .boxed().toList();
+        assertThatThrownBy(() -> documentBatchService.batchGet(tooMany, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testOverlappingConcurrentRequestsLoadSharedIdOnce() throws Exception {
+        // 테스트 목적: 읽는 중인 문서를 다른 요청이 함께 요청하면 다시 읽지 않고 그 결과를 기다려 쓰는지 검증합니다.
+        // 기대 동작 흐름: 요청 A가 [1, 2]를 읽는 중 (쿼리에서 멈춤) -> 요청 B가 [2, 3] 요청
+        //   -> B는 3만 직접 읽고 2는 A의 결과를 기다림 -> A가 끝나면 둘 다 완료
+        CountDownLatch firstQueryStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstQuery = new CountDownLatch(1);
+        when(documentRepository.findViews(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(1L)) {
+                firstQueryStarted.countDown();
+                releaseFirstQuery.await(10, TimeUnit.SECONDS);
+            }
+            return ids.stream().map(DocumentBatchServiceTest::view).toList();
+        });
+
+        CompletableFuture<BatchGetResponse> first = CompletableFuture
+                .supplyAsync(() -> documentBatchService.batchGet(List.of(1L, 2L), null));
+        assertThat(firstQueryStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<BatchGetResponse> second = CompletableFuture
+                .supplyAsync(() -> documentBatchService.batchGet(List.of(2L, 3L), null));
+
+        // Then: B는 3만 조회한 뒤 A를 기다리고, A가 풀리면 둘 다 모든 문서를 받습니다.
+        verify(documentRepository, timeout(10_000))
+                .findViews(argThat(ids -> ids.size() == 1 && ids.contains(3L)));
+        assertThat(second).isNotDone();
+        releaseFirstQuery.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS).documents()).extracting(document -> document.get("id"))
+                .containsExactly(1L, 2L);
+        assertThat(second.get(10, TimeUnit.SECONDS).documents()).extracting(document -> document.get("id"))
+                .containsExactly(2L, 3L);
+        verify(documentRepository, times(2)).findViews(anyCollection());
+    }
+
+    private static DocumentView view(Long id) {
+        return new DocumentView(id, "Title " + id, "title_" + id, "본문 " + id, ContentFormat.MARKDOWN, null, 1, 1L,
+                null, null);
+    }
+
+    private static DocumentSummary summary(Long id) {
+        return new DocumentSummary(id, "Title " + id, "title_" + id, ContentFormat.MARKDOWN, null, 1, 1L, null, null);
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.flyff_wiki.bulk;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.github.flyff_wiki.dto.ImportResult;
+
+/**
+ * 10만 건 NDJSON 일괄 가져오기 처리량을 측정합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*BulkImportBenchmark'
+ * - 비교: flyff.import.batch-size / hibernate.jdbc.batch_size를 바꿔 가며 rows/s를 확인합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class BulkImportBenchmark {
+
+    private static final int DOCUMENTS = 100_000;
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Test
+    public void import100kDocuments() throws Exception {
+        StringBuilder ndjson = new StringBuilder(DOCUMENTS * 200);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            ndjson.append("{\"title\":\"Bulk Benchmark Item ").append(i)
+                    .append("\",\"content\":\"# Item ").append(i)
+                    .append("\\n아이템 설명 item description level ").append(i % 120).append("\"}\n");
+        }
+        byte[] bytes = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+
+        ImportResult result = bulkImportService.importNdjson(new ByteArrayInputStream(bytes));
+        System.out.printf("imported=%d batches=%d elapsed=%dms rows/s=%.0f%n",
+                result.imported(), result.batches(), result.elapsedMillis(), result.rowsPerSecond());
+    }
+}
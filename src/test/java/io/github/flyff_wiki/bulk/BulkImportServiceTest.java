@@ -0,0 +1,58 @@
+package io.github.flyff_wiki.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.ImportResult;
+import io.github.flyff_wiki.repository.DocumentRepository;
+
+@SpringBootTest(properties = { "spring.jpa.show-sql=false", "flyff.import.batch-size=7" })
+public class BulkImportServiceTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Test
+    public void importNdjsonPersistsEveryLineAcrossBatches() throws Exception {
+        // 테스트 목적: NDJSON 각 줄이 문서 하나로 저장되고, 배치 경계에서 누락/중복이 없는지 검증합니다.
+        // Given: 배치 크기(7)로 나누어 떨어지지 않는 20건, 클라이언트가 보낸 id는 무시되어야 합니다.
+        String prefix = "Bulk Import Test " + System.nanoTime() + " ";
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            ndjson.append("{\"id\":999999,\"title\":\"").append(prefix).append(i)
+                    .append("\",\"content\":\"본문 ").append(i).append("\"}\n");
+        }
+        long before = documentRepository.count();
+
+        // When
+        ImportResult result = bulkImportService.importNdjson(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // Then: 3개 배치(7+7+6)로 20건 저장, 제목이 모두 고유하고 서버 관리 필드가 채워집니다.
+        assertThat(result.imported()).isEqualTo(20);
+        assertThat(result.batches()).isEqualTo(3);
+        assertThat(documentRepository.count()).isEqualTo(before + 20);
+        List<Document> imported = documentRepository.findAll().stream()
+                .filter(document -> document.getTitle().startsWith(prefix))
+                .toList();
+        assertThat(imported).hasSize(20);
+        assertThat(imported).extracting(Document::getTitle).doesNotHaveDuplicates();
+        assertThat(imported).allSatisfy(document -> {
+            assertThat(document.getContentFormat()).isEqualTo(ContentFormat.MARKDOWN);
+            assertThat(document.getContentHash()).hasSize(64);
+            assertThat(document.getCreatedAt()).isNotNull();
+        });
+    }
+}
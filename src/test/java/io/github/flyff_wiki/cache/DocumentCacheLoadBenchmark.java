@@ -0,0 +1,109 @@
+package io.github.flyff_wiki.cache;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 인기 문서 조회의 p50/p99 지연을 캐시 사용/미사용으로 비교하는 부하 테스트입니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*DocumentCacheLoadBenchmark'
+ * - 측정 방식: 20KB 본문 문서 50개를 16개 스레드가 GET /api/v1/document/{id}로 반복 조회합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+public class DocumentCacheLoadBenchmark {
+
+    private static final int HOT_DOCUMENTS = 50;
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentViewCache documentViewCache;
+
+    @Test
+    public void compareHotDocumentLatencyWithAndWithoutCache() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < HOT_DOCUMENTS; i++) {
+            Document document = new Document();
+            document.setTitle("Cache Load Benchmark " + i);
+            document.setContent("아이템 설명 item description ".repeat(800));
+            document.setContentFormat(ContentFormat.MARKDOWN);
+            ids.add(documentService.createDocument(document).getId());
+        }
+
+        try {
+            documentViewCache.setEnabled(false);
+            run(ids, 500); // 워밍업
+            report("cache off", run(ids, REQUESTS_PER_THREAD));
+
+            documentViewCache.setEnabled(true);
+            run(ids, 500);
+            report("cache on ", run(ids, REQUESTS_PER_THREAD));
+            System.out.println(documentViewCache.stats());
+        } finally {
+            documentViewCache.setEnabled(true);
+        }
+    }
+
+    private long[] run(List<Long> ids, int requestsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[requestsPerThread];
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        long start = System.nanoTime();
+                        mockMvc.perform(get("/api/v1/document/" + id)).andExpect(status().isOk());
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] all = new long[THREADS * requestsPerThread];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            Arrays.sort(all);
+            return all;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void report(String label, long[] sorted) {
+        System.out.printf("%s: requests=%d p50=%.1fus p99=%.1fus max=%.1fus%n", label, sorted.length,
+                sorted[sorted.length / 2] / 1_000.0,
+                sorted[(int) (sorted.length * 0.99)] / 1_000.0,
+                sorted[sorted.length - 1] / 1_000.0);
+    }
+}
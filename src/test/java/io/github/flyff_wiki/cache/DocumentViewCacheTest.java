@@ -0,0 +1,57 @@
+package io.github.flyff_wiki.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+
+public class DocumentViewCacheTest {
+
+    @Test
+    public void testReadThroughAndInvalidationOnChange() {
+        // 테스트 목적: 같은 ID는 한 번만 적재하고, 변경 이벤트 이후에는 다시 적재하는지 검증합니다.
+        // 기대 동작 흐름: 미스(적재) -> 적중 -> 변경 이벤트로 무효화 -> 미스(재적재)
+        // Given: 적재 횟수를 세는 loader와 캐시를 준비합니다.
+        DocumentViewCache cache = new DocumentViewCache(true, 1_000_000, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When: 두 번 조회하고, 변경 이벤트 후 한 번 더 조회합니다.
+        cache.get(1L, id -> view(id, "v" + loads.incrementAndGet()));
+        DocumentView cached = cache.get(1L, id -> view(id, "v" + loads.incrementAndGet()));
+        cache.onDocumentChanged(new DocumentChangedEvent(view(1L, "changed"), false));
+        DocumentView reloaded = cache.get(1L, id -> view(id, "v" + loads.incrementAndGet()));
+
+        // Then: 두 번째 조회는 캐시 적중이고, 이벤트 이후에는 새로 적재된 값이어야 합니다.
+        assertThat(cached.content()).isEqualTo("v1");
+        assertThat(reloaded.content()).isEqualTo("v2");
+        DocumentCacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysLoads() {
+        // 테스트 목적: 캐시를 끄면 매번 loader를 호출하고 항목을 남기지 않는지 검증합니다.
+        DocumentViewCache cache = new DocumentViewCache(true, 1_000_000, Duration.ofMinutes(10));
+        cache.get(1L, id -> view(id, "cached"));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.setEnabled(false);
+        cache.get(1L, id -> view(id, "v" + loads.incrementAndGet()));
+        cache.get(1L, id -> view(id, "v" + loads.incrementAndGet()));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.peek(1L)).isNull();
+    }
+
+    private static DocumentView view(Long id, String content) {
+        return new DocumentView(id, "Title " + id, "title_" + id, content, ContentFormat.MARKDOWN, null, 0, 0L,
+                null, null);
+    }
+}
@@ -1,25 +1,51 @@
 package io.github.flyff_wiki.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import io.github.flyff_wiki.diff.DiffGranularity;
+import io.github.flyff_wiki.diff.RevisionDiffService;
 import io.github.flyff_wiki.domain.ContentFormat;
 import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.DiffChunk;
+import io.github.flyff_wiki.dto.DocumentConflict;
+import io.github.flyff_wiki.dto.DocumentValidator;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.HistoryEntry;
+import io.github.flyff_wiki.dto.HistoryPage;
+import io.github.flyff_wiki.dto.RevisionDiff;
+import io.github.flyff_wiki.metrics.WikiMetrics;
+import io.github.flyff_wiki.payload.DocumentPayloadCache;
+import io.github.flyff_wiki.service.DocumentConflictException;
 import io.github.flyff_wiki.service.DocumentService;
+import io.github.flyff_wiki.service.DuplicateTitleException;
 import tools.jackson.databind.ObjectMapper;
 
 @WebMvcTest(DocumentController.class)
+@Import(DocumentPayloadCache.class)
 public class DocumentControllerTest {
 
     @Autowired
@@ -28,6 +54,12 @@ public class DocumentControllerTest {
     @MockitoBean
     private DocumentService documentService;
 
+    @MockitoBean
+    private WikiMetrics wikiMetrics;
+
+    @MockitoBean
+    private RevisionDiffService revisionDiffService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -62,20 +94,206 @@ public class DocumentControllerTest {
         // 테스트 목적: 문서 조회 API가 정상적으로 200 OK와 기대 JSON을 반환하는지 검증합니다.
         // 기대 동작 흐름: 경로 변수 ID -> 컨트롤러 -> 서비스 호출 -> 응답 JSON 매핑
         // Given: 조회 요청에 대해 반환될 문서 객체를 준비합니다.
-        // - 서비스가 getDocument(1L) 호출 시 해당 객체를 반환하도록 스텁합니다.
-        // - 응답 JSON의 필드 매핑을 검증하기 위해 id, title을 설정합니다.
-        Document document = new Document();
-        document.setId(1L);
-        document.setTitle("Test Title");
+        // - 서비스가 getDocumentView(1L) 호출 시 해당 객체를 반환하도록 스텁합니다.
+        // - 응답 JSON의 필드 매핑을 검증하기 위해 id, title, revisionCount를 설정합니다.
+        DocumentView document = new DocumentView(1L, "Test Title", "test_title", "Test Content", ContentFormat.MARKDOWN,
+                null, 3, 3L, null, null);
 
-        when(documentService.getDocument(1L)).thenReturn(document);
+        when(documentService.getValidator(1L)).thenReturn(new DocumentValidator(3L, null));
+        when(documentService.getDocumentView(1L)).thenReturn(document);
 
         // When & Then: GET 요청을 수행하고 응답을 검증합니다.
         // - 상태 코드는 200 OK여야 합니다.
-        // - 응답 JSON의 id, title이 기대값과 일치해야 합니다.
+        // - 응답 JSON의 id, title이 기대값과 일치하고, 히스토리 목록은 포함되지 않아야 합니다.
         mockMvc.perform(get("/api/v1/document/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.title").value("Test Title"));
+                .andExpect(jsonPath("$.title").value("Test Title"))
+                .andExpect(jsonPath("$.revisionCount").value(3))
+                .andExpect(jsonPath("$.latestHistory").doesNotExist());
+    }
+
+    @Test
+    public void testGetDocumentRenderedAsHtml() throws Exception {
+        // 테스트 목적: render=html 요청 시 렌더링된 응답을 반환하고, 모르는 포맷은 400으로 거절하는지 검증합니다.
+        // Given: 서비스가 HTML로 렌더링된 문서를 반환하도록 스텁합니다.
+        DocumentView rendered = new DocumentView(1L, "Test Title", "test_title", "<h1>Test</h1>\n", ContentFormat.HTML,
+                null, 0, 0L, null, null);
+
+        when(documentService.getValidator(1L)).thenReturn(new DocumentValidator(0L, null));
+        when(documentService.getRenderedDocumentView(1L)).thenReturn(rendered);
+
+        // When & Then: render=html은 HTML 본문을, render=pdf는 400을 반환해야 합니다.
+        mockMvc.perform(get("/api/v1/document/1").param("render", "html"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contentFormat").value("HTML"))
+                .andExpect(jsonPath("$.content").value("<h1>Test</h1>\n"));
+        mockMvc.perform(get("/api/v1/document/1").param("render", "pdf"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testLookupByTitleAndDuplicateTitle() throws Exception {
+        // 테스트 목적: 제목 조회는 문서와 ETag/Content-Location을 반환하고, 제목 중복 생성은 409로 거절하는지 검증합니다.
+        // Given: 제목 조회 결과와, 중복 제목으로 생성 시 서비스가 던질 예외를 스텁합니다.
+        DocumentView document = new DocumentView(7L, "Test Title", "test_title", "Test Content", ContentFormat.MARKDOWN,
+                null, 2, 2L, null, null);
+        when(documentService.getDocumentViewByTitle("test title")).thenReturn(document);
+        when(documentService.createDocument(any(Document.class)))
+                .thenThrow(new DuplicateTitleException("TEST title", "test_title"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/document/lookup").param("title", "test title"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v2\""))
+                .andExpect(header().string("Content-Location", "/api/v1/document/7"))
+                .andExpect(jsonPath("$.slug").value("test_title"));
+        mockMvc.perform(post("/api/v1/document")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"TEST title\",\"content\":\"본문\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void testConditionalGetReturnsNotModifiedWithoutLoadingBody() throws Exception {
+        // 테스트 목적: If-None-Match가 현재 ETag와 같으면 본문을 조회하지 않고 304를 반환하는지 검증합니다.
+        // Given: 버전 4인 문서의 검증자와 본문을 스텁합니다.
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        DocumentView document = new DocumentView(1L, "Test Title", "test_title", "Test Content", ContentFormat.MARKDOWN,
+                null, 4, 4L, null, updatedAt);
+        when(documentService.getValidator(1L)).thenReturn(new DocumentValidator(4L, updatedAt));
+        when(documentService.getDocumentView(1L)).thenReturn(document);
+        when(documentService.getRenderedDocumentView(1L)).thenReturn(document);
+
+        // When & Then: 첫 조회는 200과 ETag/Last-Modified, 같은 ETag로 재조회하면 304입니다.
+        // - HTML 표현은 ETag가 달라서 기본 표현의 ETag로는 304가 나지 않습니다.
+        mockMvc.perform(get("/api/v1/document/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v4\""))
+                .andExpect(header().exists("Last-Modified"));
+        mockMvc.perform(get("/api/v1/document/1").header("If-None-Match", "\"v4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v4\""));
+        mockMvc.perform(get("/api/v1/document/1").param("render", "html").header("If-None-Match", "\"v4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v4-html1\""));
+        verify(documentService, times(1)).getDocumentView(1L);
+    }
+
+    @Test
+    public void testGetDocumentNegotiatesCompressionAndCbor() throws Exception {
+        // 테스트 목적: Accept-Encoding/Accept에 따라 압축/형식을 고르고, 표현마다 다른 ETag를 내려주는지 검증합니다.
+        // Given: 압축 기준(2KB)보다 큰 본문의 문서
+        String content = "아이템 설명 item description ".repeat(200);
+        DocumentView document = new DocumentView(1L, "Test Title", "test_title", content, ContentFormat.MARKDOWN,
+                null, 2, 2L, null, null);
+        when(documentService.getValidator(1L)).thenReturn(new DocumentValidator(2L, null));
+        when(documentService.getDocumentView(1L)).thenReturn(document);
+
+        // When & Then: gzip 응답은 풀면 원래 JSON이고, CBOR 응답은 application/cbor입니다.
+        byte[] gzipped = mockMvc.perform(get("/api/v1/document/1").header("Accept-Encoding", "gzip, br;q=0.9"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"v2-gzip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            DocumentView decoded = objectMapper.readValue(in.readAllBytes(), DocumentView.class);
+            assertThat(decoded.content()).isEqualTo(content);
+        }
+        mockMvc.perform(get("/api/v1/document/1").header("Accept", "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/cbor"))
+                .andExpect(header().string("ETag", "\"v2-cbor\""));
+    }
+
+    @Test
+    public void testUpdateDocumentWithIfMatch() throws Exception {
+        // 테스트 목적: If-Match 버전을 서비스로 전달하고, 성공 시 새 ETag를, 충돌 시 409와 병합 정보를 반환하는지 검증합니다.
+        // Given: 버전 2에서는 성공(버전 3)하고, 버전 1에서는 충돌하도록 스텁합니다.
+        Document saved = new Document();
+        saved.setId(1L);
+        saved.setTitle("Test Title");
+        saved.setContent("Edited");
+        saved.setVersion(3L);
+        DocumentView current = new DocumentView(1L, "Test Title", "test_title", "Edited", ContentFormat.MARKDOWN,
+                null, 3, 3L, null, null);
+
+        when(documentService.updateDocument(eq(1L), any(Document.class), eq(2L))).thenReturn(saved);
+        when(documentService.updateDocument(eq(1L), any(Document.class), eq(1L)))
+                .thenThrow(new DocumentConflictException(1L, 1L));
+        when(documentService.describeConflict(1L, 1L))
+                .thenReturn(new DocumentConflict(1L, 1L, 3L, "Base", current));
+
+        // When & Then: 성공 응답은 ETag "v3", 충돌 응답은 409와 기준/현재 본문, 잘못된 If-Match는 400입니다.
+        String body = objectMapper.writeValueAsString(saved);
+        mockMvc.perform(post("/api/v1/document/1").header("If-Match", "\"v2\"")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v3\""))
+                .andExpect(jsonPath("$.version").value(3));
+        mockMvc.perform(post("/api/v1/document/1").header("If-Match", "\"v1\"")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict())
+                .andExpect(header().string("ETag", "\"v3\""))
+                .andExpect(jsonPath("$.baseContent").value("Base"))
+                .andExpect(jsonPath("$.current.content").value("Edited"));
+        mockMvc.perform(post("/api/v1/document/1").header("If-Match", "v1")
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetHistoryPage() throws Exception {
+        // 테스트 목적: 히스토리 API가 커서/limit 파라미터를 서비스로 전달하고 페이지를 반환하는지 검증합니다.
+        // 기대 동작 흐름: 쿼리 파라미터 after/limit -> 컨트롤러 -> 서비스 getHistory -> 응답 JSON
+        // Given: 한 건짜리 히스토리 페이지와 다음 커서를 준비합니다.
+        LocalDateTime editedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        HistoryPage page = new HistoryPage(
+                List.of(new HistoryEntry(7L, 2, editedAt, "Document updated", null)),
+                "2026-01-01T12:00_7");
+
+        when(documentService.getHistory(1L, "2026-01-02T00:00_9", 1)).thenReturn(page);
+
+        // When & Then: GET 요청을 수행하고 항목과 다음 커서를 검증합니다.
+        mockMvc.perform(get("/api/v1/document/1/history")
+                .param("after", "2026-01-02T00:00_9")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[0].revision").value(2))
+                .andExpect(jsonPath("$.entries[0].content").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("2026-01-01T12:00_7"));
+    }
+
+    @Test
+    public void testGetDiffDefaultsToNextRevision() throws Exception {
+        // 테스트 목적: diff API가 to 생략 시 from + 1과 비교하고, granularity/context를 서비스로 전달하는지 검증합니다.
+        // 기대 동작 흐름: 쿼리 파라미터 from/granularity -> 컨트롤러 -> 서비스 diff(id, from, from + 1, WORD, 3) -> 응답 JSON
+        // Given: 단어 하나가 바뀐 비교 결과를 준비합니다.
+        RevisionDiff diff = new RevisionDiff(1L, 2, 3, "word", 1, 1, false, List.of(
+                new DiffChunk(DiffChunk.Op.EQUAL, "검은 ", 2),
+                new DiffChunk(DiffChunk.Op.DELETE, "고양이", 1),
+                new DiffChunk(DiffChunk.Op.INSERT, "강아지", 1)));
+        when(revisionDiffService.diff(1L, 2, 3, DiffGranularity.WORD, 3)).thenReturn(diff);
+
+        // When & Then: GET 요청을 수행하고 구간 목록을 검증합니다.
+        mockMvc.perform(get("/api/v1/document/1/diff")
+                .param("from", "2")
+                .param("granularity", "word"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.to").value(3))
+                .andExpect(jsonPath("$.chunks[1].op").value("DELETE"))
+                .andExpect(jsonPath("$.chunks[2].text").value("강아지"));
+    }
+
+    @Test
+    public void testGetDiffRejectsUnknownGranularity() throws Exception {
+        // 테스트 목적: 지원하지 않는 비교 단위는 서비스 호출 없이 400으로 거절되는지 검증합니다.
+        mockMvc.perform(get("/api/v1/document/1/diff")
+                .param("from", "0")
+                .param("to", "1")
+                .param("granularity", "char"))
+                .andExpect(status().isBadRequest());
+
+        verify(revisionDiffService, times(0)).diff(any(), anyInt(), anyInt(), any(), anyInt());
     }
 }
@@ -0,0 +1,60 @@
+package io.github.flyff_wiki.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+public class ConnectionBudgetDataSourceTest {
+
+    @Test
+    public void limitsConcurrentConnectionsAndReleasesOnClose() throws Exception {
+        // 테스트 목적: 허가 수만큼만 커넥션을 내주고, 초과 요청은 시간 초과로 거절하며, close()는 한 번만 허가를 돌려주는지 검증합니다.
+        // Given: 허가 2개, 대기 50ms인 예산
+        DataSource target = mock(DataSource.class);
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        Connection third = mock(Connection.class);
+        when(target.getConnection()).thenReturn(first, second, third);
+        ConnectionBudgetDataSource budget = new ConnectionBudgetDataSource(target, 2, Duration.ofMillis(50));
+
+        // When: 두 개를 빌린 뒤 세 번째를 요청합니다.
+        Connection a = budget.getConnection();
+        budget.getConnection();
+
+        // Then: 세 번째는 거절되고 거절 수가 기록됩니다.
+        assertThatThrownBy(budget::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(budget.stats()).isEqualTo(new ConnectionBudgetStats(2, 0, 0, 1));
+
+        // When: 같은 커넥션을 두 번 닫습니다.
+        a.close();
+        a.close();
+
+        // Then: 허가는 하나만 돌아오고, 실제 커넥션이 닫히며, 다음 요청은 성공합니다.
+        verify(first).close();
+        assertThat(budget.stats().available()).isEqualTo(1);
+        assertThat(budget.getConnection().unwrap(Connection.class)).isNotNull();
+        assertThat(budget.stats().available()).isZero();
+    }
+
+    @Test
+    public void releasesPermitWhenTargetFails() throws Exception {
+        // 테스트 목적: 실제 풀에서 커넥션을 얻지 못하면 잡아 둔 허가를 돌려주는지 검증합니다.
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+        ConnectionBudgetDataSource budget = new ConnectionBudgetDataSource(target, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(budget::getConnection).hasMessage("pool down");
+        assertThat(budget.stats().available()).isEqualTo(1);
+    }
+}
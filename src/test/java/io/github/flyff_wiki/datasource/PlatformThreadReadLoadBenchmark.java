@@ -0,0 +1,24 @@
+package io.github.flyff_wiki.datasource;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+
+/**
+ * 기본 Tomcat 플랫폼 스레드 풀(최대 200)에서의 조회 부하 측정입니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*ReadLoadBenchmark' -PbenchmarkJavaVersion=21
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "flyff.cache.document.enabled=false",
+        "flyff.admission.enabled=false",
+        "server.tomcat.max-connections=12000",
+        "server.tomcat.accept-count=2000" })
+public class PlatformThreadReadLoadBenchmark extends ReadLoadBenchmark {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.flyff_wiki.datasource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 동시 조회자 수를 1k ~ 10k로 늘려 가며 GET /api/v1/document/{id}의 처리량과 p99를 측정합니다.
+ * - 서버 실행 모드(플랫폼 스레드/가상 스레드)는 하위 클래스의 설정으로 정합니다.
+ * - 문서 캐시를 끄고 측정하므로 모든 요청이 JDBC를 거칩니다 (커넥션 예산/풀 대기가 드러나도록).
+ * - 입장 제어도 끕니다. 거절 없이 스레드/커넥션 대기만 비교하기 위함입니다 (거절 효과는 AdmissionLoadBenchmark).
+ * - 클라이언트 쪽 동시성은 가능하면 가상 스레드로, 아니면 큰 고정 스레드 풀로 만듭니다.
+ */
+abstract class ReadLoadBenchmark {
+
+    private static final int[] CONCURRENT_READERS = { 1_000, 2_500, 5_000, 10_000 };
+    private static final int REQUESTS_PER_READER = 5;
+    private static final int DOCUMENTS = 200;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Test
+    public void measureThroughputAndTailLatency() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            Document document = new Document();
+            document.setTitle("Read Load Benchmark " + i);
+            document.setContent("아이템 설명 item description ".repeat(100));
+            document.setContentFormat(ContentFormat.MARKDOWN);
+            ids.add(documentService.createDocument(document).getId());
+        }
+
+        ExecutorService clients = clientExecutor();
+        try {
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(clients)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            run(http, clients, ids, 200); // 워밍업
+            for (int readers : CONCURRENT_READERS) {
+                run(http, clients, ids, readers);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * 서버 모드 이름입니다 (결과 출력용).
+     */
+    abstract String mode();
+
+    private void run(HttpClient http, ExecutorService clients, List<Long> ids, int readers) throws Exception {
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(readers);
+        long start = System.nanoTime();
+        for (int r = 0; r < readers; r++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_READER];
+                for (int i = 0; i < REQUESTS_PER_READER; i++) {
+                    Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                    HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/api/v1/document/" + id))
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+        long[] all = new long[readers * REQUESTS_PER_READER];
+        int at = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, at, latencies.length);
+            at += latencies.length;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(all);
+        System.out.printf("%-8s readers=%5d requests=%6d throughput=%8.0f req/s p50=%7.2fms p99=%8.2fms errors=%d%n",
+                mode(), readers, all.length, all.length / seconds,
+                all[all.length / 2] / 1e6, all[(int) (all.length * 0.99)] / 1e6, errors.get());
+    }
+
+    /**
+     * 실행 중인 JVM이 지원하면 가상 스레드 executor를, 아니면 2,000개 고정 스레드 풀을 만듭니다.
+     * (컴파일 대상은 Java 17이므로 리플렉션으로 찾습니다.)
+     */
+    static ExecutorService clientExecutor() {
+        ExecutorService virtual = virtualThreadExecutor();
+        return virtual != null ? virtual : Executors.newFixedThreadPool(2_000);
+    }
+
+    static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
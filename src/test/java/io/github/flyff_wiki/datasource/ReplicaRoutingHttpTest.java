@@ -0,0 +1,89 @@
+package io.github.flyff_wiki.datasource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * HTTP 요청 경로에서도 방금 쓴 문서를 원본에서 읽는지 검증합니다.
+ * - 요청 단위로 커넥션을 붙잡는 설정(Open Session In View)이 켜지면 요청의 첫 SQL이 간 복제본에 이후 조회가 묶여 실패합니다.
+ * - 문서 캐시를 꺼서 매 요청이 DB 경로를 타게 합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:http-routing-primary;DB_CLOSE_DELAY=-1",
+        "flyff.datasource.replica.enabled=true",
+        "flyff.datasource.replica.urls=jdbc:h2:mem:http-routing-replica;DB_CLOSE_DELAY=-1",
+        "flyff.datasource.replica.max-lag=10s",
+        "flyff.cache.document.enabled=false",
+        "flyff.history.write-behind.enabled=false"
+})
+@AutoConfigureMockMvc
+public class ReplicaRoutingHttpTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaRoutingPostProcessor replicaRouting;
+
+    @Test
+    public void lookupAndReadRightAfterAWriteSeeThePrimary() throws Exception {
+        // 테스트 목적: 복제본에 아직 없는 새 문서와 복제본에서 오래된 문서를 HTTP로 조회해도 원본 내용을 돌려주는지 검증합니다.
+        // Given: 원본을 복제본에 옮긴 시점의 문서 하나 (이후 원본에서만 수정)
+        Long staleId = createDocument("Http Routed Stale", "replica content");
+        JdbcTemplate replica = new JdbcTemplate(replicaRouting.replicas().get(0));
+        List<String> script = jdbcTemplate.queryForList("script nopasswords nosettings", String.class);
+        script.stream()
+                .filter(statement -> !statement.startsWith("--"))
+                .forEach(replica::execute);
+        Document update = new Document();
+        update.setTitle("Http Routed Stale");
+        update.setContent("primary content");
+        update.setContentFormat(ContentFormat.MARKDOWN);
+        documentService.updateDocument(staleId, update);
+
+        // Given: 복제 이후 원본에만 만든 새 문서
+        Long newId = createDocument("Http Routed New", "new primary content");
+
+        // When & Then: 제목 조회는 복제본에서 못 찾으면 원본에서 찾고, 방금 쓴 문서 본문도 원본에서 읽습니다.
+        mockMvc.perform(get("/api/v1/document/lookup").param("title", "Http Routed New"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(newId))
+                .andExpect(jsonPath("$.content").value("new primary content"));
+        mockMvc.perform(get("/api/v1/document/lookup").param("title", "Http Routed Stale"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("primary content"));
+        mockMvc.perform(get("/api/v1/document/{id}", staleId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("primary content"));
+    }
+
+    private Long createDocument(String title, String content) {
+        Document document = new Document();
+        document.setTitle(title);
+        document.setContent(content);
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        return documentService.createDocument(document).getId();
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.flyff_wiki.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 두 개의 H2 인메모리 DB를 원본/복제본으로 두고 읽기 라우팅과 복제 지연 고정을 검증합니다.
+ * - 복제는 원본의 SCRIPT 결과를 복제본에 실행하는 것으로 흉내 냅니다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "flyff.datasource.replica.enabled=true",
+        "flyff.datasource.replica.urls=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "flyff.datasource.replica.max-lag=300ms",
+        "flyff.history.write-behind.enabled=false"
+})
+public class ReplicaRoutingTest {
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaRoutingPostProcessor replicaRouting;
+
+    @Autowired
+    private DataSourcePools dataSourcePools;
+
+    @Test
+    public void readsGoToReplicaExceptRightAfterAWrite() throws Exception {
+        // 테스트 목적: readOnly 조회는 복제본에서, 방금 수정된 문서는 max-lag 동안 원본에서 읽는지 검증합니다.
+        // Given: 원본에만 있는 새 문서 (복제본에는 아직 테이블도 없음)
+        Document document = new Document();
+        document.setTitle("Routed Title");
+        document.setContent("primary content");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        Long id = documentService.createDocument(document).getId();
+
+        // When & Then: 방금 쓴 문서는 원본에서 읽으므로 바로 보입니다.
+        assertThat(documentService.getDocument(id).getContent()).isEqualTo("primary content");
+
+        // Given: 원본을 복제본에 옮긴 뒤, 복제본에서만 본문을 바꿔 어느 쪽에서 읽었는지 구분합니다.
+        JdbcTemplate replica = new JdbcTemplate(replicaRouting.replicas().get(0));
+        List<String> script = jdbcTemplate.queryForList("script nopasswords nosettings", String.class);
+        script.stream()
+                .filter(statement -> !statement.startsWith("--"))
+                .forEach(replica::execute);
+        replica.update("update documents set content = 'replica content' where id = ?", id);
+
+        // When & Then: max-lag가 지나면 readOnly 조회는 복제본으로 갑니다. 쓰기는 계속 원본으로 갑니다.
+        Thread.sleep(500);
+        assertThat(documentService.getDocument(id).getContent()).isEqualTo("replica content");
+        assertThat(documentService.getValidator(id).version()).isEqualTo(0L);
+        assertThat(jdbcTemplate.queryForObject("select content from documents where id = ?", String.class, id))
+                .isEqualTo("primary content");
+
+        // Then: 풀 상태에 원본과 복제본 풀이 모두 나옵니다.
+        assertThat(dataSourcePools.stats())
+                .extracting(PoolStats::role)
+                .containsExactly("primary", "replica");
+    }
+}
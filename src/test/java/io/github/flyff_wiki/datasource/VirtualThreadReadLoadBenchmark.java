@@ -0,0 +1,34 @@
+package io.github.flyff_wiki.datasource;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * virtual 프로필(가상 스레드 + 커넥션 예산)에서의 조회 부하 측정입니다. Java 21 미만 런타임에서는 건너뜁니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*ReadLoadBenchmark' -PbenchmarkJavaVersion=21
+ */
+@Tag("benchmark")
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "flyff.cache.document.enabled=false",
+        "flyff.admission.enabled=false",
+        "server.tomcat.max-connections=12000",
+        "server.tomcat.accept-count=2000" })
+public class VirtualThreadReadLoadBenchmark extends ReadLoadBenchmark {
+
+    @BeforeAll
+    static void requireVirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads require Java 21+");
+    }
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
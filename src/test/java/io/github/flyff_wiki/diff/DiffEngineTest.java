@@ -0,0 +1,171 @@
+package io.github.flyff_wiki.diff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.flyff_wiki.dto.DiffChunk;
+
+public class DiffEngineTest {
+
+    private static final long TIMEOUT = 5_000_000_000L;
+
+    @Test
+    public void testEditScriptIsMinimalAgainstLcs() {
+        // 테스트 목적: 무작위 입력에서 편집 스크립트가 올바르고(남은 토큰이 양쪽에서 같음) 최소(LCS 길이와 같음)인지 검증합니다.
+        // 기대 동작 흐름: 작은 알파벳으로 두 목록 생성 -> compare -> 삭제/추가되지 않은 토큰 비교 -> DP로 구한 LCS 길이와 비교
+        Random random = new Random(17);
+        for (int round = 0; round < 2000; round++) {
+            // Given: 길이 0~24, 알파벳 1~4개인 두 토큰 목록을 준비합니다.
+            List<String> before = randomTokens(random, random.nextInt(25), 1 + random.nextInt(4));
+            List<String> after = randomTokens(random, random.nextInt(25), 1 + random.nextInt(4));
+
+            // When: 비교합니다.
+            DiffEngine.Result result = DiffEngine.compare(before, after, Integer.MAX_VALUE, TIMEOUT);
+
+            // Then: 공통으로 남은 토큰이 같고 그 길이가 LCS와 같아야 합니다.
+            List<String> keptBefore = kept(before, result.deleted());
+            List<String> keptAfter = kept(after, result.inserted());
+            assertThat(keptBefore).isEqualTo(keptAfter);
+            assertThat(keptBefore).hasSize(lcs(before, after));
+            assertThat(result.truncated()).isFalse();
+        }
+    }
+
+    @Test
+    public void testChunksReproduceBothRevisions() {
+        // 테스트 목적: 줄 단위 구간 목록에서 이전/이후 본문을 그대로 다시 조립할 수 있고, 멀리 떨어진 공통 줄은 생략되는지 검증합니다.
+        // Given: 200줄 본문에서 두 줄을 바꾸고 한 줄을 추가한 본문을 준비합니다.
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            builder.append("Line ").append(i).append(" 아이템 설명\n");
+        }
+        String before = builder.toString();
+        String after = before.replace("Line 20 아이템", "Line 20 몬스터")
+                .replace("Line 150 ", "Line 150 수정 ")
+                .replace("Line 199 아이템 설명\n", "Line 199 아이템 설명\n추가된 줄");
+        List<String> beforeLines = DiffGranularity.LINE.tokenize(before);
+        List<String> afterLines = DiffGranularity.LINE.tokenize(after);
+
+        // When: 비교 후 앞뒤 3줄만 남긴 구간 목록을 만듭니다.
+        DiffEngine.Result result = DiffEngine.compare(beforeLines, afterLines, 4096, TIMEOUT);
+        List<DiffChunk> chunks = DiffEngine.chunks(beforeLines, afterLines, result, 3);
+
+        // Then: 삭제 2줄/추가 3줄, 남긴 공통 줄은 변경 앞뒤 3줄씩(15줄)이고, SKIP을 원문으로 채우면 양쪽 본문이 복원되어야 합니다.
+        assertThat(result.deletedCount()).isEqualTo(2);
+        assertThat(result.insertedCount()).isEqualTo(3);
+        assertThat(chunks).extracting(DiffChunk::op).contains(DiffChunk.Op.SKIP);
+        assertThat(chunks.stream().filter(chunk -> chunk.op() == DiffChunk.Op.EQUAL).mapToInt(DiffChunk::tokens).sum())
+                .isEqualTo(3 * 5);
+        StringBuilder restoredBefore = new StringBuilder();
+        StringBuilder restoredAfter = new StringBuilder();
+        int i = 0;
+        int j = 0;
+        for (DiffChunk chunk : chunks) {
+            switch (chunk.op()) {
+                case EQUAL -> {
+                    restoredBefore.append(chunk.text());
+                    restoredAfter.append(chunk.text());
+                    i += chunk.tokens();
+                    j += chunk.tokens();
+                }
+                case DELETE -> {
+                    restoredBefore.append(chunk.text());
+                    i += chunk.tokens();
+                }
+                case INSERT -> {
+                    restoredAfter.append(chunk.text());
+                    j += chunk.tokens();
+                }
+                case SKIP -> {
+                    restoredBefore.append(String.join("", beforeLines.subList(i, i + chunk.tokens())));
+                    restoredAfter.append(String.join("", afterLines.subList(j, j + chunk.tokens())));
+                    i += chunk.tokens();
+                    j += chunk.tokens();
+                }
+            }
+        }
+        assertThat(restoredBefore.toString()).isEqualTo(before);
+        assertThat(restoredAfter.toString()).isEqualTo(after);
+    }
+
+    @Test
+    public void testWordGranularityIsolatesChangedWord() {
+        // 테스트 목적: 단어 단위 비교에서 바뀐 단어만 DELETE/INSERT로 나오는지 검증합니다.
+        List<String> before = DiffGranularity.WORD.tokenize("검은 고양이가 빠르게 달린다.");
+        List<String> after = DiffGranularity.WORD.tokenize("검은 강아지가 빠르게 달린다.");
+
+        DiffEngine.Result result = DiffEngine.compare(before, after, 4096, TIMEOUT);
+        List<DiffChunk> chunks = DiffEngine.chunks(before, after, result, 10);
+
+        assertThat(chunks).extracting(DiffChunk::op, DiffChunk::text).containsExactly(
+                tuple(DiffChunk.Op.EQUAL, "검은 "),
+                tuple(DiffChunk.Op.DELETE, "고양이가"),
+                tuple(DiffChunk.Op.INSERT, "강아지가"),
+                tuple(DiffChunk.Op.EQUAL, " 빠르게 달린다."));
+    }
+
+    @Test
+    public void testCostLimitFallsBackToValidReplacement() {
+        // 테스트 목적: 탐색 비용 한도를 넘으면 truncated로 표시하되, 결과는 여전히 올바른 편집 스크립트인지 검증합니다.
+        // Given: 공통 머리/꼬리 줄 사이의 500줄 중 홀수 번째 줄만 모두 바꾼 두 목록을 준비합니다 (최소 편집 거리 500).
+        List<String> before = new ArrayList<>();
+        List<String> after = new ArrayList<>();
+        before.add("header\n");
+        after.add("header\n");
+        for (int i = 0; i < 500; i++) {
+            before.add("old " + i + "\n");
+            after.add((i % 2 == 0 ? "old " : "new ") + i + "\n");
+        }
+        before.add("footer\n");
+        after.add("footer\n");
+
+        // When: 한도를 작게 잡아 비교합니다.
+        DiffEngine.Result limited = DiffEngine.compare(before, after, 8, TIMEOUT);
+        DiffEngine.Result full = DiffEngine.compare(before, after, Integer.MAX_VALUE, TIMEOUT);
+
+        // Then: 한도 비교는 truncated이고 공통 접두/접미는 유지하며, 한도 없는 비교보다 변경이 많거나 같아야 합니다.
+        assertThat(limited.truncated()).isTrue();
+        assertThat(kept(before, limited.deleted())).isEqualTo(kept(after, limited.inserted()));
+        assertThat(limited.deleted()[0]).isFalse();
+        assertThat(limited.deleted()[before.size() - 1]).isFalse();
+        assertThat(full.truncated()).isFalse();
+        assertThat(full.deletedCount()).isEqualTo(250);
+        assertThat(limited.deletedCount()).isGreaterThanOrEqualTo(full.deletedCount());
+    }
+
+    private static List<String> randomTokens(Random random, int length, int alphabet) {
+        List<String> tokens = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            tokens.add(String.valueOf((char) ('a' + random.nextInt(alphabet))));
+        }
+        return tokens;
+    }
+
+    private static List<String> kept(List<String> tokens, boolean[] changed) {
+        List<String> kept = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (!changed[i]) {
+                kept.add(tokens.get(i));
+            }
+        }
+        return kept;
+    }
+
+    private static int lcs(List<String> a, List<String> b) {
+        int[][] table = new int[a.size() + 1][b.size() + 1];
+        for (int i = a.size() - 1; i >= 0; i--) {
+            for (int j = b.size() - 1; j >= 0; j--) {
+                table[i][j] = a.get(i).equals(b.get(j))
+                        ? table[i + 1][j + 1] + 1
+                        : Math.max(table[i + 1][j], table[i][j + 1]);
+            }
+        }
+        return table[0][0];
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.flyff_wiki.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class DocumentExporterTest {
+
+    @Autowired
+    private DocumentExporter documentExporter;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void writeDocumentStreamsCurrentContentAndReconstructedHistory() throws Exception {
+        // 테스트 목적: 커서 기반 스트리밍 결과가 서비스의 리비전 복원 결과와 같은지 검증합니다.
+        // Given: 키프레임 간격(16)을 넘도록 20번 수정한 문서
+        Document document = new Document();
+        document.setTitle("Export Test " + System.nanoTime());
+        document.setContent("본문 0\n");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        Long id = documentService.createDocument(document).getId();
+        StringBuilder content = new StringBuilder("본문 0\n");
+        for (int i = 1; i <= 20; i++) {
+            content.append("본문 ").append(i).append(" \"따옴표\"\n");
+            Document update = new Document();
+            update.setTitle(document.getTitle());
+            update.setContent(content.toString());
+            update.setContentFormat(ContentFormat.MARKDOWN);
+            documentService.updateDocument(id, update);
+        }
+
+        // When: 히스토리 본문까지 포함하여 내보냅니다.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        documentExporter.writeDocument(id, true, out);
+        JsonNode exported = objectMapper.readTree(out.toByteArray());
+
+        // Then: 현재 본문, 리비전 수, 리비전별 본문이 모두 일치합니다.
+        assertThat(exported.get("id").asLong()).isEqualTo(id);
+        assertThat(exported.get("content").asString()).isEqualTo(content.toString());
+        assertThat(exported.get("revisionCount").asInt()).isEqualTo(20);
+        assertThat(exported.get("history")).hasSize(20);
+        for (JsonNode history : exported.get("history")) {
+            int revision = history.get("revision").asInt();
+            assertThat(history.get("content").asString())
+                    .isEqualTo(documentService.getRevision(id, revision).content());
+        }
+    }
+
+    @Test
+    public void writeDocumentMarksRevisionsWithoutStoredBaseInsteadOfFailing() throws Exception {
+        // 테스트 목적: 기준 키프레임이 아직 저장되지 않은 델타가 있어도 내보내기가 끊기지 않고 해당 리비전에 error를 쓰는지 검증합니다.
+        // Given: 델타로 저장된 리비전 1~3을 가진 문서에서 키프레임(리비전 0)이 빠진 상태
+        Document document = new Document();
+        document.setTitle("Export Gap Test " + System.nanoTime());
+        document.setContent("긴 본문 줄입니다.\n".repeat(100));
+        Long id = documentService.createDocument(document).getId();
+        for (int i = 1; i <= 4; i++) {
+            Document update = new Document();
+            update.setTitle(document.getTitle());
+            update.setContent("긴 본문 줄입니다.\n".repeat(100) + "추가 " + i);
+            documentService.updateDocument(id, update);
+        }
+        jdbcTemplate.update("delete from document_history where document_id = ? and revision = 0", id);
+
+        // When: 히스토리 본문까지 포함하여 내보냅니다.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        documentExporter.writeDocument(id, true, out);
+        JsonNode exported = objectMapper.readTree(out.toByteArray());
+
+        // Then: JSON이 끝까지 쓰이고, 남은 리비전은 본문 대신 error를 가집니다.
+        assertThat(exported.get("history")).hasSize(3);
+        for (JsonNode history : exported.get("history")) {
+            assertThat(history.get("content").isNull()).isTrue();
+            assertThat(history.get("error").asString()).isEqualTo("Base revision not stored");
+        }
+    }
+
+    @Test
+    public void writeAllProducesOneJsonDocumentPerLine() throws Exception {
+        // 테스트 목적: 전체 내보내기가 gzip NDJSON으로 한 줄에 문서 하나씩 쓰는지 검증합니다.
+        String title = "Export All Test " + System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            Document document = new Document();
+            document.setTitle(title + " " + i);
+            document.setContent("줄바꿈이 있는\n본문 " + i);
+            documentService.createDocument(document);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long exported;
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            exported = documentExporter.writeAll(gzip);
+        }
+
+        int lines = 0;
+        int matching = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                if (objectMapper.readTree(line).get("title").asString().startsWith(title + " ")) {
+                    matching++;
+                }
+            }
+        }
+        assertThat(lines).isEqualTo(exported);
+        assertThat(matching).isEqualTo(3);
+    }
+}
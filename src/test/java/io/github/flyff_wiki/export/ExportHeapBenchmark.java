@@ -0,0 +1,81 @@
+package io.github.flyff_wiki.export;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.RevisionContent;
+import io.github.flyff_wiki.service.DocumentService;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 문서 크기별로 버퍼링 직렬화와 스트리밍 내보내기의 스레드 할당 바이트를 비교합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*ExportHeapBenchmark'
+ * - 버퍼링: 엔티티 + 모든 리비전 본문을 메모리에 모은 뒤 byte[]로 직렬화 (기존 방식)
+ * - 스트리밍: DocumentExporter가 커서에서 바로 출력 (출력은 버림)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class ExportHeapBenchmark {
+
+    private static final int[] CONTENT_CHARS = { 256 * 1024, 2 * 1024 * 1024, 8 * 1024 * 1024 };
+    private static final int REVISIONS = 20;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentExporter documentExporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void compareAllocatedBytes() {
+        for (int size : CONTENT_CHARS) {
+            String base = "위키 본문 wiki body line\n".repeat(size / 22);
+            Document document = new Document();
+            document.setTitle("Export Heap Benchmark " + size);
+            document.setContent(base);
+            document.setContentFormat(ContentFormat.MARKDOWN);
+            Long id = documentService.createDocument(document).getId();
+            for (int i = 0; i < REVISIONS; i++) {
+                Document update = new Document();
+                update.setTitle(document.getTitle());
+                update.setContent(base + "편집 " + i + "\n");
+                update.setContentFormat(ContentFormat.MARKDOWN);
+                documentService.updateDocument(id, update);
+            }
+
+            long buffered = allocated(() -> {
+                Document loaded = documentService.getDocument(id);
+                List<RevisionContent> revisions = new ArrayList<>();
+                for (int revision = 0; revision < REVISIONS; revision++) {
+                    revisions.add(documentService.getRevision(id, revision));
+                }
+                objectMapper.writeValueAsBytes(List.of(loaded, revisions));
+            });
+            long streamed = allocated(() -> documentExporter.writeDocument(id, true, OutputStream.nullOutputStream()));
+            System.out.printf("content=%,d chars revisions=%d buffered=%,d bytes streamed=%,d bytes%n",
+                    size, REVISIONS, buffered, streamed);
+        }
+    }
+
+    @SuppressWarnings("restriction")
+    private static long allocated(Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        task.run(); // 워밍업
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.flyff_wiki.links;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class LinkGraphTest {
+
+    @Test
+    public void testExtractorNormalizesWikiAndPathLinks() {
+        // 테스트 목적: 위키 링크와 /wiki/ 경로 링크를 슬러그로 정규화하고, 자기 자신/중복/잘못된 인코딩은 빼는지 검증합니다.
+        String content = "[[Flyff Wiki]] 와 [[flyff_wiki|표시 이름]], [[Mage#스킬]]\n"
+                + "[가이드](/wiki/Beginner%20Guide?tab=1) <a href=\"/wiki/Ｍａｇｅ\">마법사</a>\n"
+                + "[[Self Page]] [깨진 인코딩](/wiki/%E0%A4%A) [[ ]] [외부](https://example.com/wiki)";
+
+        String[] targets = LinkExtractor.extract(content, "self_page");
+
+        assertThat(targets).containsExactly("beginner_guide", "flyff_wiki", "mage");
+        assertThat(LinkExtractor.extract(null, "self_page")).isEmpty();
+        assertThat(LinkExtractor.extract("링크 없는 본문", "self_page")).isEmpty();
+    }
+
+    @Test
+    public void testUpdateDiffsLinksAndResolvesTargetsBySlug() {
+        // 테스트 목적: 수정 시 바뀐 간선만 고치고, 없는 문서로 가는 링크는 깨진 링크로 남았다가
+        //   그 제목의 문서가 생기면 역링크가 되며, 제목이 바뀌면 다시 깨진 링크가 되는지 검증합니다.
+        LinkGraph graph = new LinkGraph();
+        graph.update(1L, 0, "mage", null, new String[0]);
+        graph.update(2L, 0, "jester", null, new String[] { "mage", "ringmaster" });
+
+        // When: 2번 문서에서 ringmaster 링크를 빼고 mage 링크는 유지, assist 링크를 추가합니다.
+        LinkGraph.LinkChange change = graph.update(2L, 1, "jester", null, new String[] { "assist", "mage" });
+
+        // Then: 추가 1개/삭제 1개만 반영됩니다.
+        assertThat(change).isEqualTo(new LinkGraph.LinkChange(1, 1, false));
+        assertThat(graph.backlinks(1L)).containsExactly(2L);
+        assertThat(graph.linkCount()).isEqualTo(2);
+        assertThat(graph.broken(10)).extracting(LinkGraph.DanglingTarget::slug).containsExactly("assist");
+
+        // When: assist 문서가 생기면 깨진 링크가 역링크가 됩니다.
+        graph.update(3L, 0, "assist", null, new String[] { "mage" });
+        assertThat(graph.backlinks(3L)).containsExactly(2L);
+        assertThat(graph.backlinks(1L)).containsExactly(2L, 3L);
+        assertThat(graph.broken(10)).isEmpty();
+
+        // When: mage 문서의 제목이 바뀌면 mage로 가는 링크는 깨진 링크가 됩니다.
+        graph.update(1L, 0, "elementor", "mage", new String[0]);
+        assertThat(graph.documentId("mage")).isNull();
+        assertThat(graph.backlinks(1L)).isEmpty();
+        assertThat(graph.broken(10)).singleElement().satisfies(target -> {
+            assertThat(target.slug()).isEqualTo("mage");
+            assertThat(target.sources()).containsExactly(2L, 3L);
+        });
+    }
+
+    @Test
+    public void testOrphansAndBrokenLinksAreOrdered() {
+        // 테스트 목적: 고아 문서는 ID 순 커서 페이지로, 깨진 링크는 링크한 문서가 많은 대상부터 반환하는지 검증합니다.
+        LinkGraph graph = new LinkGraph();
+        graph.update(5L, 0, "e", null, new String[] { "a", "missing_1" });
+        graph.update(4L, 0, "d", null, new String[] { "missing_1", "missing_2" });
+        graph.update(3L, 0, "c", null, new String[] { "missing_1" });
+        graph.update(2L, 0, "b", null, new String[0]);
+        graph.update(1L, 0, "a", null, new String[0]);
+
+        assertThat(graph.orphans(0, 2)).containsExactly(2L, 3L);
+        assertThat(graph.orphans(3L, 2)).containsExactly(4L, 5L);
+        assertThat(graph.orphans(5L, 2)).isEmpty();
+        assertThat(graph.broken(10)).extracting(LinkGraph.DanglingTarget::slug)
+                .containsExactly("missing_1", "missing_2");
+        assertThat(graph.broken(1).get(0).sources()).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    public void testUpdateOlderThanAppliedVersionIsIgnored() {
+        // 테스트 목적: 늦게 도착한 이전 버전의 갱신이 이미 반영된 새 버전의 링크를 덮어쓰지 않는지 검증합니다.
+        // Given: 버전 2까지 반영된 문서
+        LinkGraph graph = new LinkGraph();
+        graph.update(1L, 2, "mage", null, new String[] { "assist" });
+
+        // When: 버전 1의 갱신이 뒤늦게 도착합니다.
+        LinkGraph.LinkChange change = graph.update(1L, 1, "mage", null, new String[] { "jester" });
+
+        // Then: 버려지고 버전 2의 링크가 유지됩니다. 같은 버전이나 버전을 모르는 갱신은 반영됩니다.
+        assertThat(change.stale()).isTrue();
+        assertThat(graph.links(1L)).containsExactly("assist");
+        assertThat(graph.update(1L, 2, "mage", null, new String[0]).stale()).isFalse();
+        assertThat(graph.update(1L, -1, "mage", null, new String[] { "jester" }).stale()).isFalse();
+        assertThat(graph.links(1L)).containsExactly("jester");
+    }
+
+    @Test
+    public void testBuilderMatchesIncrementalUpdates() {
+        // 테스트 목적: 전체 재구성(Builder)과 문서별 증분 갱신을 반복한 결과가 같은 그래프가 되는지 무작위 입력으로 검증합니다.
+        Random random = new Random(21);
+        int documents = 300;
+        LinkGraph incremental = new LinkGraph();
+        Map<Long, String[]> latest = new HashMap<>();
+        for (int round = 0; round < 3; round++) {
+            for (long id = 1; id <= documents; id++) {
+                String[] targets = randomTargets(random, "page_" + id);
+                incremental.update(id, 0, "page_" + id, null, targets);
+                latest.put(id, targets);
+            }
+        }
+        LinkGraph.Builder builder = new LinkGraph.Builder();
+        latest.forEach((id, targets) -> builder.add(id, 0, "page_" + id, targets));
+        LinkGraph rebuilt = builder.build();
+
+        assertThat(rebuilt.linkCount()).isEqualTo(incremental.linkCount());
+        assertThat(rebuilt.documentCount()).isEqualTo(incremental.documentCount());
+        for (long id = 1; id <= documents; id++) {
+            assertThat(rebuilt.backlinks(id)).as("backlinks of %d", id).containsExactly(incremental.backlinks(id));
+            assertThat(rebuilt.links(id)).containsExactly(incremental.links(id));
+        }
+        assertThat(rebuilt.orphans(0, documents)).containsExactly(incremental.orphans(0, documents));
+        List<String> rebuiltBroken = new ArrayList<>();
+        rebuilt.broken(documents).forEach(target -> rebuiltBroken.add(target.slug()));
+        List<String> incrementalBroken = new ArrayList<>();
+        incremental.broken(documents).forEach(target -> incrementalBroken.add(target.slug()));
+        assertThat(rebuiltBroken).isEqualTo(incrementalBroken);
+    }
+
+    private static String[] randomTargets(Random random, String self) {
+        TreeSet<String> targets = new TreeSet<>();
+        int count = random.nextInt(6);
+        for (int i = 0; i < count; i++) {
+            // 일부는 없는 문서(page_301 이후)를 가리켜 깨진 링크를 만듭니다.
+            String target = "page_" + (1 + random.nextInt(330));
+            if (!target.equals(self)) {
+                targets.add(target);
+            }
+        }
+        return targets.toArray(new String[0]);
+    }
+}
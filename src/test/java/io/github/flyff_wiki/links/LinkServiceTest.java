@@ -0,0 +1,108 @@
+package io.github.flyff_wiki.links;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.dto.DocumentLink;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.LinkRebuildResult;
+import io.github.flyff_wiki.dto.LinkSource;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import io.github.flyff_wiki.repository.DocumentRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class LinkServiceTest {
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @InjectMocks
+    private LinkService linkService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(linkService, "rebuildBatchSize", 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        linkService.shutdown();
+    }
+
+    @Test
+    public void testRebuildReadsAllPagesAndKeepsEditsMadeDuringRebuild() {
+        // 테스트 목적: 여러 페이지를 병렬로 추출해 그래프를 만들고, 재구성 도중 커밋된 수정이 새 그래프에 남는지 검증합니다.
+        // 기대 동작 흐름: 첫 페이지 조회 직후 1번 문서 수정 이벤트 도착 (재구성은 이전 본문을 읽은 상태)
+        //   -> 재구성 완료 시 기록해 둔 수정을 새 그래프에 다시 적용 -> 1번 문서는 수정 후 링크를 가짐
+        when(documentRepository.findLinkSources(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            if (afterId == 0) {
+                linkService.onDocumentChanged(new DocumentChangedEvent(view(1L, "Mage", "[[Assist]]", 1L), false));
+                return List.of(new LinkSource(1L, "Mage", "[[Jester]]", 0L),
+                        new LinkSource(2L, "Jester", "[[Mage]]", 0L));
+            }
+            if (afterId == 2) {
+                return List.of(new LinkSource(3L, "Assist", "[내용](/wiki/Mage) [[Ringmaster]]", 0L));
+            }
+            return List.of();
+        });
+
+        LinkRebuildResult result = linkService.rebuild();
+
+        assertThat(result.documents()).isEqualTo(3);
+        assertThat(result.links()).isEqualTo(4);
+        assertThat(linkService.getLinks(1L)).extracting(DocumentLink::slug).containsExactly("assist");
+        assertThat(linkService.getBacklinks(1L, 10).sources()).extracting(DocumentLink::id).containsExactly(2L, 3L);
+        assertThat(linkService.getBacklinks(2L, 10).total()).isZero();
+        assertThat(linkService.getOrphans(null, 10).documents()).extracting(DocumentLink::id).containsExactly(2L);
+        assertThat(linkService.getBrokenLinks(10)).singleElement().satisfies(broken -> {
+            assertThat(broken.target()).isEqualTo("ringmaster");
+            assertThat(broken.sources()).containsExactly(3L);
+        });
+    }
+
+    @Test
+    public void testEventsUpdateGraphIncrementally() {
+        // 테스트 목적: 재구성 없이 생성/수정 이벤트만으로 링크가 반영되고, 모르는 문서 질의는 거절하는지 검증합니다.
+        linkService.onDocumentChanged(new DocumentChangedEvent(view(10L, "Flyff Wiki", "[[New Page]]", 0L), true));
+        assertThat(linkService.getLinks(10L)).containsExactly(new DocumentLink(null, "new_page"));
+
+        linkService.onDocumentChanged(new DocumentChangedEvent(view(11L, "New Page", "본문", 0L), true));
+        assertThat(linkService.getLinks(10L)).containsExactly(new DocumentLink(11L, "new_page"));
+        assertThat(linkService.getBacklinks(11L, 10).sources()).containsExactly(new DocumentLink(10L, "flyff_wiki"));
+        assertThatThrownBy(() -> linkService.getBacklinks(99L, 10)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void testOutOfOrderEventsKeepLatestVersion() {
+        // 테스트 목적: 커밋 후 리스너가 순서 없이 실행되어 이전 버전 이벤트가 늦게 와도 최신 버전의 링크가 남는지 검증합니다.
+        // Given: 버전 2 이벤트가 먼저 반영됨
+        linkService.onDocumentChanged(new DocumentChangedEvent(view(20L, "Blade", "[[Shield]]", 2L), false));
+
+        // When: 버전 1 이벤트가 뒤늦게 도착합니다.
+        linkService.onDocumentChanged(new DocumentChangedEvent(view(20L, "Blade", "[[Sword]]", 1L), false));
+
+        // Then: 버전 2의 링크가 유지됩니다.
+        assertThat(linkService.getLinks(20L)).extracting(DocumentLink::slug).containsExactly("shield");
+    }
+
+    private static DocumentView view(Long id, String title, String content, Long version) {
+        return new DocumentView(id, title, null, content, ContentFormat.MARKDOWN, null, 1, version, null, null);
+    }
+}
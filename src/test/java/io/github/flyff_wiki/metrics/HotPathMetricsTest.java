@@ -0,0 +1,71 @@
+package io.github.flyff_wiki.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "flyff.history.write-behind.enabled=false"
+})
+public class HotPathMetricsTest {
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void serviceAndRepositoryCallsAreTimed() {
+        // 테스트 목적: 서비스/리포지토리 메서드 호출이 타이머에, 동기 히스토리 저장이 카운터에 기록되는지 검증합니다.
+        // Given: 각 타이머/카운터의 현재 값
+        long createsBefore = count(serviceTimer("createDocument"));
+        long findByIdBefore = count(repositoryTimer("findById"));
+        double historyBefore = meterRegistry.get("flyff.history.rows.written").tag("mode", "sync").counter().count();
+
+        // When: 문서를 만들고 수정한 뒤 조회합니다.
+        Document document = new Document();
+        document.setTitle("Metrics Test " + System.nanoTime());
+        document.setContent("v0");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        Long id = documentService.createDocument(document).getId();
+        Document update = new Document();
+        update.setTitle(document.getTitle());
+        update.setContent("v1");
+        update.setContentFormat(ContentFormat.MARKDOWN);
+        documentService.updateDocument(id, update);
+        documentService.getDocument(id);
+
+        // Then: 호출 수만큼 타이머/카운터가 늘고, 백분위 히스토그램이 켜져 있습니다.
+        assertThat(count(serviceTimer("createDocument"))).isEqualTo(createsBefore + 1);
+        assertThat(count(repositoryTimer("findById"))).isGreaterThanOrEqualTo(findByIdBefore + 2);
+        assertThat(meterRegistry.get("flyff.history.rows.written").tag("mode", "sync").counter().count())
+                .isEqualTo(historyBefore + 1);
+        assertThat(serviceTimer("getDocument").takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    private Timer serviceTimer(String method) {
+        return meterRegistry.find("flyff.service.method")
+                .tags("class", "DocumentService", "method", method, "exception", "none")
+                .timer();
+    }
+
+    private Timer repositoryTimer(String method) {
+        return meterRegistry.find("flyff.repository.method")
+                .tags("class", "DocumentRepository", "method", method, "exception", "none")
+                .timer();
+    }
+
+    private static long count(Timer timer) {
+        return timer == null ? 0 : timer.count();
+    }
+}
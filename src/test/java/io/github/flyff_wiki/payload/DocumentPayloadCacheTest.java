@@ -0,0 +1,72 @@
+package io.github.flyff_wiki.payload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.airlift.compress.zstd.ZstdDecompressor;
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.dto.DocumentView;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+public class DocumentPayloadCacheTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private DocumentPayloadCache newCache() {
+        DocumentPayloadCache cache = new DocumentPayloadCache(1 << 20, 2048);
+        ReflectionTestUtils.setField(cache, "objectMapper", jsonMapper);
+        return cache;
+    }
+
+    private DocumentView view(String content) {
+        return new DocumentView(1L, "제목", "제목", content, ContentFormat.MARKDOWN, null, 3, 3L,
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 2, 0, 0));
+    }
+
+    @Test
+    public void encodedPayloadsDecodeToTheSameDocumentAndAreCached() {
+        // 테스트 목적: zstd/CBOR로 인코딩한 응답이 원래 문서로 복원되고, 같은 표현은 한 번만 인코딩되는지 검증합니다.
+        DocumentPayloadCache cache = newCache();
+        DocumentView view = view("아이템 설명 item description\n".repeat(500));
+
+        Payload zstd = cache.get(view, "\"v3-zstd\"", PayloadFormat.JSON, ContentCoding.ZSTD);
+        assertThat(zstd.coding()).isEqualTo(ContentCoding.ZSTD);
+        byte[] json = new byte[(int) ZstdDecompressor.getDecompressedSize(zstd.bytes(), 0, zstd.bytes().length)];
+        new ZstdDecompressor().decompress(zstd.bytes(), 0, zstd.bytes().length, json, 0, json.length);
+        assertThat(jsonMapper.readValue(json, DocumentView.class)).isEqualTo(view);
+        assertThat(zstd.bytes().length).isLessThan(json.length / 10);
+
+        Payload cbor = cache.get(view, "\"v3-cbor\"", PayloadFormat.CBOR, ContentCoding.IDENTITY);
+        assertThat(CBORMapper.builder().build().readValue(cbor.bytes(), DocumentView.class)).isEqualTo(view);
+
+        assertThat(cache.get(view, "\"v3-zstd\"", PayloadFormat.JSON, ContentCoding.ZSTD)).isSameAs(zstd);
+    }
+
+    @Test
+    public void smallPayloadsAreNotCompressed() {
+        // 테스트 목적: 압축 기준보다 작은 응답은 요청한 방식과 관계없이 무압축으로 내려가는지 검증합니다.
+        Payload payload = newCache().get(view("짧은 본문"), "\"v3-gzip\"", PayloadFormat.JSON, ContentCoding.GZIP);
+        assertThat(payload.coding()).isEqualTo(ContentCoding.IDENTITY);
+    }
+
+    @Test
+    public void negotiatesByQualityValues() {
+        // 테스트 목적: Accept-Encoding/Accept 품질값 협상 규칙을 검증합니다.
+        assertThat(ContentCoding.negotiate(null)).isEqualTo(ContentCoding.IDENTITY);
+        assertThat(ContentCoding.negotiate("gzip, deflate, br")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("gzip, zstd")).isEqualTo(ContentCoding.ZSTD);
+        assertThat(ContentCoding.negotiate("zstd;q=0.5, gzip")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("gzip;q=0, *")).isEqualTo(ContentCoding.IDENTITY);
+        assertThat(ContentCoding.negotiate("*")).isEqualTo(ContentCoding.GZIP);
+
+        assertThat(PayloadFormat.negotiate(null)).isEqualTo(PayloadFormat.JSON);
+        assertThat(PayloadFormat.negotiate("*/*")).isEqualTo(PayloadFormat.JSON);
+        assertThat(PayloadFormat.negotiate("application/cbor, application/json;q=0.5")).isEqualTo(PayloadFormat.CBOR);
+        assertThat(PayloadFormat.negotiate("application/json, application/cbor;q=0.5")).isEqualTo(PayloadFormat.JSON);
+    }
+}
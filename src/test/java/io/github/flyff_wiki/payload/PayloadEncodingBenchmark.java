@@ -0,0 +1,61 @@
+package io.github.flyff_wiki.payload;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.dto.DocumentView;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 문서 크기별로 형식(JSON/CBOR) x 압축(identity/gzip/zstd)의 응답 크기와 인코딩 CPU 시간을 비교합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*PayloadEncodingBenchmark'
+ * - encode: 캐시 없이 직렬화 + 압축 1회 평균, cached: DocumentPayloadCache 적중 1회 평균
+ */
+@Tag("benchmark")
+public class PayloadEncodingBenchmark {
+
+    private static final int[] CONTENT_CHARS = { 4 * 1024, 64 * 1024, 1024 * 1024 };
+    private static final int ROUNDS = 50;
+
+    @Test
+    public void compareBandwidthAndCpu() {
+        DocumentPayloadCache cache = new DocumentPayloadCache(256L << 20, 2048);
+        ReflectionTestUtils.setField(cache, "objectMapper", JsonMapper.builder().build());
+        String paragraph = "## 드랍 아이템\n| 몬스터 | 확률 |\n|---|---|\n| Aibatt | 3% |\n"
+                + "아이템 설명 item description, level 15 sword of the wind.\n\n";
+
+        for (int size : CONTENT_CHARS) {
+            DocumentView view = new DocumentView((long) size, "Payload Benchmark", "payload_benchmark",
+                    paragraph.repeat(size / paragraph.length()), ContentFormat.MARKDOWN, null, 0, 0L,
+                    LocalDateTime.now(), LocalDateTime.now());
+            for (PayloadFormat format : PayloadFormat.values()) {
+                for (ContentCoding coding : ContentCoding.values()) {
+                    byte[] encoded = null;
+                    for (int i = 0; i < 5; i++) {
+                        encoded = coding.encode(cache.serialize(view, format)); // 워밍업
+                    }
+                    long start = System.nanoTime();
+                    for (int i = 0; i < ROUNDS; i++) {
+                        encoded = coding.encode(cache.serialize(view, format));
+                    }
+                    double encodeMicros = (System.nanoTime() - start) / 1e3 / ROUNDS;
+
+                    String etag = "\"v0-" + format + "-" + coding + "\"";
+                    cache.get(view, etag, format, coding);
+                    start = System.nanoTime();
+                    for (int i = 0; i < ROUNDS; i++) {
+                        cache.get(view, etag, format, coding);
+                    }
+                    double cachedMicros = (System.nanoTime() - start) / 1e3 / ROUNDS;
+
+                    System.out.printf("content=%,9d chars %-4s %-8s bytes=%,9d encode=%9.1fus cached=%6.2fus%n",
+                            size, format, coding, encoded.length, encodeMicros, cachedMicros);
+                }
+            }
+        }
+    }
+}
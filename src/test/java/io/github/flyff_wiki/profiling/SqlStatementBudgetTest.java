@@ -0,0 +1,154 @@
+package io.github.flyff_wiki.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.domain.User;
+import io.github.flyff_wiki.service.DocumentService;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 엔드포인트별 SQL 문장 수 예산을 검사합니다. 예산을 넘으면(N+1 회귀) 테스트가 실패합니다.
+ * - 문서 캐시와 히스토리 쓰기 지연을 꺼서 매 요청이 DB 경로를 타게 합니다.
+ * - 본문 대부분이 같아 리비전 1~15는 델타로 저장됩니다. 편집자를 모두 다르게 두어, 편집자/문서 연관이 EAGER로 돌아가면 히스토리 행 수만큼 SQL이 늘어나게 합니다.
+ */
+@SpringBootTest(properties = {
+        "flyff.sql.profiling.enabled=true",
+        "flyff.sql.profiling.count-rows=true",
+        "flyff.cache.document.enabled=false",
+        "flyff.history.write-behind.enabled=false"
+})
+@AutoConfigureMockMvc
+public class SqlStatementBudgetTest {
+
+    private static final int EDITS = 20;
+    private static final String BODY = "line of statement budget content\n".repeat(50);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long documentId;
+    private String title;
+
+    @BeforeEach
+    public void setUp() {
+        List<User> editors = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < EDITS; i++) {
+                User editor = new User();
+                entityManager.persist(editor);
+                editors.add(editor);
+            }
+        });
+        Document document = new Document();
+        title = "SQL Budget " + System.nanoTime();
+        document.setTitle(title);
+        document.setContent(BODY + "edit 0\n");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        documentId = documentService.createDocument(document).getId();
+        for (int i = 1; i <= EDITS; i++) {
+            Document update = new Document();
+            update.setTitle(document.getTitle());
+            update.setContent(BODY + "edit " + i + "\n");
+            update.setContentFormat(ContentFormat.MARKDOWN);
+            update.setAuthor(editors.get(i - 1));
+            documentService.updateDocument(documentId, update);
+        }
+    }
+
+    @Test
+    public void getDocumentReadsValidatorAndRowOnly() throws Exception {
+        // 검증자 프로젝션 1 + 문서 행 1 (작성자는 지연 로딩이라 읽지 않음)
+        assertThat(sqlCount(mockMvc.perform(get("/api/v1/document/{id}", documentId))
+                .andExpect(status().isOk()).andReturn())).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void historyPageIsSingleQuery() throws Exception {
+        assertThat(sqlCount(mockMvc.perform(get("/api/v1/document/{id}/history", documentId).param("limit", "50"))
+                .andExpect(status().isOk()).andReturn())).isEqualTo(1);
+    }
+
+    @Test
+    public void revisionReadDoesNotFanOutPerEditor() throws Exception {
+        // 키프레임 1 + 델타 구간 1. 리비전 15는 키프레임(0) 이후 델타 15개를 적용합니다.
+        MvcResult result = mockMvc.perform(get("/api/v1/document/{id}/history/{revision}", documentId, 15))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(sqlCount(result)).isLessThanOrEqualTo(2);
+        assertThat(result.getResponse().getHeader("X-SQL-Max-Repeats")).isEqualTo("1");
+    }
+
+    @Test
+    public void updateHasFixedStatementCount() throws Exception {
+        // 문서 로드 1 + 직전 리비전 복원(키프레임/델타 구간) 2 + 문서 UPDATE 1 + 히스토리 INSERT 1
+        // (제목이 그대로이므로 제목 중복 확인 쿼리는 실행되지 않습니다)
+        MvcResult result = mockMvc.perform(post("/api/v1/document/{id}", documentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title
+                                + "\",\"content\":\"edit 21\\n\",\"contentFormat\":\"MARKDOWN\"}"))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(sqlCount(result)).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    public void batchGetIsSingleInQuery() throws Exception {
+        // 문서 수와 관계없이 IN 쿼리 1 (본문 포함/제외 모두). 없는 ID도 같은 쿼리에서 확인됩니다.
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Document document = new Document();
+            document.setTitle(title + " batch " + i);
+            document.setContent("batch " + i);
+            ids.add(documentService.createDocument(document).getId());
+        }
+        ids.add(-1L);
+        MvcResult full = mockMvc.perform(post("/api/v1/documents:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":" + ids + "}"))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(sqlCount(full)).isEqualTo(1);
+        MvcResult titles = mockMvc.perform(post("/api/v1/documents:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":" + ids + ",\"fields\":[\"title\"]}"))
+                .andExpect(status().isOk()).andReturn();
+        assertThat(sqlCount(titles)).isEqualTo(1);
+    }
+
+    @Test
+    public void measureCountsStatementsAndRowsOutsideRequests() {
+        SqlStatsSummary summary = SqlStats.measure(() -> documentService.getRevision(documentId, 15));
+        assertThat(summary.statements()).isEqualTo(2);
+        assertThat(summary.rows()).isEqualTo(16); // 키프레임 1행 + 델타 15행
+    }
+
+    private static int sqlCount(MvcResult result) {
+        String header = result.getResponse().getHeader("X-SQL-Count");
+        assertThat(header).as("X-SQL-Count header").isNotNull();
+        return Integer.parseInt(header);
+    }
+}
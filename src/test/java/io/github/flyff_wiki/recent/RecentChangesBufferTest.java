@@ -0,0 +1,133 @@
+package io.github.flyff_wiki.recent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.flyff_wiki.dto.RecentChange;
+
+public class RecentChangesBufferTest {
+
+    @Test
+    public void testConcurrentWritersNeverLoseOrReorderSequences() throws Exception {
+        // 테스트 목적: 여러 스레드가 락 없이 동시에 추가해도 용량 안의 변경이 빠짐없이, 번호 순서대로 읽히는지 검증합니다.
+        // 기대 동작 흐름: 8개 스레드가 각 500건 추가 (총 4,000 < 용량 4,096) -> since(0)으로 끝까지 읽기
+        RecentChangesBuffer buffer = new RecentChangesBuffer(4096);
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < 8; t++) {
+                futures.add(writers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 500; i++) {
+                        buffer.append(sequence -> entry(sequence));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        // When: 커서를 옮겨 가며 100건씩 읽습니다.
+        List<Long> read = new ArrayList<>();
+        long cursor = 0;
+        while (buffer.hasAfter(cursor)) {
+            RecentChangesBuffer.Slice slice = buffer.since(cursor, 100);
+            slice.entries().forEach(entry -> read.add(entry.sequence()));
+            cursor = slice.cursor();
+        }
+
+        // Then: 1 ~ 4,000이 순서대로 한 번씩 읽혀야 합니다.
+        assertThat(read).hasSize(4000);
+        for (int i = 0; i < read.size(); i++) {
+            assertThat(read.get(i)).isEqualTo(i + 1L);
+        }
+        assertThat(cursor).isEqualTo(4000);
+    }
+
+    @Test
+    public void testOverwrittenEntriesAreSkippedAndLatestIsNewestFirst() {
+        // 테스트 목적: 용량을 넘으면 오래된 변경은 빠지고, latest가 최신순으로 limit개만 돌려주는지 검증합니다.
+        // Given: 용량 16인 버퍼에 40건을 추가합니다.
+        RecentChangesBuffer buffer = new RecentChangesBuffer(16);
+        for (int i = 0; i < 40; i++) {
+            buffer.append(RecentChangesBufferTest::entry);
+        }
+
+        // When: 처음부터 읽기와 최신 5건 읽기를 수행합니다.
+        RecentChangesBuffer.Slice all = buffer.since(0, 100);
+        RecentChangesBuffer.Slice latest = buffer.latest(0, 5);
+        RecentChangesBuffer.Slice afterCursor = buffer.latest(38, 5);
+
+        // Then: 남은 것은 마지막 16건(25 ~ 40)이고, 최신 5건은 40 ~ 36 순서입니다.
+        assertThat(all.entries()).extracting(RecentChangesBuffer.Entry::sequence).first().isEqualTo(25L);
+        assertThat(all.entries()).hasSize(16);
+        assertThat(latest.entries()).extracting(RecentChangesBuffer.Entry::sequence)
+                .containsExactly(40L, 39L, 38L, 37L, 36L);
+        assertThat(latest.cursor()).isEqualTo(40);
+        assertThat(afterCursor.entries()).extracting(RecentChangesBuffer.Entry::sequence).containsExactly(40L, 39L);
+    }
+
+    @Test
+    public void testReaderStopsAtEntryStillBeingWritten() throws Exception {
+        // 테스트 목적: 먼저 번호를 받은 작성자가 아직 쓰는 중이면, 읽는 쪽이 그 번호를 건너뛰지 않고 앞에서 멈추는지 검증합니다.
+        RecentChangesBuffer buffer = new RecentChangesBuffer(16);
+        buffer.append(RecentChangesBufferTest::entry);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slowWriter = new Thread(() -> buffer.append(sequence -> {
+            claimed.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return entry(sequence);
+        }));
+        slowWriter.start();
+        claimed.await();
+        buffer.append(RecentChangesBufferTest::entry);
+
+        // When & Then: 2번이 쓰는 중이므로 1번까지만 읽히고, 게시 후에는 2, 3번이 이어서 읽힙니다.
+        RecentChangesBuffer.Slice before = buffer.since(0, 10);
+        assertThat(before.entries()).extracting(RecentChangesBuffer.Entry::sequence).containsExactly(1L);
+        assertThat(buffer.hasAfter(before.cursor())).isFalse();
+
+        release.countDown();
+        slowWriter.join();
+        RecentChangesBuffer.Slice after = buffer.since(before.cursor(), 10);
+        assertThat(after.entries()).extracting(RecentChangesBuffer.Entry::sequence).containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void testFailedFactoryDoesNotBlockReaders() {
+        // 테스트 목적: 항목 생성이 실패해도 그 번호에서 읽기가 멈추지 않는지 검증합니다.
+        RecentChangesBuffer buffer = new RecentChangesBuffer(16);
+        assertThatThrownBy(() -> buffer.append(sequence -> {
+            throw new IllegalStateException("serialization failed");
+        })).isInstanceOf(IllegalStateException.class);
+        buffer.append(RecentChangesBufferTest::entry);
+
+        assertThat(buffer.since(0, 10).entries()).extracting(RecentChangesBuffer.Entry::sequence).containsExactly(2L);
+    }
+
+    private static RecentChangesBuffer.Entry entry(long sequence) {
+        RecentChange change = new RecentChange(sequence, sequence, "Doc " + sequence, 1, 1L, false, 10, null);
+        return new RecentChangesBuffer.Entry(sequence, change, "{}");
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.flyff_wiki.recent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.dto.DocumentView;
+import io.github.flyff_wiki.dto.RecentChanges;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import tools.jackson.databind.json.JsonMapper;
+
+public class RecentChangesFanOutTest {
+
+    private static final int SUBSCRIBERS = 5_000;
+    private static final int CHANGES = 40;
+
+    private RecentChangesService recentChangesService;
+
+    @BeforeEach
+    void setUp() {
+        recentChangesService = new RecentChangesService(4096, SUBSCRIBERS + 1, 4, Duration.ofMinutes(10),
+                Duration.ofMinutes(30), Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(recentChangesService, "objectMapper", JsonMapper.builder().build());
+        recentChangesService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recentChangesService.shutdown();
+    }
+
+    @Test
+    public void testThousandsOfSubscribersReceiveEveryChangeInOrder() throws Exception {
+        // 테스트 목적: 한 노드에서 수천 명의 구독자가 모든 변경을 순서대로 받고, 느린 구독자 하나가 나머지를 막지 않는지 검증합니다.
+        // 기대 동작 흐름: 구독자 5,000명 + 멈춘 구독자 1명 등록 -> 4개 스레드가 동시에 변경 40건 발행
+        //   -> 구독자별 전송 작업이 버퍼에서 밀린 변경을 보냄 -> 각 구독자가 1 ~ 40을 순서대로 받음
+        // Given: 구독자와, 전송이 풀릴 때까지 막히는 구독자 하나를 등록합니다.
+        CountDownLatch allReceived = new CountDownLatch(SUBSCRIBERS);
+        List<RecordingEmitter> emitters = new ArrayList<>(SUBSCRIBERS);
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(CHANGES, allReceived);
+            emitters.add(emitter);
+            recentChangesService.subscribe(emitter, null);
+        }
+        CountDownLatch unblock = new CountDownLatch(1);
+        BlockedEmitter blocked = new BlockedEmitter(unblock);
+        recentChangesService.subscribe(blocked, null);
+        assertThat(recentChangesService.subscriberCount()).isEqualTo(SUBSCRIBERS + 1);
+
+        // When: 4개 스레드가 10건씩 동시에 변경 이벤트를 발행합니다.
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < 4; p++) {
+                int producer = p;
+                futures.add(producers.submit(() -> {
+                    for (int i = 0; i < CHANGES / 4; i++) {
+                        recentChangesService.onDocumentChanged(event(producer * 100L + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            // Then: 멈춘 구독자가 아직 막혀 있어도 나머지 전원이 40건을 번호 순서대로 받아야 합니다.
+            assertThat(allReceived.await(60, TimeUnit.SECONDS)).isTrue();
+            for (RecordingEmitter emitter : emitters) {
+                assertThat(emitter.ids).hasSize(CHANGES);
+                for (int i = 0; i < CHANGES; i++) {
+                    assertThat(emitter.ids.get(i)).isEqualTo(i + 1L);
+                }
+            }
+        } finally {
+            unblock.countDown();
+            producers.shutdownNow();
+        }
+
+        // Then: 목록 조회는 메모리 버퍼에서 최신순으로 반환합니다.
+        RecentChanges recent = recentChangesService.getRecentChanges(null, 5);
+        assertThat(recent.lastSequence()).isEqualTo(CHANGES);
+        assertThat(recent.changes()).extracting(change -> change.sequence()).containsExactly(40L, 39L, 38L, 37L, 36L);
+    }
+
+    @Test
+    public void testReconnectResumesAfterLastEventIdAndLimitIsEnforced() throws Exception {
+        // 테스트 목적: Last-Event-ID로 재연결하면 그 이후 변경부터 받고, 구독자 상한을 넘으면 거절되는지 검증합니다.
+        for (int i = 0; i < 5; i++) {
+            recentChangesService.onDocumentChanged(event(i));
+        }
+        CountDownLatch received = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter(2, received);
+
+        recentChangesService.subscribe(emitter, 3L);
+
+        assertThat(received.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.ids).containsExactly(4L, 5L);
+
+        RecentChangesService limited = new RecentChangesService(16, 1, 1, Duration.ofMinutes(10),
+                Duration.ofMinutes(30), Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(limited, "objectMapper", JsonMapper.builder().build());
+        limited.start();
+        try {
+            limited.subscribe(new RecordingEmitter(0, new CountDownLatch(0)), null);
+            assertThatThrownBy(() -> limited.subscribe(new RecordingEmitter(0, new CountDownLatch(0)), null))
+                    .isInstanceOf(RecentChangesBusyException.class);
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    @Test
+    public void testStalledSubscriberIsDroppedAndOthersKeepReceiving() throws Exception {
+        // 테스트 목적: 전송 스레드가 하나뿐이어도 응답을 읽지 않는 구독자가 send-timeout 뒤 끊기고, 나머지는 변경을 계속 받는지 검증합니다.
+        // Given: 전송 스레드 1개, send-timeout 200ms인 서비스에 멈춘 구독자 하나와 일반 구독자 10명
+        RecentChangesService single = new RecentChangesService(16, 100, 1, Duration.ofMinutes(10),
+                Duration.ofMinutes(30), Duration.ofMillis(200));
+        ReflectionTestUtils.setField(single, "objectMapper", JsonMapper.builder().build());
+        single.start();
+        CountDownLatch unblock = new CountDownLatch(1);
+        try {
+            single.subscribe(new BlockedEmitter(unblock), null);
+            CountDownLatch allReceived = new CountDownLatch(10);
+            List<RecordingEmitter> emitters = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                RecordingEmitter emitter = new RecordingEmitter(3, allReceived);
+                emitters.add(emitter);
+                single.subscribe(emitter, null);
+            }
+
+            // When: 변경 3건을 발행합니다.
+            for (int i = 0; i < 3; i++) {
+                single.onDocumentChanged(event(i));
+            }
+
+            // Then: 멈춘 구독자는 끊기고, 나머지는 모두 3건을 받습니다.
+            assertThat(allReceived.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(emitters).allSatisfy(emitter -> assertThat(emitter.ids).containsExactly(1L, 2L, 3L));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (single.subscriberCount() > 10 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(single.subscriberCount()).isEqualTo(10);
+        } finally {
+            unblock.countDown();
+            single.shutdown();
+        }
+    }
+
+    private static DocumentChangedEvent event(long documentId) {
+        DocumentView view = new DocumentView(documentId, "Recent " + documentId, "recent_" + documentId, "본문",
+                ContentFormat.MARKDOWN, null, 1, 1L, LocalDateTime.now(), LocalDateTime.now());
+        return new DocumentChangedEvent(view, false);
+    }
+
+    /**
+     * 보낸 이벤트 ID를 기록하는 구독자입니다. expected건을 받으면 latch를 내립니다.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<Long> ids = new ArrayList<>();
+        private final int expected;
+        private final CountDownLatch latch;
+
+        RecordingEmitter(int expected, CountDownLatch latch) {
+            this.expected = expected;
+            this.latch = latch;
+        }
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            for (DataWithMediaType data : builder.build()) {
+                String text = String.valueOf(data.getData());
+                if (text.startsWith("id:")) {
+                    ids.add(Long.parseLong(text.substring(3, text.indexOf('\n'))));
+                    if (ids.size() == expected) {
+                        latch.countDown();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 전송에서 unblock될 때까지 멈추는 구독자입니다 (응답을 읽지 않는 느린 클라이언트 흉내).
+     */
+    private static class BlockedEmitter extends SseEmitter {
+
+        private final CountDownLatch unblock;
+
+        BlockedEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
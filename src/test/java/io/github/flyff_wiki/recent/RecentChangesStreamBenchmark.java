@@ -0,0 +1,169 @@
+package io.github.flyff_wiki.recent;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 실제 HTTP 연결로 SSE 구독자 수천 명을 붙인 뒤, 문서 수정부터 마지막 구독자 수신까지의 전파 지연을 측정합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*RecentChangesStreamBenchmark'
+ * - 구독자 연결은 서버 요청 스레드를 잡지 않으므로(비동기 요청) Tomcat 연결 수 한도만 넉넉히 잡습니다.
+ * - 응답 헤더는 구독 등록 후에 커밋되므로, 헤더를 받은 구독자는 이후 변경을 모두 받아야 합니다.
+ * - 출력: 수정 1건당 전체 구독자 전달 완료까지의 p50/p99/최대 시간
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "server.tomcat.max-connections=12000",
+        "server.tomcat.accept-count=2000" })
+public class RecentChangesStreamBenchmark {
+
+    private static final int[] SUBSCRIBERS = { 1_000, 5_000 };
+    private static final int EDITS = 50;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private RecentChangesService recentChangesService;
+
+    @Test
+    public void measureFanOutLatency() throws Exception {
+        for (int subscribers : SUBSCRIBERS) {
+            measure(subscribers);
+        }
+    }
+
+    private void measure(int subscribers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        HttpClient http = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        List<CompletableFuture<HttpResponse<Void>>> streams = new ArrayList<>(subscribers);
+        try {
+            Document document = new Document();
+            document.setTitle("Fan-out Benchmark " + subscribers);
+            document.setContent("본문");
+            document.setContentFormat(ContentFormat.MARKDOWN);
+            Long id = documentService.createDocument(document).getId();
+            long firstSequence = recentChangesService.getRecentChanges(null, 1).lastSequence() + 1;
+
+            CountDownLatch connected = new CountDownLatch(subscribers);
+            AtomicLongArray received = new AtomicLongArray(EDITS);
+            long[] completedAt = new long[EDITS];
+            CountDownLatch allDelivered = new CountDownLatch(EDITS);
+            for (int s = 0; s < subscribers; s++) {
+                HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/recent-changes/stream"))
+                        .header("Accept", "text/event-stream")
+                        .build();
+                streams.add(http.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(
+                        new EventLines(connected, firstSequence, received, subscribers, completedAt, allDelivered))));
+            }
+            if (!connected.await(120, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Subscribers did not connect: " + connected.getCount() + " left");
+            }
+
+            long[] startedAt = new long[EDITS];
+            for (int i = 0; i < EDITS; i++) {
+                Document update = new Document();
+                update.setTitle(document.getTitle());
+                update.setContent("본문 " + i);
+                update.setContentFormat(ContentFormat.MARKDOWN);
+                startedAt[i] = System.nanoTime();
+                documentService.updateDocument(id, update);
+                Thread.sleep(20);
+            }
+            if (!allDelivered.await(120, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Not every change reached every subscriber");
+            }
+            long[] latencies = new long[EDITS];
+            for (int i = 0; i < EDITS; i++) {
+                latencies[i] = completedAt[i] - startedAt[i];
+            }
+            Arrays.sort(latencies);
+            System.out.printf("subscribers=%5d edits=%d fan-out p50=%7.2fms p99=%7.2fms max=%7.2fms%n",
+                    subscribers, EDITS, latencies[EDITS / 2] / 1e6, latencies[(int) (EDITS * 0.99)] / 1e6,
+                    latencies[EDITS - 1] / 1e6);
+        } finally {
+            streams.forEach(stream -> stream.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * SSE 응답을 줄 단위로 읽어 id: 줄을 셉니다. 한 변경을 모든 구독자가 받은 시각을 completedAt에 남깁니다.
+     */
+    private static final class EventLines implements Flow.Subscriber<String> {
+
+        private final CountDownLatch connected;
+        private final long firstSequence;
+        private final AtomicLongArray received;
+        private final int subscribers;
+        private final long[] completedAt;
+        private final CountDownLatch allDelivered;
+
+        EventLines(CountDownLatch connected, long firstSequence, AtomicLongArray received, int subscribers,
+                long[] completedAt, CountDownLatch allDelivered) {
+            this.connected = connected;
+            this.firstSequence = firstSequence;
+            this.received = received;
+            this.subscribers = subscribers;
+            this.completedAt = completedAt;
+            this.allDelivered = allDelivered;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            connected.countDown();
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith("id:")) {
+                return;
+            }
+            int edit = (int) (Long.parseLong(line.substring(3).trim()) - firstSequence);
+            if (edit >= 0 && edit < received.length() && received.incrementAndGet(edit) == subscribers) {
+                completedAt[edit] = System.nanoTime();
+                allDelivered.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.flyff_wiki.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    public void testRendersMarkdownAndTables() {
+        // 테스트 목적: 일반 마크다운과 GFM 표가 HTML로 변환되는지 검증합니다.
+        String html = renderer.render("# 아이템\n\n| 이름 | 공격력 |\n|---|---|\n| 검 | 10 |\n");
+
+        assertThat(html).contains("<h1>아이템</h1>");
+        assertThat(html).contains("<table>").contains("<td>검</td>");
+    }
+
+    @Test
+    public void testEscapesRawHtmlAndDropsScriptLinks() {
+        // 테스트 목적: 본문에 섞인 스크립트/위험한 링크가 그대로 출력되지 않는지 검증합니다.
+        // Given: 원시 <script> 태그와 javascript: 링크를 포함한 본문을 준비합니다.
+        String markdown = "<script>alert(1)</script>\n\n[click](javascript:alert(1))";
+
+        // When: 렌더링합니다.
+        String html = renderer.render(markdown);
+
+        // Then: script 태그는 이스케이프되고 javascript: 링크는 제거되어야 합니다.
+        assertThat(html).doesNotContain("<script>");
+        assertThat(html).contains("&lt;script&gt;");
+        assertThat(html).doesNotContain("javascript:");
+    }
+}
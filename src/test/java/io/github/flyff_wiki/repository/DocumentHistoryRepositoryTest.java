@@ -0,0 +1,62 @@
+package io.github.flyff_wiki.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.dto.HistoryEntry;
+
+@DataJpaTest
+public class DocumentHistoryRepositoryTest {
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentHistoryRepository documentHistoryRepository;
+
+    @Test
+    public void testKeysetPaginationWalksHistoryNewestFirst() {
+        // 테스트 목적: 키셋 쿼리가 (editedAt, id) 내림차순으로 중복/누락 없이 페이지를 넘기는지 검증합니다.
+        // 기대 동작 흐름: 히스토리 5건 저장 -> 첫 페이지 2건 -> 마지막 항목 기준 다음 페이지 반복
+        // Given: 같은 시각을 가진 항목이 섞인 히스토리 5건을 가진 문서를 저장합니다.
+        // - 같은 editedAt 값에서도 id로 순서가 정해지는지 확인하기 위해 시각을 일부러 겹칩니다.
+        Document document = new Document();
+        document.setTitle("History Title");
+        document.setContent("Current");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int revision = 0; revision < 5; revision++) {
+            DocumentHistory history = new DocumentHistory();
+            history.setRevision(revision);
+            history.setKeyframe(true);
+            history.setContent("Content " + revision);
+            history.setEditedAt(base.plusMinutes(revision / 2));
+            document.addHistory(history);
+        }
+        Long documentId = documentRepository.save(document).getId();
+
+        // When: 페이지 크기 2로 끝까지 조회합니다.
+        List<HistoryEntry> first = documentHistoryRepository.findEntries(documentId, PageRequest.of(0, 2));
+        HistoryEntry last = first.get(1);
+        List<HistoryEntry> second = documentHistoryRepository.findEntriesAfter(
+                documentId, last.editedAt(), last.id(), PageRequest.of(0, 2));
+        last = second.get(1);
+        List<HistoryEntry> third = documentHistoryRepository.findEntriesAfter(
+                documentId, last.editedAt(), last.id(), PageRequest.of(0, 2));
+
+        // Then: 리비전이 4, 3, 2, 1, 0 순서로 한 번씩만 나와야 합니다.
+        assertThat(first).extracting(HistoryEntry::revision).containsExactly(4, 3);
+        assertThat(second).extracting(HistoryEntry::revision).containsExactly(2, 1);
+        assertThat(third).extracting(HistoryEntry::revision).containsExactly(0);
+    }
+}
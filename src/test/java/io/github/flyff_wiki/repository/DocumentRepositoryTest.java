@@ -2,11 +2,14 @@ package io.github.flyff_wiki.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import io.github.flyff_wiki.domain.ContentFormat;
 import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.DocumentValidator;
 
 @DataJpaTest
 public class DocumentRepositoryTest {
@@ -37,4 +40,19 @@ public class DocumentRepositoryTest {
         assertThat(saved.getTitle()).isEqualTo("Test Title");
         assertThat(documentRepository.findById(saved.getId())).isPresent();
     }
+
+    @Test
+    public void testFindValidatorReturnsVersionAndUpdatedAt() {
+        // 테스트 목적: 조건부 GET용 프로젝션이 본문 없이 버전/수정 시각을 돌려주는지 검증합니다.
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Document document = new Document();
+        document.setTitle("Validator Title");
+        document.setContent("Validator Content");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        document.setUpdatedAt(updatedAt);
+        Long id = documentRepository.saveAndFlush(document).getId();
+
+        assertThat(documentRepository.findValidator(id)).contains(new DocumentValidator(0L, updatedAt));
+        assertThat(documentRepository.findValidator(id + 1_000)).isEmpty();
+    }
 }
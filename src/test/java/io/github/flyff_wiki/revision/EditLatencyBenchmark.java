@@ -0,0 +1,101 @@
+package io.github.flyff_wiki.revision;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.service.DocumentService;
+
+/**
+ * 히스토리 동기 저장과 쓰기 지연 저장의 문서 수정 지연 시간(p50/p99)을 비교합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*EditLatencyBenchmark'
+ * - 부하: THREADS개 스레드가 각자 자기 문서를 EDITS번 수정합니다 (충돌 없음, 순수 쓰기 경로 측정).
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "flyff.history.write-behind.journal-dir=${java.io.tmpdir}/flyff-wiki-benchmark/history-journal"
+})
+public class EditLatencyBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int EDITS = 500;
+    private static final int CONTENT_LINES = 200;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private HistoryWriteBehind historyWriteBehind;
+
+    @Test
+    public void compareSynchronousAndWriteBehindHistory() throws Exception {
+        measure(false);
+        measure(true);
+        measure(false);
+        measure(true);
+    }
+
+    private void measure(boolean writeBehind) throws Exception {
+        historyWriteBehind.setEnabled(writeBehind);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> edit(createDocument())));
+            }
+            long[] latencies = new long[THREADS * EDITS];
+            int at = 0;
+            for (Future<long[]> future : futures) {
+                long[] part = future.get();
+                System.arraycopy(part, 0, latencies, at, part.length);
+                at += part.length;
+            }
+            Arrays.sort(latencies);
+            HistoryWriteBehindStats stats = historyWriteBehind.stats();
+            System.out.printf("writeBehind=%s edits=%d p50=%.2fms p99=%.2fms max=%.2fms batches=%d%n",
+                    writeBehind, latencies.length,
+                    latencies[latencies.length / 2] / 1e6,
+                    latencies[(int) (latencies.length * 0.99)] / 1e6,
+                    latencies[latencies.length - 1] / 1e6,
+                    stats.batches());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long[] edit(Long id) {
+        String body = "line of benchmark content\n".repeat(CONTENT_LINES);
+        long[] latencies = new long[EDITS];
+        for (int i = 0; i < EDITS; i++) {
+            Document update = new Document();
+            update.setTitle("Edit Latency " + id);
+            update.setContent(body + "edit " + i + "\n");
+            update.setContentFormat(ContentFormat.MARKDOWN);
+            long start = System.nanoTime();
+            documentService.updateDocument(id, update);
+            latencies[i] = System.nanoTime() - start;
+        }
+        historyWriteBehind.awaitPersisted(id, Duration.ofSeconds(30));
+        return latencies;
+    }
+
+    private Long createDocument() {
+        Document document = new Document();
+        document.setTitle("Edit Latency " + System.nanoTime());
+        document.setContent("start\n");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        return documentService.createDocument(document).getId();
+    }
+}
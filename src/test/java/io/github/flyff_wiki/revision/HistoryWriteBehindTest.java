@@ -0,0 +1,243 @@
+package io.github.flyff_wiki.revision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.metrics.WikiMetrics;
+import io.github.flyff_wiki.service.DocumentService;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "flyff.history.write-behind.enabled=true",
+        "flyff.history.write-behind.journal-dir=${java.io.tmpdir}/flyff-wiki-test/history-journal",
+        "flyff.history.write-behind.max-attempts=2",
+        "flyff.history.write-behind.retry-interval=200ms"
+})
+public class HistoryWriteBehindTest {
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private HistoryWriteBehind historyWriteBehind;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WikiMetrics wikiMetrics;
+
+    @TempDir
+    Path journalDirectory;
+
+    private final String title = "Write Behind " + System.nanoTime();
+
+    @Test
+    public void editsAreStoredAfterCommitAndReadableMeanwhile() {
+        // 테스트 목적: 쓰기 지연 상태에서도 리비전이 빠짐없이 DB에 저장되고, 저장 전후 복원 결과가 같은지 검증합니다.
+        // Given: 10번 수정한 문서
+        Long id = createDocument("rev 0");
+        for (int i = 1; i <= 10; i++) {
+            Document update = new Document();
+            update.setTitle(title);
+            update.setContent("rev " + i);
+            update.setContentFormat(ContentFormat.MARKDOWN);
+            documentService.updateDocument(id, update);
+        }
+
+        // When: 대기 중인 리비전이 저장될 때까지 기다립니다. 그 전에 읽은 본문은 대기 항목에서 복원됩니다.
+        String beforeFlush = documentService.getRevision(id, 9).content();
+        assertThat(historyWriteBehind.awaitPersisted(id, Duration.ofSeconds(10))).isTrue();
+
+        // Then: 리비전 0~9가 모두 한 번씩 저장되어 있고 복원 결과도 같습니다.
+        assertThat(beforeFlush).isEqualTo("rev 9");
+        assertThat(jdbcTemplate.queryForList(
+                "select revision from document_history where document_id = ? order by revision", Integer.class, id))
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        for (int revision = 0; revision < 10; revision++) {
+            assertThat(documentService.getRevision(id, revision).content()).isEqualTo("rev " + revision);
+        }
+        assertThat(documentService.getHistory(id, null, 100).entries()).hasSize(10);
+    }
+
+    @Test
+    public void recoveryInsertsOnlyCommittedRevisionsMissingFromTheDatabase() throws Exception {
+        // 테스트 목적: 이전 실행이 남긴 저널에서 커밋된 리비전만 DB에 복구하는지 검증합니다.
+        // Given: 리비전 0이 저장된 문서와, 비정상 종료 직전 상태를 흉내 낸 저널
+        // - 리비전 1: 롤백된 시도(first)와 커밋된 시도(second)가 순서대로 기록됨 -> 마지막 기록만 복구
+        // - 리비전 0: 이미 DB에 있음 -> 건너뜀
+        // - 리비전 2: 문서 revision_count(2)보다 크거나 같음 = 커밋되지 않은 수정 -> 버림
+        Long id = createDocument("base");
+        Document update = new Document();
+        update.setTitle(title);
+        update.setContent("first edit");
+        update.setContentFormat(ContentFormat.MARKDOWN);
+        documentService.updateDocument(id, update);
+        assertThat(historyWriteBehind.awaitPersisted(id, Duration.ofSeconds(10))).isTrue();
+        jdbcTemplate.update("update documents set revision_count = 2 where id = ?", id);
+
+        LocalDateTime now = LocalDateTime.now();
+        try (HistoryJournal journal = HistoryJournal.open(journalDirectory, 1024)) {
+            journal.append(new PendingHistory(id, 0, true, "base", null, now, "Document updated", null));
+            journal.append(new PendingHistory(id, 1, true, "rolled back", null, now, "Document updated", null));
+            journal.append(new PendingHistory(id, 1, true, "first edit", null, now, "Document updated", null));
+            journal.append(new PendingHistory(id, 2, true, "uncommitted", null, now, "Document updated", null));
+        }
+
+        // When: 같은 저널 디렉터리로 새 인스턴스를 시작합니다.
+        HistoryWriteBehind restarted = newInstance(100);
+        restarted.start();
+        restarted.shutdown();
+
+        // Then: 리비전 1은 마지막 기록으로 한 건만, 리비전 2는 복구되지 않고, 이전 세그먼트는 지워집니다.
+        List<String> contents = jdbcTemplate.queryForList(
+                "select content from document_history where document_id = ? order by revision", String.class, id);
+        assertThat(contents).containsExactly("base", "first edit");
+        assertThat(restarted.stats().recovered()).isEqualTo(1);
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".journal"))).isEmpty();
+        }
+    }
+
+    @Test
+    public void quarantinedRevisionStaysReadableAndEditableUntilStored() throws Exception {
+        // 테스트 목적: 재시도 한도를 넘겨 격리된 리비전이 있어도 델타 사슬이 끊기지 않아 문서를 읽고 수정할 수 있고,
+        //            원인이 사라지면 격리된 리비전이 다시 저장되는지 검증합니다.
+        // Given: 델타로 저장되는 긴 본문의 문서와, 이 문서의 리비전 2만 거부하는 제약
+        Long id = createDocument(body(0));
+        String constraint = "rejected_revision_" + id;
+        jdbcTemplate.execute("alter table document_history add constraint " + constraint
+                + " check (document_id <> " + id + " or revision <> 2)");
+        try {
+            // When: 5번 수정해 리비전 0~4를 만들고, 리비전 2가 격리될 때까지 기다립니다.
+            for (int i = 1; i <= 5; i++) {
+                update(id, body(i));
+            }
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (historyWriteBehind.stats().quarantined() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(historyWriteBehind.stats().quarantined()).isPositive();
+
+            // Then: 격리된 리비전 위의 리비전도 복원되고, 다음 수정(리비전 5, 리비전 4 대비 델타)도 성공합니다.
+            update(id, body(6));
+            for (int revision = 0; revision <= 5; revision++) {
+                assertThat(documentService.getRevision(id, revision).content()).isEqualTo(body(revision));
+            }
+            assertThat(historyWriteBehind.pending(id, 2)).isNotNull();
+            assertThat(historyWriteBehind.awaitPersisted(id, Duration.ofMillis(100))).isFalse();
+        } finally {
+            jdbcTemplate.execute("alter table document_history drop constraint if exists " + constraint);
+        }
+
+        // Then: 제약을 없애면 격리된 리비전이 재시도로 저장되어 모든 리비전이 DB에 있습니다.
+        assertThat(historyWriteBehind.awaitPersisted(id, Duration.ofSeconds(10))).isTrue();
+        assertThat(jdbcTemplate.queryForList(
+                "select revision from document_history where document_id = ? order by revision", Integer.class, id))
+                .containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(documentService.getRevision(id, 2).content()).isEqualTo(body(2));
+    }
+
+    @Test
+    public void quarantinedRevisionsReleasePermitsButStayInTheJournal() throws Exception {
+        // 테스트 목적: 격리된 리비전이 배압 허가는 돌려주지만, 저장될 때까지 대기 목록과 저널에는 남는지 검증합니다.
+        // Given: 허가가 1개뿐인 인스턴스와, 없는 문서의 리비전 (외래 키 위반으로 INSERT가 항상 실패)
+        HistoryWriteBehind writeBehind = newInstance(1);
+        writeBehind.start();
+        long missingId = Long.MAX_VALUE;
+        try {
+            for (int revision = 0; revision < 2; revision++) {
+                DocumentHistory history = new DocumentHistory();
+                history.setRevision(revision);
+                history.setKeyframe(true);
+                history.setContent("orphan " + revision);
+                history.setEditedAt(LocalDateTime.now());
+                history.setChangeDescription("Document updated");
+
+                // When: 커밋된 수정으로 제출하고 격리될 때까지 기다립니다.
+                transactionTemplate.executeWithoutResult(status -> writeBehind.submit(missingId, history));
+                long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+                while (writeBehind.stats().quarantined() <= revision && System.nanoTime() < deadline) {
+                    Thread.sleep(20);
+                }
+            }
+
+            // Then: 두 번째 제출이 배압에 막히지 않았고(허가 반환), 두 건 모두 격리된 채 대기 목록에 남아 있습니다.
+            assertThat(writeBehind.stats().quarantined()).isEqualTo(2);
+            assertThat(writeBehind.stats().pending()).isEqualTo(2);
+            assertThat(writeBehind.pending(missingId, 1).content()).isEqualTo("orphan 1");
+            assertThat(writeBehind.awaitPersisted(missingId, Duration.ofMillis(100))).isFalse();
+        } finally {
+            writeBehind.shutdown();
+        }
+        try (HistoryJournal journal = HistoryJournal.open(journalDirectory, 1024)) {
+            assertThat(journal.readRecovered()).extracting(PendingHistory::content)
+                    .containsExactly("orphan 0", "orphan 1");
+        }
+    }
+
+    @Test
+    public void enablingWithoutJournalDirectoryFails() throws Exception {
+        // 테스트 목적: 저널 경로 없이 쓰기 지연을 켜면 시작/전환이 실패하고, 꺼진 상태로는 시작되는지 검증합니다.
+        HistoryWriteBehind enabled = new HistoryWriteBehind(true, "", 1024, 10, 1, Duration.ofSeconds(1), 2,
+                Duration.ofMillis(200));
+        assertThatThrownBy(enabled::start).isInstanceOf(IllegalStateException.class);
+
+        HistoryWriteBehind disabled = new HistoryWriteBehind(false, " ", 1024, 10, 1, Duration.ofSeconds(1), 2,
+                Duration.ofMillis(200));
+        disabled.start();
+        assertThatThrownBy(() -> disabled.setEnabled(true)).isInstanceOf(IllegalStateException.class);
+        assertThat(disabled.isEnabled()).isFalse();
+        disabled.shutdown();
+    }
+
+    private HistoryWriteBehind newInstance(int capacity) {
+        HistoryWriteBehind instance = new HistoryWriteBehind(false, journalDirectory.toString(), 1024, 10, capacity,
+                Duration.ofSeconds(1), 2, Duration.ofMillis(200));
+        ReflectionTestUtils.setField(instance, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(instance, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(instance, "wikiMetrics", wikiMetrics);
+        return instance;
+    }
+
+    private void update(Long id, String content) {
+        Document update = new Document();
+        update.setTitle(title);
+        update.setContent(content);
+        update.setContentFormat(ContentFormat.MARKDOWN);
+        documentService.updateDocument(id, update);
+    }
+
+    private static String body(int revision) {
+        return "긴 본문 줄입니다.\n".repeat(50) + "rev " + revision;
+    }
+
+    private Long createDocument(String content) {
+        Document document = new Document();
+        document.setTitle(title);
+        document.setContent(content);
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        return documentService.createDocument(document).getId();
+    }
+}
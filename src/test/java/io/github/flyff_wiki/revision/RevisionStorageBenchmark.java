@@ -0,0 +1,105 @@
+package io.github.flyff_wiki.revision;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 전체 스냅샷 저장 방식과 키프레임 + 델타 저장 방식의 저장 바이트/복원 지연을 비교합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*RevisionStorageBenchmark'
+ * - 측정 방식: 약 40KB 문서에 500번의 산발적 편집을 가한 뒤,
+ *   두 방식의 누적 저장 바이트와 임의 리비전 복원 평균 시간을 출력합니다.
+ */
+@Tag("benchmark")
+public class RevisionStorageBenchmark {
+
+    private static final int EDITS = 500;
+    private static final int KEYFRAME_INTERVAL = 16;
+    private static final int LOOKUPS = 2_000;
+
+    @Test
+    public void compareFullSnapshotAndDeltaLayouts() {
+        List<String> revisions = generateRevisions();
+
+        // 전체 스냅샷 방식: 리비전마다 본문 전체를 저장합니다.
+        long snapshotBytes = 0;
+        for (String revision : revisions) {
+            snapshotBytes += revision.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        // 키프레임 + 델타 방식: RevisionStore.compact와 같은 규칙으로 저장합니다.
+        List<String> keyframes = new ArrayList<>();
+        List<byte[]> deltas = new ArrayList<>();
+        long deltaBytes = 0;
+        for (int i = 0; i < revisions.size(); i++) {
+            if (i % KEYFRAME_INTERVAL == 0) {
+                keyframes.add(revisions.get(i));
+                deltas.add(null);
+                deltaBytes += revisions.get(i).getBytes(StandardCharsets.UTF_8).length;
+            } else {
+                keyframes.add(null);
+                byte[] delta = TextDelta.encode(revisions.get(i - 1), revisions.get(i));
+                deltas.add(delta);
+                deltaBytes += delta.length;
+            }
+        }
+
+        Random random = new Random(7);
+        int[] targets = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            targets[i] = random.nextInt(revisions.size());
+        }
+
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int target : targets) {
+            checksum += revisions.get(target).length();
+        }
+        long snapshotNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int target : targets) {
+            int keyframe = target - target % KEYFRAME_INTERVAL;
+            String content = keyframes.get(keyframe);
+            for (int i = keyframe + 1; i <= target; i++) {
+                content = TextDelta.apply(content, deltas.get(i));
+            }
+            checksum -= content.length();
+        }
+        long deltaNanos = System.nanoTime() - start;
+
+        if (checksum != 0) {
+            throw new IllegalStateException("Reconstructed revisions do not match snapshots");
+        }
+        System.out.printf("revisions=%d keyframeInterval=%d%n", revisions.size(), KEYFRAME_INTERVAL);
+        System.out.printf("full-snapshot bytes=%,d  keyframe+delta bytes=%,d  ratio=%.2f%%%n",
+                snapshotBytes, deltaBytes, deltaBytes * 100.0 / snapshotBytes);
+        System.out.printf("reconstruct avg: full-snapshot=%.2fus  keyframe+delta=%.2fus%n",
+                snapshotNanos / 1_000.0 / LOOKUPS, deltaNanos / 1_000.0 / LOOKUPS);
+    }
+
+    private List<String> generateRevisions() {
+        Random random = new Random(42);
+        StringBuilder page = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            page.append("| 아이템 ").append(i).append(" | 공격력 ").append(random.nextInt(500))
+                    .append(" | Lv.").append(random.nextInt(120)).append(" |\n");
+        }
+        List<String> revisions = new ArrayList<>();
+        revisions.add(page.toString());
+        for (int edit = 0; edit < EDITS; edit++) {
+            int at = random.nextInt(page.length());
+            if (random.nextBoolean()) {
+                page.insert(at, "편집 " + edit + " added line\n");
+            } else {
+                page.delete(at, Math.min(page.length(), at + random.nextInt(40)));
+            }
+            revisions.add(page.toString());
+        }
+        return revisions;
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.flyff_wiki.revision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.repository.DocumentHistoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class RevisionStoreTest {
+
+    @Mock
+    private DocumentHistoryRepository documentHistoryRepository;
+
+    @Mock
+    private HistoryWriteBehind historyWriteBehind;
+
+    @InjectMocks
+    private RevisionStore revisionStore;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(revisionStore, "keyframeInterval", 16);
+    }
+
+    @Test
+    public void testNullSnapshotIsStoredAsEmptyKeyframeAndNextRevisionEncodes() {
+        // 테스트 목적: content가 null인 스냅샷이 빈 본문 키프레임으로 저장되고, 다음 리비전이 NPE 없이 델타 기준으로 쓰는지 검증합니다.
+        // Given: 리비전이 없는 문서와 content가 null인 첫 히스토리
+        Document document = new Document();
+        document.setId(7L);
+        DocumentHistory first = new DocumentHistory();
+
+        // When: 첫 리비전을 압축합니다.
+        revisionStore.compact(document, first);
+
+        // Then: 빈 문자열 키프레임으로 저장됩니다.
+        assertThat(first.isKeyframe()).isTrue();
+        assertThat(first.getContent()).isEmpty();
+
+        // Given: 첫 리비전이 DB에 저장되어 있습니다.
+        when(documentHistoryRepository
+                .findFirstByDocumentIdAndKeyframeTrueAndRevisionLessThanEqualOrderByRevisionDesc(7L, 0))
+                .thenReturn(Optional.of(first));
+        DocumentHistory second = new DocumentHistory();
+        second.setContent("첫 본문");
+
+        // When: 두 번째 리비전을 압축합니다.
+        revisionStore.compact(document, second);
+
+        // Then: 빈 본문 대비로 인코딩되어 예외 없이 리비전 1이 됩니다.
+        assertThat(second.getRevision()).isEqualTo(1);
+        assertThat(document.getRevisionCount()).isEqualTo(2);
+        assertThat(revisionStore.reconstruct(7L, 0)).isEmpty();
+    }
+
+    @Test
+    public void testLegacyKeyframeWithoutContentReconstructsAsEmpty() {
+        // 테스트 목적: 이전 버전이 본문 없이 저장한 키프레임을 빈 문자열로 복원하고 그 위에 델타를 적용할 수 있는지 검증합니다.
+        // Given: content가 null인 키프레임 리비전 0
+        Document document = new Document();
+        document.setId(8L);
+        document.setRevisionCount(1);
+        DocumentHistory legacy = new DocumentHistory();
+        legacy.setRevision(0);
+        legacy.setKeyframe(true);
+        when(documentHistoryRepository
+                .findFirstByDocumentIdAndKeyframeTrueAndRevisionLessThanEqualOrderByRevisionDesc(8L, 0))
+                .thenReturn(Optional.of(legacy));
+        DocumentHistory next = new DocumentHistory();
+        next.setContent("아이템 설명");
+
+        // When: 다음 리비전을 압축합니다.
+        revisionStore.compact(document, next);
+
+        // Then: 예외 없이 리비전 1로 저장되고, 리비전 0은 빈 본문으로 복원됩니다.
+        assertThat(next.getRevision()).isEqualTo(1);
+        assertThat(revisionStore.reconstruct(8L, 0)).isEmpty();
+    }
+}
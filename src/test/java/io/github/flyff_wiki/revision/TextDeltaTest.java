@@ -0,0 +1,54 @@
+package io.github.flyff_wiki.revision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class TextDeltaTest {
+
+    @Test
+    public void testDeltaRoundTripIsSmallForScatteredEdits() {
+        // 테스트 목적: 일부 줄만 바뀐 큰 본문에서 델타가 원문보다 훨씬 작고 정확히 복원되는지 검증합니다.
+        // 기대 동작 흐름: base 생성 -> 몇 줄 수정한 target 생성 -> encode -> apply 결과 비교
+        // Given: 한글/영문이 섞인 2,000줄 본문과 세 군데를 수정한 본문을 준비합니다.
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.append("Line ").append(i).append(" 아이템 설명 텍스트입니다.\n");
+        }
+        String base = builder.toString();
+        String target = base.replace("Line 10 ", "Line ten ")
+                .replace("Line 1000 ", "")
+                .replace("Line 1999 아이템", "Line 1999 몬스터");
+
+        // When: 델타를 인코딩하고 다시 적용합니다.
+        byte[] delta = TextDelta.encode(base, target);
+        String restored = TextDelta.apply(base, delta);
+
+        // Then: 복원 결과가 target과 같고, 델타 크기는 원문 바이트의 5% 미만이어야 합니다.
+        assertThat(restored).isEqualTo(target);
+        assertThat(delta.length).isLessThan(target.getBytes(StandardCharsets.UTF_8).length / 20);
+    }
+
+    @Test
+    public void testDeltaPreservesSurrogatePairsAcrossCopyBoundaries() {
+        // 테스트 목적: 이모지(서로게이트 쌍)가 COPY/INSERT 경계에 걸려도 손실 없이 복원되는지 검증합니다.
+        // Given: 이모지가 반복되는 본문과 이모지 사이에 글자를 끼워 넣은 본문을 준비합니다.
+        String base = "😀😀😀😀😀😀😀😀😀😀😀😀😀😀😀😀😀😀😀😀".repeat(4);
+        String target = base.substring(0, 40) + "X" + base.substring(40);
+
+        // When & Then: 인코딩 후 적용한 결과가 target과 같아야 합니다.
+        assertThat(TextDelta.apply(base, TextDelta.encode(base, target))).isEqualTo(target);
+    }
+
+    @Test
+    public void testApplyRejectsWrongBase() {
+        // 테스트 목적: 다른 기준 본문에 델타를 적용하면 조용히 깨진 결과 대신 예외가 나는지 검증합니다.
+        byte[] delta = TextDelta.encode("original base content that is long enough", "original content");
+
+        assertThatThrownBy(() -> TextDelta.apply("short", delta))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.flyff_wiki.search;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 10만 건 합성 코퍼스에서 색인 구성/갱신 처리량과 질의 지연을 측정합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*SearchIndexBenchmark'
+ * - 코퍼스: 한글/영문 혼합 어휘 20,000개로 만든 약 60단어 길이의 문서 100,000건
+ */
+@Tag("benchmark")
+public class SearchIndexBenchmark {
+
+    private static final int DOCUMENTS = 100_000;
+    private static final int UPDATES = 20_000;
+    private static final int QUERIES = 5_000;
+    private static final int HANGUL_SYLLABLES = 2_000;
+
+    @Test
+    public void measureBuildUpdateAndQuery() {
+        Random random = new Random(3);
+        String[] vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = i % 2 == 0 ? hangulWord(random) + "을" : "word" + i;
+        }
+
+        SearchIndex index = new SearchIndex();
+        long start = System.nanoTime();
+        for (int id = 1; id <= DOCUMENTS; id++) {
+            index.index(id, page(random, vocabulary, 4), page(random, vocabulary, 60));
+        }
+        long buildNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < UPDATES; i++) {
+            index.index(1 + random.nextInt(DOCUMENTS), page(random, vocabulary, 4), page(random, vocabulary, 60));
+        }
+        long updateNanos = System.nanoTime() - start;
+
+        long[] latencies = new long[QUERIES];
+        long matches = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            String query = vocabulary[random.nextInt(vocabulary.length)] + " "
+                    + vocabulary[random.nextInt(vocabulary.length)];
+            long queryStart = System.nanoTime();
+            matches += index.search(query, 20).totalMatches();
+            latencies[i] = System.nanoTime() - queryStart;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("documents=%,d terms=%,d%n", index.size(), index.termCount());
+        System.out.printf("build: %,.0f docs/s  update: %,.0f docs/s%n",
+                DOCUMENTS / (buildNanos / 1e9), UPDATES / (updateNanos / 1e9));
+        System.out.printf("query (2 terms, top 20): p50=%.1fus p99=%.1fus avgMatches=%.1f%n",
+                latencies[QUERIES / 2] / 1_000.0, latencies[(int) (QUERIES * 0.99)] / 1_000.0,
+                (double) matches / QUERIES);
+    }
+
+    private static String hangulWord(Random random) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            builder.append((char) (0xAC00 + random.nextInt(HANGUL_SYLLABLES)));
+        }
+        return builder.toString();
+    }
+
+    private static String page(Random random, String[] vocabulary, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.flyff_wiki.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchIndexTest {
+
+    @Test
+    public void testKoreanQueryMatchesWordsWithParticles() {
+        // 테스트 목적: 조사가 붙은 한글 본문도 bigram 토큰으로 검색되는지 검증합니다.
+        // Given: "아이템을" 처럼 조사가 붙은 본문을 가진 문서와 관계없는 문서를 색인합니다.
+        SearchIndex index = new SearchIndex();
+        index.index(1L, "초보자 가이드", "처음에는 상점에서 아이템을 구매하세요.");
+        index.index(2L, "몬스터 도감", "Aibatt is a weak monster.");
+
+        // When: 조사 없는 검색어로 검색합니다.
+        SearchHits hits = index.search("아이템 구매", 10);
+
+        // Then: 첫 문서만 일치해야 합니다.
+        assertThat(hits.totalMatches()).isEqualTo(1);
+        assertThat(hits.hits()).extracting(SearchHit::documentId).containsExactly(1L);
+    }
+
+    @Test
+    public void testTitleMatchesRankAboveContentMatches() {
+        // 테스트 목적: 제목에 검색어가 있는 문서가 본문에만 있는 문서보다 높게 랭크되는지 검증합니다.
+        SearchIndex index = new SearchIndex();
+        index.index(1L, "Quest list", "Talk to the Aibatt hunter in Flarine.");
+        index.index(2L, "Aibatt", "A small flying monster found near Flarine.");
+
+        SearchHits hits = index.search("aibatt", 10);
+
+        assertThat(hits.hits()).extracting(SearchHit::documentId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void testReindexReplacesOldTermsAndSurvivesCompaction() {
+        // 테스트 목적: 재색인 시 이전 본문의 토큰으로는 더 이상 검색되지 않고, 정리(compaction) 후에도 결과가 유지되는지 검증합니다.
+        // Given: 2,000개 문서를 색인한 뒤 모두 한 번씩 다시 색인하여 정리가 일어나게 합니다.
+        SearchIndex index = new SearchIndex();
+        for (long id = 1; id <= 2_000; id++) {
+            index.index(id, "Page " + id, "old keyword");
+        }
+        for (long id = 1; id <= 2_000; id++) {
+            index.index(id, "Page " + id, id == 42 ? "new keyword special" : "new keyword");
+        }
+
+        // When & Then: 이전 토큰은 일치하지 않고, 새 토큰은 모든 문서와 일치해야 합니다.
+        assertThat(index.search("old", 10).totalMatches()).isZero();
+        assertThat(index.search("new keyword", 10).totalMatches()).isEqualTo(2_000);
+        assertThat(index.search("special", 10).hits()).extracting(SearchHit::documentId).containsExactly(42L);
+        assertThat(index.size()).isEqualTo(2_000);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.flyff_wiki.search;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.github.flyff_wiki.support.Slugs;
+
+/**
+ * 제목 10만/100만 건으로 채운 TitleTrie의 메모리 사용량, 구성/갱신 처리량, 자동 완성 지연을 측정합니다.
+ * - 실행 방법: ./gradlew benchmark --tests '*TitleTrieBenchmark'
+ * - 제목: 한글/영문 혼합 어휘 2~4단어 + 일련번호 (앞부분이 많이 겹치는 위키 제목 분포를 흉내 냄)
+ * - 메모리: 트라이 구성 전후 GC 직후 사용 힙 차이입니다. 제목 문자열은 미리 만들어 두므로 빠지고 노드/label만 셉니다.
+ * - 질의: 실제 제목의 앞 1~8자를 접두사로 써서 상위 10건을 찾습니다.
+ */
+@Tag("benchmark")
+public class TitleTrieBenchmark {
+
+    private static final int[] TITLES = { 100_000, 1_000_000 };
+    private static final int QUERIES = 100_000;
+    private static final int RENAMES = 50_000;
+    private static final int HANGUL_SYLLABLES = 400;
+
+    @Test
+    public void measureMemoryAndSuggestLatency() {
+        for (int titles : TITLES) {
+            measure(titles);
+        }
+    }
+
+    private void measure(int count) {
+        Random random = new Random(5);
+        String[] vocabulary = new String[5_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = i % 2 == 0 ? hangulWord(random) : "Item" + Integer.toString(i, 36);
+        }
+        String[] titles = new String[count];
+        for (int i = 0; i < count; i++) {
+            titles[i] = title(random, vocabulary, i);
+        }
+
+        long heapBefore = usedHeap();
+        TitleTrie trie = new TitleTrie();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            trie.put(Slugs.of(titles[i]), i, titles[i]);
+        }
+        long buildNanos = System.nanoTime() - start;
+        long trieBytes = usedHeap() - heapBefore;
+
+        start = System.nanoTime();
+        for (int i = 0; i < RENAMES; i++) {
+            int id = random.nextInt(count);
+            String renamed = titles[id] + " (개정)";
+            trie.remove(Slugs.of(titles[id]), id);
+            trie.put(Slugs.of(renamed), id, renamed);
+            titles[id] = renamed;
+        }
+        long renameNanos = System.nanoTime() - start;
+
+        long[] latencies = new long[QUERIES];
+        long returned = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            String source = titles[random.nextInt(count)];
+            String prefix = Slugs.prefix(source.substring(0, Math.min(source.length(), 1 + random.nextInt(8))));
+            long queryStart = System.nanoTime();
+            returned += trie.suggest(prefix, 10).size();
+            latencies[i] = System.nanoTime() - queryStart;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("titles=%,d nodes=%,d heap=%.1fMB (%.0f bytes/title)%n",
+                trie.size(), trie.nodeCount(), trieBytes / 1e6, (double) trieBytes / count);
+        System.out.printf("build: %,.0f titles/s  rename: %,.0f renames/s%n",
+                count / (buildNanos / 1e9), RENAMES / (renameNanos / 1e9));
+        System.out.printf("suggest (top 10): p50=%.1fus p99=%.1fus max=%.1fus avgResults=%.1f%n",
+                latencies[QUERIES / 2] / 1_000.0, latencies[(int) (QUERIES * 0.99)] / 1_000.0,
+                latencies[QUERIES - 1] / 1_000.0, (double) returned / QUERIES);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String hangulWord(Random random) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2 + random.nextInt(2); i++) {
+            builder.append((char) (0xAC00 + random.nextInt(HANGUL_SYLLABLES)));
+        }
+        return builder.toString();
+    }
+
+    private static String title(Random random, String[] vocabulary, int sequence) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2 + random.nextInt(3); i++) {
+            builder.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+        }
+        return builder.append(sequence).toString();
+    }
+}
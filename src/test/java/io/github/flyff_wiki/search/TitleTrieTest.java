@@ -0,0 +1,92 @@
+package io.github.flyff_wiki.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.flyff_wiki.dto.TitleSuggestion;
+import io.github.flyff_wiki.support.Slugs;
+
+public class TitleTrieTest {
+
+    @Test
+    public void testSuggestReturnsPrefixMatchesInSlugOrder() {
+        // 테스트 목적: 정규화한 접두사로 시작하는 제목만, 슬러그 사전 순으로 limit개까지 반환하는지 검증합니다.
+        // Given: 앞부분이 겹치는 제목들을 등록합니다 (label 분할이 일어남).
+        TitleTrie trie = new TitleTrie();
+        for (String title : List.of("Flyff Wiki", "Flyff", "Flyff Universe", "Flarine", "Ｆｌｙｆｆ Guide")) {
+            trie.put(Slugs.of(title), title.length(), title);
+        }
+
+        // When & Then: 대소문자/전각/공백 차이는 무시되고, 끝 공백은 단어 경계로 취급됩니다.
+        assertThat(trie.suggest(Slugs.prefix("FLY"), 10)).extracting(TitleSuggestion::slug)
+                .containsExactly("flyff", "flyff_guide", "flyff_universe", "flyff_wiki");
+        assertThat(trie.suggest(Slugs.prefix("flyff "), 2)).extracting(TitleSuggestion::title)
+                .containsExactly("Ｆｌｙｆｆ Guide", "Flyff Universe");
+        assertThat(trie.suggest(Slugs.prefix("fla"), 10)).extracting(TitleSuggestion::id).containsExactly(7L);
+        assertThat(trie.suggest(Slugs.prefix("flyx"), 10)).isEmpty();
+        assertThat(trie.suggest(Slugs.prefix("  "), 10)).isEmpty();
+    }
+
+    @Test
+    public void testRemoveOnlyDeletesEntryOfSameDocumentAndMergesNodes() {
+        // 테스트 목적: 삭제가 같은 문서의 항목만 지우고, 지운 뒤 노드가 다시 합쳐져 트라이가 압축 상태를 유지하는지 검증합니다.
+        TitleTrie trie = new TitleTrie();
+        trie.put("flyff", 1L, "Flyff");
+        trie.put("flyff_wiki", 2L, "Flyff Wiki");
+        int nodes = trie.nodeCount();
+        trie.put("flyff_world", 3L, "Flyff World");
+
+        // When: 다른 문서 ID로는 지워지지 않고, 같은 ID로만 지워집니다.
+        assertThat(trie.remove("flyff_world", 2L)).isFalse();
+        assertThat(trie.remove("flyff_world", 3L)).isTrue();
+
+        // Then: 노드 수가 추가 전으로 돌아오고, 나머지 항목은 그대로 찾아집니다.
+        assertThat(trie.nodeCount()).isEqualTo(nodes);
+        assertThat(trie.suggest("flyff", 10)).extracting(TitleSuggestion::id).containsExactly(1L, 2L);
+        assertThat(trie.remove("flyff", 1L)).isTrue();
+        assertThat(trie.remove("flyff_wiki", 2L)).isTrue();
+        assertThat(trie.size()).isZero();
+        assertThat(trie.nodeCount()).isZero();
+    }
+
+    @Test
+    public void testRandomOperationsMatchSortedMap() {
+        // 테스트 목적: 무작위 추가/삭제 후의 자동 완성 결과가 정렬된 맵에서 접두사로 고른 결과와 같은지 검증합니다.
+        Random random = new Random(11);
+        TitleTrie trie = new TitleTrie();
+        TreeMap<String, Long> expected = new TreeMap<>();
+        String alphabet = "ab_가";
+        for (int operation = 0; operation < 20_000; operation++) {
+            StringBuilder slug = new StringBuilder();
+            for (int i = 1 + random.nextInt(6); i > 0; i--) {
+                slug.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String key = slug.toString();
+            long id = random.nextInt(20);
+            if (random.nextInt(3) > 0) {
+                trie.put(key, id, key);
+                expected.put(key, id);
+            } else if (trie.remove(key, id)) {
+                expected.remove(key);
+            }
+
+            String prefix = key.substring(0, 1 + random.nextInt(key.length()));
+            List<String> matches = new ArrayList<>();
+            for (String candidate : expected.tailMap(prefix).keySet()) {
+                if (!candidate.startsWith(prefix) || matches.size() == 5) {
+                    break;
+                }
+                matches.add(candidate);
+            }
+            assertThat(trie.suggest(prefix, 5)).extracting(TitleSuggestion::slug).isEqualTo(matches);
+        }
+        assertThat(trie.size()).isEqualTo(expected.size());
+        assertThat(trie.nodeCount()).isLessThanOrEqualTo(2 * expected.size());
+    }
+}
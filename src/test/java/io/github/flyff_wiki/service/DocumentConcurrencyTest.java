@@ -0,0 +1,99 @@
+package io.github.flyff_wiki.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.github.flyff_wiki.domain.ContentFormat;
+import io.github.flyff_wiki.domain.Document;
+import io.github.flyff_wiki.dto.DocumentView;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class DocumentConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int EDITS_PER_THREAD = 10;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Test
+    public void concurrentEditorsNeverLoseAnEditAndHistoryStaysLinear() throws Exception {
+        // 테스트 목적: 여러 편집자가 같은 문서를 동시에 수정해도 편집이 유실되지 않고 히스토리가 한 줄로 쌓이는지 검증합니다.
+        // 기대 동작 흐름: 조회(version) -> 한 줄 추가 -> If-Match 버전으로 수정 -> 충돌이면 다시 조회 후 재시도
+        // Given: 빈 줄 하나로 시작하는 문서
+        Document document = new Document();
+        document.setTitle("Concurrency Test " + System.nanoTime());
+        document.setContent("start\n");
+        document.setContentFormat(ContentFormat.MARKDOWN);
+        Long id = documentService.createDocument(document).getId();
+
+        // When: THREADS개 스레드가 각자 EDITS_PER_THREAD번 성공할 때까지 수정합니다.
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> conflicts = new ArrayList<>();
+        int totalConflicts = 0;
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                conflicts.add(executor.submit(() -> {
+                    start.await();
+                    int retries = 0;
+                    for (int edit = 0; edit < EDITS_PER_THREAD; edit++) {
+                        while (true) {
+                            DocumentView current = documentService.getDocumentView(id);
+                            Document update = new Document();
+                            update.setTitle(current.title());
+                            update.setContent(current.content() + "edit " + thread + "-" + edit + "\n");
+                            update.setContentFormat(current.contentFormat());
+                            try {
+                                documentService.updateDocument(id, update, current.version());
+                                break;
+                            } catch (DocumentConflictException e) {
+                                retries++;
+                            }
+                        }
+                    }
+                    return retries;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : conflicts) {
+                totalConflicts += future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then: 모든 편집이 최종 본문에 남아 있고, 버전/리비전 수가 성공한 수정 수와 같습니다 (충돌한 시도는 남지 않음).
+        int edits = THREADS * EDITS_PER_THREAD;
+        assertThat(totalConflicts).isGreaterThanOrEqualTo(0);
+        Document result = documentService.getDocument(id);
+        assertThat(result.getVersion()).isEqualTo((long) edits);
+        assertThat(result.getRevisionCount()).isEqualTo(edits);
+        for (int t = 0; t < THREADS; t++) {
+            for (int edit = 0; edit < EDITS_PER_THREAD; edit++) {
+                assertThat(result.getContent()).contains("edit " + t + "-" + edit + "\n");
+            }
+        }
+        // - 각 리비전은 직전 리비전에 정확히 한 줄을 더한 본문이어야 합니다 (분기 없는 선형 히스토리).
+        String previous = documentService.getRevision(id, 0).content();
+        assertThat(previous).isEqualTo("start\n");
+        for (int revision = 1; revision < edits; revision++) {
+            String content = documentService.getRevision(id, revision).content();
+            assertThat(content).startsWith(previous);
+            assertThat(content.substring(previous.length())).matches("edit \\d+-\\d+\n");
+            previous = content;
+        }
+        assertThat(result.getContent()).startsWith(previous);
+    }
+}
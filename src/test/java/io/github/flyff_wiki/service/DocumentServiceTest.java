@@ -1,22 +1,49 @@
 package io.github.flyff_wiki.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import io.github.flyff_wiki.cache.DocumentViewCache;
+import io.github.flyff_wiki.datasource.ReplicaLagTracker;
 import io.github.flyff_wiki.domain.ContentFormat;
 import io.github.flyff_wiki.domain.Document;
 import io.github.flyff_wiki.domain.DocumentHistory;
+import io.github.flyff_wiki.dto.HistoryEntry;
+import io.github.flyff_wiki.dto.HistoryPage;
+import io.github.flyff_wiki.event.DocumentChangedEvent;
+import io.github.flyff_wiki.metrics.WikiMetrics;
+import io.github.flyff_wiki.repository.DocumentHistoryRepository;
 import io.github.flyff_wiki.repository.DocumentRepository;
+import io.github.flyff_wiki.revision.HistoryWriteBehind;
+import io.github.flyff_wiki.revision.RevisionStore;
+import io.github.flyff_wiki.support.Slugs;
 
 @ExtendWith(MockitoExtension.class)
 public class DocumentServiceTest {
@@ -24,6 +51,27 @@ public class DocumentServiceTest {
     @Mock
     private DocumentRepository documentRepository;
 
+    @Mock
+    private DocumentHistoryRepository documentHistoryRepository;
+
+    @Mock
+    private RevisionStore revisionStore;
+
+    @Mock
+    private HistoryWriteBehind historyWriteBehind;
+
+    @Mock
+    private DocumentViewCache documentViewCache;
+
+    @Mock
+    private WikiMetrics wikiMetrics;
+
+    @Spy
+    private ReplicaLagTracker replicaLagTracker = new ReplicaLagTracker(false, Duration.ofSeconds(2));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DocumentService documentService;
 
@@ -113,6 +161,94 @@ public class DocumentServiceTest {
         DocumentHistory history = result.getLatestHistory().get(0);
         assertThat(history.getContent()).isEqualTo("Old Content");
         assertThat(history.getDocument()).isEqualTo(result);
+        verify(revisionStore).compact(existing, history);
+        // - 캐시 무효화 등 후속 처리를 위해 수정 이벤트가 발행되어야 합니다.
+        verify(eventPublisher).publishEvent(any(DocumentChangedEvent.class));
+    }
+
+    @Test
+    public void testUpdateDocumentHandsHistoryToWriteBehind() {
+        // 테스트 목적: 쓰기 지연이 켜져 있으면 히스토리를 문서 컬렉션에 붙이지 않고, flush 이후 쓰기 지연 저장소에 넘기는지 검증합니다.
+        // Given: 쓰기 지연이 켜진 상태의 기존 문서
+        Document existing = new Document();
+        existing.setId(1L);
+        existing.setTitle("Title");
+        existing.setContent("Old Content");
+
+        Document updated = new Document();
+        updated.setTitle("Title");
+        updated.setContent("New Content");
+
+        when(historyWriteBehind.isEnabled()).thenReturn(true);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When: 문서를 수정합니다.
+        Document result = documentService.updateDocument(1L, updated);
+
+        // Then: 히스토리는 엔티티 컬렉션이 아니라 버전 조건 UPDATE(flush) 뒤에 submit으로 전달됩니다.
+        assertThat(result.getContent()).isEqualTo("New Content");
+        assertThat(result.getLatestHistory()).isEmpty();
+        InOrder order = inOrder(documentRepository, historyWriteBehind);
+        order.verify(documentRepository).flush();
+        ArgumentCaptor<DocumentHistory> history = ArgumentCaptor.forClass(DocumentHistory.class);
+        order.verify(historyWriteBehind).submit(eq(1L), history.capture());
+        assertThat(history.getValue().getContent()).isEqualTo("Old Content");
+    }
+
+    @Test
+    public void testUpdateDocumentRejectsStaleVersion() {
+        // 테스트 목적: If-Match로 받은 버전이 현재 버전과 다르면 아무것도 바꾸지 않고 충돌을 알리는지 검증합니다.
+        // Given: 현재 버전이 5인 문서와 버전 4를 기준으로 편집한 요청
+        Document existing = new Document();
+        existing.setId(1L);
+        existing.setTitle("Title");
+        existing.setContent("Current Content");
+        existing.setVersion(5L);
+
+        Document updated = new Document();
+        updated.setTitle("Title");
+        updated.setContent("Edited From Version 4");
+
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When & Then: 충돌 예외가 나고, 히스토리/저장/이벤트는 없어야 합니다.
+        assertThatThrownBy(() -> documentService.updateDocument(1L, updated, 4L))
+                .isInstanceOf(DocumentConflictException.class);
+        assertThat(existing.getContent()).isEqualTo("Current Content");
+        assertThat(existing.getLatestHistory()).isEmpty();
+        verify(documentRepository, never()).save(any(Document.class));
+        verify(eventPublisher, never()).publishEvent(any(DocumentChangedEvent.class));
+    }
+
+    @Test
+    public void testUpdateDocumentMapsIntegrityViolationsByConstraint() {
+        // 테스트 목적: flush의 무결성 위반 중 리비전 인덱스만 충돌, 슬러그 인덱스는 제목 중복으로 바꾸고 나머지는 그대로 던지는지 검증합니다.
+        // When & Then: 위반한 제약 이름에 따라 다른 예외가 나옵니다.
+        assertThatThrownBy(() -> updateViolating(1L, "PUBLIC.UX_DOCUMENT_HISTORY_REVISION_INDEX_B"))
+                .isInstanceOf(DocumentConflictException.class);
+        assertThatThrownBy(() -> updateViolating(2L, "PUBLIC.UX_DOCUMENTS_SLUG_INDEX_3"))
+                .isInstanceOf(DuplicateTitleException.class);
+        assertThatThrownBy(() -> updateViolating(3L, "PUBLIC.FK_DOCUMENTS_AUTHOR"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(eventPublisher, never()).publishEvent(any(DocumentChangedEvent.class));
+    }
+
+    private Document updateViolating(Long id, String constraintName) {
+        // Given: flush에서 constraintName 제약 위반이 나는 문서
+        Document existing = new Document();
+        existing.setId(id);
+        existing.setTitle("Title");
+        existing.setSlug(Slugs.of("Title"));
+        existing.setContent("Current Content");
+        Document updated = new Document();
+        updated.setTitle("Title");
+        updated.setContent("New Content");
+        when(documentRepository.findById(id)).thenReturn(Optional.of(existing));
+        doThrow(new DataIntegrityViolationException("could not execute",
+                new ConstraintViolationException("violation", new SQLException("violation"), constraintName)))
+                .when(documentRepository).save(existing);
+        return documentService.updateDocument(id, updated, null);
     }
 
     @Test
@@ -149,4 +285,85 @@ public class DocumentServiceTest {
         verify(documentRepository).findById(missingId);
         verify(documentRepository).save(request);
     }
+
+    @Test
+    public void testGetHistoryReturnsCursorOfLastEntryWhenPageIsFull() {
+        // 테스트 목적: 페이지가 가득 차면 마지막 항목으로 다음 커서를 만들고, limit이 상한으로 보정되는지 검증합니다.
+        // 기대 동작 흐름: limit 보정 -> 커서 파싱 -> findEntriesAfter 호출 -> 마지막 항목 커서 생성
+        // Given: 상한을 넘는 limit과 커서를 준비하고, 상한만큼 꽉 찬 결과를 반환하도록 스텁합니다.
+        LocalDateTime cursorTime = LocalDateTime.of(2026, 1, 2, 0, 0);
+        LocalDateTime lastTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<HistoryEntry> entries = new ArrayList<>();
+        for (int i = 0; i < DocumentService.MAX_HISTORY_PAGE_SIZE - 1; i++) {
+            entries.add(new HistoryEntry(500L - i, 300 - i, cursorTime.minusMinutes(i + 1), "Document updated", null));
+        }
+        entries.add(new HistoryEntry(7L, 1, lastTime, "Document updated", null));
+
+        when(historyWriteBehind.awaitPersisted(any(), any())).thenReturn(true);
+        when(documentHistoryRepository.findEntriesAfter(1L, cursorTime, 9L,
+                PageRequest.of(0, DocumentService.MAX_HISTORY_PAGE_SIZE))).thenReturn(entries);
+
+        // When: 상한보다 큰 limit으로 히스토리를 조회합니다.
+        HistoryPage page = documentService.getHistory(1L, "2026-01-02T00:00_9", 1_000);
+
+        // Then: 조회 결과와 마지막 항목 기준 다음 커서를 확인합니다.
+        assertThat(page.entries()).hasSize(DocumentService.MAX_HISTORY_PAGE_SIZE);
+        assertThat(page.nextCursor()).isEqualTo("2026-01-01T12:00_7");
+    }
+
+    @Test
+    public void testTitleAlreadyUsedByAnotherDocumentIsRejected() {
+        // 테스트 목적: 대소문자/공백만 다른 제목도 같은 슬러그로 보고, 생성과 제목 변경을 모두 거절하는지 검증합니다.
+        // 기대 동작 흐름: 슬러그 계산 -> 다른 문서가 쓰는지 확인 -> DuplicateTitleException (저장/이벤트 없음)
+        // Given: "flyff_wiki" 슬러그를 다른 문서가 이미 쓰고 있습니다.
+        when(documentRepository.existsBySlug("flyff_wiki")).thenReturn(true);
+        when(documentRepository.existsBySlugAndIdNot("flyff_wiki", 1L)).thenReturn(true);
+        Document existing = new Document();
+        existing.setId(1L);
+        existing.setTitle("Old Title");
+        existing.setSlug("old_title");
+        existing.setContent("Old Content");
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        Document created = new Document();
+        created.setTitle("  FLYFF   Wiki ");
+        created.setContent("본문");
+        Document renamed = new Document();
+        renamed.setTitle("Flyff wiki");
+        renamed.setContent("New Content");
+
+        // When & Then
+        assertThatThrownBy(() -> documentService.createDocument(created))
+                .isInstanceOf(DuplicateTitleException.class);
+        assertThatThrownBy(() -> documentService.updateDocument(1L, renamed))
+                .isInstanceOf(DuplicateTitleException.class);
+        verify(documentRepository, never()).save(any(Document.class));
+        verify(eventPublisher, never()).publishEvent(any(DocumentChangedEvent.class));
+        assertThat(existing.getTitle()).isEqualTo("Old Title");
+    }
+
+    @Test
+    public void testRenamePublishesPreviousSlug() {
+        // 테스트 목적: 제목을 바꾸면 새 슬러그가 저장되고, 이벤트에 이전 슬러그가 담기는지 검증합니다 (자동 완성 갱신용).
+        Document existing = new Document();
+        existing.setId(1L);
+        existing.setTitle("Old Title");
+        existing.setSlug("old_title");
+        existing.setContent("Old Content");
+        Document renamed = new Document();
+        renamed.setTitle("New Title");
+        renamed.setContent("New Content");
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Document result = documentService.updateDocument(1L, renamed);
+
+        // Then
+        assertThat(result.getSlug()).isEqualTo("new_title");
+        ArgumentCaptor<DocumentChangedEvent> event = ArgumentCaptor.forClass(DocumentChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().previousSlug()).isEqualTo("old_title");
+        assertThat(event.getValue().slugChanged()).isTrue();
+    }
 }